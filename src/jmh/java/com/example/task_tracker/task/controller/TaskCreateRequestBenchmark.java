@@ -0,0 +1,77 @@
+package com.example.task_tracker.task.controller;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import com.example.task_tracker.task.dto.TaskCreateRequest;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Measures reading a {@code POST /api/tasks} request body: JSON deserialization of a
+ * {@link TaskCreateRequest} followed by bean validation, for a valid and an invalid payload.
+ * Invalid payloads additionally pay for message interpolation.
+ */
+@State(Scope.Benchmark)
+public class TaskCreateRequestBenchmark {
+
+    private static final byte[] VALID = """
+        {"title":"Fix login bug","description":"Users are logged out after a minute",
+         "status":"OPEN","priority":"HIGH","dueDate":"2025-06-30","projectId":7}
+        """.getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] INVALID = """
+        {"title":" ","description":"Users are logged out after a minute",
+         "status":"OPEN","priority":"HIGH","dueDate":"2025-06-30","projectId":7}
+        """.getBytes(StandardCharsets.UTF_8);
+
+    private ObjectReader reader;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    /**
+     * Creates the object mapper and the validator.
+     */
+    @Setup
+    public void setUp() {
+        reader = Jackson2ObjectMapperBuilder.json().build().readerFor(TaskCreateRequest.class);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    /**
+     * Closes the validator factory.
+     */
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    /**
+     * @return the constraint violations of the valid payload (none)
+     */
+    @Benchmark
+    public Set<ConstraintViolation<TaskCreateRequest>> readValidRequest() throws IOException {
+        return validator.validate(reader.<TaskCreateRequest> readValue(VALID));
+    }
+
+    /**
+     * @return the constraint violations of the invalid payload
+     */
+    @Benchmark
+    public Set<ConstraintViolation<TaskCreateRequest>> readInvalidRequest() throws IOException {
+        return validator.validate(reader.<TaskCreateRequest> readValue(INVALID));
+    }
+
+}
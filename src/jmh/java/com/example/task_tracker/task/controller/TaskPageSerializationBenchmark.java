@@ -0,0 +1,99 @@
+package com.example.task_tracker.task.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import com.example.task_tracker.task.dto.TaskResponse;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Measures the serialization of a {@code Page<TaskResponse>} as returned by
+ * {@code GET /api/tasks}, for page sizes of 10, 100 and 1000 tasks, as JSON and as Smile and
+ * with and without gzip.
+ * <p>
+ * The object mappers are configured like the ones Spring Boot creates for the application.
+ * The payload sizes of each combination are printed once per trial.
+ */
+@State(Scope.Benchmark)
+public class TaskPageSerializationBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int size;
+
+    @Param({ "json", "smile" })
+    private String format;
+
+    private ObjectWriter writer;
+    private Page<TaskResponse> page;
+
+    /**
+     * Creates the object mapper and the page to serialize.
+     *
+     * @throws IOException if the page cannot be serialized
+     */
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = format.equals("smile")
+            ? Jackson2ObjectMapperBuilder.smile()
+            : Jackson2ObjectMapperBuilder.json();
+        writer = builder
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build()
+            .writer();
+
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 9, 30, 15, 123_456_000);
+        List<TaskResponse> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(new TaskResponse(
+                (long) i, "Task " + i, "Description of task " + i, TaskStatus.IN_PROGRESS,
+                TaskPriority.HIGH, LocalDate.of(2025, 6, 30), now, now, 7L, "Website"));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, size), 10_000);
+
+        System.out.printf(
+            "%n%s page of %d tasks: %d bytes, %d bytes gzipped%n", format, size,
+            serializePage().length, serializeAndGzipPage().length);
+    }
+
+    /**
+     * @return the serialized page
+     */
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    /**
+     * Serializes the page and compresses it like the server does with
+     * {@code server.compression.enabled}.
+     *
+     * @return the compressed page
+     */
+    @Benchmark
+    public byte[] serializeAndGzipPage() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            writer.writeValue(gzip, page);
+        }
+        return bytes.toByteArray();
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.example.task_tracker.task.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.task.dto.TaskResponse;
+import com.example.task_tracker.task.model.Task;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link TaskServiceImpl#mapToResponse(Task)}, the entity-to-DTO mapping applied to
+ * every task a listing returns.
+ */
+@State(Scope.Benchmark)
+public class TaskMappingBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int size;
+
+    private List<Task> tasks;
+
+    /**
+     * Creates the tasks to map, spread over a few projects.
+     */
+    @Setup
+    public void setUp() {
+        List<Project> projects = List.of(
+            new Project("Website", "Company website", "#3366ff"),
+            new Project("Mobile app", null, null));
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Task task = new Task(
+                "Task " + i, "Description of task " + i, TaskStatus.OPEN, TaskPriority.MEDIUM,
+                LocalDate.of(2025, 6, 30));
+            task.setProject(projects.get(i % projects.size()));
+            task.prePersist();
+            tasks.add(task);
+        }
+    }
+
+    /**
+     * @return the mapped page content
+     */
+    @Benchmark
+    public List<TaskResponse> mapPage() {
+        return tasks.stream().map(TaskServiceImpl::mapToResponse).toList();
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.example.task_tracker.task.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.task_tracker.TaskTrackerApplication;
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.task.dto.TaskCreateRequest;
+import com.example.task_tracker.task.dto.TaskCursorPage;
+import com.example.task_tracker.task.dto.TaskFilter;
+import com.example.task_tracker.task.dto.TaskResponse;
+import com.example.task_tracker.task.dto.TaskSlice;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Measures the task listing queries of {@link TaskService}, including mapping, against an
+ * embedded H2 database seeded with 10,000 tasks.
+ * <p>
+ * Absolute numbers differ from PostgreSQL; the benchmark is meant to compare the query
+ * shapes with each other and between releases.
+ */
+@State(Scope.Benchmark)
+public class TaskQueryBenchmark {
+
+    private static final int TASKS = 10_000;
+    private static final int PROJECTS = 20;
+    private static final int BATCH_SIZE = 5000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskFilter openTasks;
+    private Pageable firstPage;
+    private Pageable deepPage;
+
+    /**
+     * Starts the application without a web server and seeds the database.
+     */
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskTrackerApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa", "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=none", "spring.jpa.show-sql=false",
+                "tasktracker.demo-data.enabled=false", "tasktracker.stats.rebuild-enabled=false",
+                "logging.level.root=WARN")
+            .run();
+        taskService = context.getBean(TaskService.class);
+        seed(context.getBean(ProjectRepository.class));
+
+        openTasks = new TaskFilter();
+        openTasks.setStatus(List.of(TaskStatus.OPEN));
+        firstPage = PageRequest.of(0, PAGE_SIZE, NEWEST_FIRST);
+        deepPage = PageRequest.of(200, PAGE_SIZE, NEWEST_FIRST);
+    }
+
+    /**
+     * Stops the application.
+     */
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * @return the first page of open tasks, with the total count
+     */
+    @Benchmark
+    public Page<TaskResponse> getTasksFirstPage() {
+        return taskService.getTasks(firstPage, openTasks);
+    }
+
+    /**
+     * @return a page far into the list of all tasks, with the total count
+     */
+    @Benchmark
+    public Page<TaskResponse> getTasksDeepPage() {
+        return taskService.getTasks(deepPage, null);
+    }
+
+    /**
+     * @return the first slice of open tasks, without a count
+     */
+    @Benchmark
+    public TaskSlice getTaskSlice() {
+        return taskService.getTaskSlice(firstPage, openTasks, false);
+    }
+
+    /**
+     * @return the first slice of open tasks using keyset pagination
+     */
+    @Benchmark
+    public TaskCursorPage getTasksByCursor() {
+        return taskService.getTasksByCursor(null, null, PAGE_SIZE, NEWEST_FIRST, openTasks);
+    }
+
+    /**
+     * @return the first page of tasks matching a search
+     */
+    @Benchmark
+    public Page<TaskResponse> searchTasks() {
+        return taskService.searchTasks("task 42", firstPage, null);
+    }
+
+    private void seed(ProjectRepository projectRepository) {
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            projects.add(new Project("Project " + i, null, null));
+        }
+        projectRepository.saveAll(projects);
+
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        List<TaskCreateRequest> requests = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < TASKS; i++) {
+            TaskCreateRequest request = new TaskCreateRequest();
+            request.setTitle("Task " + i);
+            request.setDescription("Seeded task number " + i);
+            request.setStatus(statuses[i % statuses.length]);
+            request.setPriority(priorities[i % priorities.length]);
+            request.setProjectId(projects.get(i % PROJECTS).getId());
+            requests.add(request);
+            if (requests.size() == BATCH_SIZE) {
+                taskService.createTasks(requests);
+                requests.clear();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.example.task_tracker.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects request latencies and failures per operation and reports throughput and latency
+ * percentiles.
+ * <p>
+ * Latencies are measured from the time a request was scheduled to be sent, not from when it
+ * was actually sent, so a stalled server shows up in the percentiles instead of silently
+ * lowering the request rate (coordinated omission).
+ */
+public class LatencyRecorder {
+
+    private record Stats(Operation operation, long requests, long errors, long dropped,
+        double throughput, double p50, double p99, double p999, double max)
+    {
+    }
+
+    private final Map<Operation, Queue<Long>> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> dropped = new EnumMap<>(Operation.class);
+
+    /**
+     * Creates a new, empty {@code LatencyRecorder}.
+     */
+    public LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentLinkedQueue<>());
+            errors.put(operation, new LongAdder());
+            dropped.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * Records a completed request.
+     *
+     * @param operation the operation performed
+     * @param latencyNanos the time from the scheduled start to the response
+     * @param success whether the response had the expected status
+     */
+    public void record(Operation operation, long latencyNanos, boolean success) {
+        latencies.get(operation).add(latencyNanos);
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    /**
+     * Records a request that was not sent because too many requests were outstanding.
+     *
+     * @param operation the operation that was due
+     */
+    public void recordDropped(Operation operation) {
+        dropped.get(operation).increment();
+    }
+
+    /**
+     * Prints a table of the results and writes them as CSV.
+     *
+     * @param elapsed the measured period
+     * @param out the stream to print the table to
+     * @param csv the CSV file to write; parent directories are created
+     * @throws IOException if the CSV file cannot be written
+     */
+    public void report(Duration elapsed, PrintStream out, Path csv) throws IOException {
+        List<Stats> stats = stats(elapsed);
+
+        out.printf(
+            "%-24s %9s %7s %7s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errors",
+            "dropped", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Stats s : stats) {
+            out.printf(
+                "%-24s %9d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", s.operation().getEndpoint(),
+                s.requests(), s.errors(), s.dropped(), s.throughput(), s.p50(), s.p99(), s.p999(),
+                s.max());
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint,requests,errors,dropped,throughput_rps,p50_ms,p99_ms,p999_ms,max_ms");
+        for (Stats s : stats) {
+            lines.add(String.format(
+                Locale.ROOT, "%s,%d,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f",
+                s.operation().getEndpoint(), s.requests(), s.errors(), s.dropped(), s.throughput(),
+                s.p50(), s.p99(), s.p999(), s.max()));
+        }
+        if (csv.getParent() != null) {
+            Files.createDirectories(csv.getParent());
+        }
+        Files.write(csv, lines);
+    }
+
+    private List<Stats> stats(Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        List<Stats> stats = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            long[] sorted = latencies.get(operation).stream().mapToLong(Long::longValue).sorted()
+                .toArray();
+            long dropCount = dropped.get(operation).sum();
+            if (sorted.length == 0 && dropCount == 0) {
+                continue;
+            }
+            stats.add(new Stats(
+                operation, sorted.length, errors.get(operation).sum(), dropCount,
+                sorted.length / seconds, percentile(sorted, 0.50), percentile(sorted, 0.99),
+                percentile(sorted, 0.999), percentile(sorted, 1.0)));
+        }
+        return stats;
+    }
+
+    /**
+     * @param sorted latencies in ascending order
+     * @param quantile the quantile between 0 and 1
+     * @return the latency at the quantile in milliseconds, using the nearest-rank method
+     */
+    static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+}
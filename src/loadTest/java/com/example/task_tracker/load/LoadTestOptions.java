@@ -0,0 +1,95 @@
+package com.example.task_tracker.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Settings of a load test run, parsed from {@code --name=value} arguments.
+ *
+ * @param projects the number of projects to seed
+ * @param tasks the number of tasks to seed
+ * @param rate the target number of requests per second
+ * @param warmup how long to send requests before measuring
+ * @param duration how long to measure
+ * @param maxInFlight the maximum number of outstanding requests; further requests are dropped
+ * @param mix the relative weight of each operation
+ * @param jdbcUrl the database to run against, or {@code null} for an in-memory H2 database
+ * @param report the CSV file the results are written to
+ */
+public record LoadTestOptions(int projects, int tasks, int rate, Duration warmup,
+    Duration duration, int maxInFlight, Map<Operation, Integer> mix, String jdbcUrl,
+    String report)
+{
+
+    /** Default mix: mostly reads, as seen from the web UI. */
+    static final String DEFAULT_MIX = "list-tasks=40,get-task=30,create-task=10,update-task=10,"
+        + "delete-task=2,list-projects=5,get-project=3";
+
+    /**
+     * Parses the given program arguments, using defaults for missing ones.
+     *
+     * @param args arguments such as {@code --rate=500} or {@code --duration=2m}
+     * @return the parsed options
+     * @throws IllegalArgumentException if an argument is unknown or malformed
+     */
+    public static LoadTestOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+            Integer.parseInt(values.getOrDefault("projects", "20")),
+            Integer.parseInt(values.getOrDefault("tasks", "10000")),
+            Integer.parseInt(values.getOrDefault("rate", "200")),
+            DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s")),
+            DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+            Integer.parseInt(values.getOrDefault("max-in-flight", "1000")),
+            parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+            values.get("jdbc-url"),
+            values.getOrDefault("report", "build/results/loadtest/report.csv"));
+        values.keySet().removeAll(Set.of(
+            "projects", "tasks", "rate", "warmup", "duration", "max-in-flight", "mix", "jdbc-url",
+            "report"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        if (options.projects < 1 || options.rate < 1 || options.maxInFlight < 1) {
+            throw new IllegalArgumentException("projects, rate and max-in-flight must be positive");
+        }
+        return options;
+    }
+
+    /**
+     * @param mix comma-separated {@code operation=weight} pairs
+     * @return the weights by operation
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] pair = part.strip().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight but got: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].strip());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + pair[0]);
+            }
+            weights.put(Operation.fromKey(pair[0].strip()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("The mix must contain a positive weight");
+        }
+        return weights;
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.example.task_tracker.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+import com.example.task_tracker.TaskTrackerApplication;
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.task.dto.TaskBatchItemResult;
+import com.example.task_tracker.task.dto.TaskCreateRequest;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import com.example.task_tracker.task.service.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application, seeds it and replays a workload mix at a fixed request rate.
+ * <p>
+ * Runs entirely offline: by default the application uses an in-memory H2 database, the same
+ * stand-in as the tests. Pass {@code --jdbc-url=...} (PostgreSQL credentials from
+ * {@code application.yaml}) to measure against a real database. Requests are sent open-loop,
+ * one virtual thread per request, so the rate does not drop when the server slows down.
+ * <p>
+ * Run with {@code ./gradlew loadTest --args='--rate=500 --duration=2m'}; see
+ * {@link LoadTestOptions} for all options.
+ */
+public final class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private static final int SEED_BATCH_SIZE = 5000;
+
+    private LoadTestRunner() {}
+
+    /**
+     * Runs a load test.
+     *
+     * @param args the options, see {@link LoadTestOptions#parse}
+     * @throws Exception if the application cannot be started or the report not written
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        try (ConfigurableApplicationContext context = start(options)) {
+            List<Long> projectIds = seedProjects(context, options.projects());
+            List<Long> taskIds = seedTasks(context, projectIds, options.tasks());
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+            Workload workload = new Workload(
+                http, "http://localhost:" + port, options.mix(), projectIds, taskIds);
+
+            log.info("Warming up for {}", options.warmup());
+            run(workload, options, options.warmup(), new LatencyRecorder());
+
+            log.info(
+                "Sending {} requests/s for {} with mix {}", options.rate(), options.duration(),
+                options.mix());
+            LatencyRecorder recorder = new LatencyRecorder();
+            Duration elapsed = run(workload, options, options.duration(), recorder);
+            recorder.report(elapsed, System.out, Path.of(options.report()));
+            log.info("Wrote {}", options.report());
+        }
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestOptions options) {
+        List<String> properties = new ArrayList<>(List.of(
+            "server.port=0", "management.server.port=0", "tasktracker.demo-data.enabled=false",
+            "tasktracker.stats.rebuild-enabled=false"));
+        if (options.jdbcUrl() == null) {
+            properties.addAll(List.of(
+                "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa", "spring.datasource.password=",
+                // Flyway creates the schema; Hibernate maps enums differently on H2
+                "spring.jpa.hibernate.ddl-auto=none"));
+        } else {
+            properties.add("spring.datasource.url=" + options.jdbcUrl());
+        }
+        return new SpringApplicationBuilder(TaskTrackerApplication.class)
+            .properties(properties.toArray(String[]::new))
+            .run();
+    }
+
+    private static List<Long> seedProjects(ConfigurableApplicationContext context, int count) {
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            projects.add(new Project("Load test project " + i, null, null));
+        }
+        return context.getBean(ProjectRepository.class).saveAll(projects).stream()
+            .map(Project::getId)
+            .toList();
+    }
+
+    private static List<Long> seedTasks(
+        ConfigurableApplicationContext context, List<Long> projectIds, int count)
+    {
+        TaskService taskService = context.getBean(TaskService.class);
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        List<Long> taskIds = new ArrayList<>(count);
+        List<TaskCreateRequest> requests = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            TaskCreateRequest request = new TaskCreateRequest();
+            request.setTitle("Seeded task " + i);
+            request.setDescription("Seeded by the load generator");
+            request.setStatus(statuses[i % statuses.length]);
+            request.setPriority(priorities[i % priorities.length]);
+            request.setProjectId(projectIds.get(i % projectIds.size()));
+            requests.add(request);
+            if (requests.size() == SEED_BATCH_SIZE || i == count - 1) {
+                taskService.createTasks(requests).results().stream()
+                    .map(TaskBatchItemResult::task)
+                    .forEach(task -> taskIds.add(task.id()));
+                requests.clear();
+            }
+        }
+        log.info("Seeded {} projects and {} tasks", projectIds.size(), taskIds.size());
+        return taskIds;
+    }
+
+    /**
+     * Sends requests at the target rate for the given period and waits for all of them.
+     *
+     * @return the time from the first request until the last response
+     */
+    private static Duration run(
+        Workload workload, LoadTestOptions options, Duration period, LatencyRecorder recorder)
+    {
+        long intervalNanos = 1_000_000_000L / options.rate();
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        long start = System.nanoTime();
+        long end = start + period.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long scheduled = start; scheduled < end; scheduled += intervalNanos) {
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Operation operation = workload.next();
+                if (!inFlight.tryAcquire()) {
+                    recorder.recordDropped(operation);
+                    continue;
+                }
+                long intendedStart = scheduled;
+                executor.execute(() -> {
+                    try {
+                        boolean success = execute(workload, operation);
+                        recorder.record(operation, System.nanoTime() - intendedStart, success);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private static boolean execute(Workload workload, Operation operation) {
+        try {
+            return workload.execute(operation);
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.example.task_tracker.load;
+
+/**
+ * The API calls the load generator can issue, each reported as its own endpoint.
+ */
+public enum Operation {
+
+    LIST_TASKS("list-tasks", "GET /api/tasks"),
+    GET_TASK("get-task", "GET /api/tasks/{id}"),
+    CREATE_TASK("create-task", "POST /api/tasks"),
+    UPDATE_TASK("update-task", "PUT /api/tasks/{id}"),
+    DELETE_TASK("delete-task", "DELETE /api/tasks/{id}"),
+    LIST_PROJECTS("list-projects", "GET /api/projects"),
+    GET_PROJECT("get-project", "GET /api/projects/{id}");
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * @return the name used for the operation in the workload mix
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return the HTTP method and path template of the operation
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Returns the operation with the given mix key.
+     *
+     * @param key the key, e.g. {@code list-tasks}
+     * @return the matching operation
+     * @throws IllegalArgumentException if no operation has this key
+     */
+    public static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + key);
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.example.task_tracker.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Issues the API calls of a workload mix against a running application.
+ * <p>
+ * Keeps track of the task IDs that exist, so that lookups, updates and deletes target real
+ * tasks and created tasks become targets themselves. When no task is left, a due update or
+ * delete creates a task instead.
+ */
+public class Workload {
+
+    private static final String[] STATUSES = { "OPEN", "IN_PROGRESS", "DONE" };
+    private static final String[] PRIORITIES = { "LOW", "MEDIUM", "HIGH" };
+    private static final String[] SORTS = { "createdAt,desc", "dueDate,asc", "title,asc" };
+
+    private final HttpClient http;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final List<Long> projectIds;
+    private final Operation[] schedule;
+    private final List<Long> taskIds;
+    private final ReentrantLock taskIdsLock = new ReentrantLock();
+
+    /**
+     * Creates a new {@code Workload}.
+     *
+     * @param http the client used to send requests
+     * @param baseUrl the base URL of the application, e.g. {@code http://localhost:8080}
+     * @param mix the relative weight of each operation
+     * @param projectIds the IDs of the seeded projects
+     * @param taskIds the IDs of the seeded tasks
+     */
+    public Workload(
+        HttpClient http, String baseUrl, Map<Operation, Integer> mix, List<Long> projectIds,
+        List<Long> taskIds)
+    {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.projectIds = List.copyOf(projectIds);
+        this.taskIds = new ArrayList<>(taskIds);
+
+        List<Operation> operations = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+        this.schedule = operations.toArray(Operation[]::new);
+    }
+
+    /**
+     * @return a random operation, drawn according to the weights of the mix
+     */
+    public Operation next() {
+        return schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+    }
+
+    /**
+     * Performs the given operation and waits for the response.
+     *
+     * @param operation the operation to perform
+     * @return {@code true} if the response had the expected status
+     * @throws IOException if the request could not be sent
+     * @throws InterruptedException if interrupted while waiting for the response
+     */
+    public boolean execute(Operation operation) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case LIST_TASKS -> send(get("/api/tasks?" + listQuery(random))) == 200;
+            case GET_TASK -> {
+                Long id = randomTaskId(false);
+                yield id == null ? createTask(random) : send(get("/api/tasks/" + id)) == 200;
+            }
+            case CREATE_TASK -> createTask(random);
+            case UPDATE_TASK -> {
+                Long id = randomTaskId(false);
+                yield id == null ? createTask(random)
+                    : send(request("/api/tasks/" + id).PUT(body(taskJson(random)))) == 200;
+            }
+            case DELETE_TASK -> {
+                Long id = randomTaskId(true);
+                yield id == null ? createTask(random)
+                    : send(request("/api/tasks/" + id).DELETE()) == 204;
+            }
+            case LIST_PROJECTS -> send(get("/api/projects")) == 200;
+            case GET_PROJECT -> send(get("/api/projects/" + randomProjectId(random))) == 200;
+        };
+    }
+
+    private boolean createTask(ThreadLocalRandom random) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(
+            request("/api/tasks").POST(body(taskJson(random))).build(),
+            HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            return false;
+        }
+        long id = objectMapper.readTree(response.body()).get("id").asLong();
+        taskIdsLock.lock();
+        try {
+            taskIds.add(id);
+        } finally {
+            taskIdsLock.unlock();
+        }
+        return true;
+    }
+
+    private String listQuery(ThreadLocalRandom random) {
+        StringBuilder query = new StringBuilder()
+            .append("page=").append(random.nextInt(5))
+            .append("&size=20&sort=").append(SORTS[random.nextInt(SORTS.length)]);
+        if (random.nextBoolean()) {
+            query.append("&status=").append(STATUSES[random.nextInt(STATUSES.length)]);
+        }
+        if (random.nextInt(4) == 0) {
+            query.append("&priority=").append(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+        }
+        if (random.nextInt(4) == 0) {
+            query.append("&projectId=").append(randomProjectId(random));
+        }
+        return query.toString();
+    }
+
+    private String taskJson(ThreadLocalRandom random) {
+        return "{\"title\":\"Load test task " + random.nextInt(1_000_000)
+            + "\",\"description\":\"Created by the load generator\",\"status\":\""
+            + STATUSES[random.nextInt(STATUSES.length)] + "\",\"priority\":\""
+            + PRIORITIES[random.nextInt(PRIORITIES.length)] + "\",\"projectId\":"
+            + randomProjectId(random) + "}";
+    }
+
+    private long randomProjectId(ThreadLocalRandom random) {
+        return projectIds.get(random.nextInt(projectIds.size()));
+    }
+
+    /**
+     * @param remove whether to remove the returned ID, for deletes
+     * @return a random existing task ID, or {@code null} if there is none
+     */
+    private Long randomTaskId(boolean remove) {
+        taskIdsLock.lock();
+        try {
+            if (taskIds.isEmpty()) {
+                return null;
+            }
+            int index = ThreadLocalRandom.current().nextInt(taskIds.size());
+            Long id = taskIds.get(index);
+            if (remove) {
+                // swap with the last element to remove in constant time
+                taskIds.set(index, taskIds.get(taskIds.size() - 1));
+                taskIds.remove(taskIds.size() - 1);
+            }
+            return id;
+        } finally {
+            taskIdsLock.unlock();
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return request(path).GET();
+    }
+
+    private static HttpRequest.BodyPublisher body(String json) {
+        return HttpRequest.BodyPublishers.ofString(json);
+    }
+
+    private int send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return http.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.example.task_tracker.common;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Limits the number of connections that may be borrowed from a data source at the same time.
+ * <p>
+ * With virtual threads, the number of concurrent requests is no longer bounded by a thread
+ * pool, so thousands of threads may ask the connection pool for a connection at once. This
+ * data source lets them wait on a fair {@link Semaphore} instead, which parks virtual threads
+ * without occupying a carrier thread and serves them in arrival order. A caller that does not
+ * get a permit within the acquire timeout fails with a
+ * {@link SQLTransientConnectionException}, just like a pool timeout.
+ * <p>
+ * The permit is returned when the borrowed connection is closed.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConnections;
+    private final long acquireTimeoutNanos;
+
+    /**
+     * Creates a new {@code ConnectionLimitingDataSource}.
+     *
+     * @param targetDataSource the data source to borrow connections from
+     * @param maxConnections the maximum number of connections borrowed at the same time
+     * @param acquireTimeout how long a caller waits for a permit
+     */
+    public ConnectionLimitingDataSource(
+        DataSource targetDataSource, int maxConnections, Duration acquireTimeout)
+    {
+        super(targetDataSource);
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("maxConnections must be at least 1");
+        }
+        this.permits = new Semaphore(maxConnections, true);
+        this.maxConnections = maxConnections;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the number of connections currently borrowed through this data source
+     */
+    public int getActiveConnections() {
+        return maxConnections - permits.availablePermits();
+    }
+
+    /**
+     * @return an estimate of the number of callers waiting for a connection
+     */
+    public int getWaitingCallers() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(
+                    "No connection available: " + maxConnections + " connections in use for "
+                        + Duration.ofNanos(acquireTimeoutNanos).toMillis() + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException(
+                "Interrupted while waiting for a connection", e);
+        }
+    }
+
+    private Connection guard(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            ConnectionLimitingDataSource.class.getClassLoader(),
+            new Class<?>[] { Connection.class }, new PermitReleasingHandler(connection));
+    }
+
+    /**
+     * Delegates all calls to the borrowed connection and returns the permit on the first
+     * {@code close()}.
+     */
+    private final class PermitReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "unwrap", "isWrapperFor" -> {
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return method.getName().equals("unwrap") ? proxy : Boolean.TRUE;
+                    }
+                }
+                default -> {
+                }
+            }
+
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            } finally {
+                if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+
+    }
+
+}
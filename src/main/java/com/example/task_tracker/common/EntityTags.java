@@ -0,0 +1,70 @@
+package com.example.task_tracker.common;
+
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Turns versions built by {@link Versions} into entity tags for JSON and Smile responses.
+ * <p>
+ * A strong tag promises byte-identical representations, but the same version is served as
+ * JSON or Smile, and possibly gzip-compressed. List tags are therefore weak: they identify
+ * the content, and Tomcat only compresses responses whose tag is weak. Tags of single
+ * resources stay strong, since {@code If-Match} requires strong comparison; they include the
+ * representation selected by the {@code Accept} header instead.
+ */
+public final class EntityTags {
+
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    private EntityTags() {}
+
+    /**
+     * Creates a weak entity tag.
+     *
+     * @param version the version of the content
+     * @return the weak tag, e.g. {@code W/"42"}
+     */
+    public static String weak(String version) {
+        return "W/\"" + version + "\"";
+    }
+
+    /**
+     * Creates a strong entity tag for the representation requested by the client. JSON
+     * representations are tagged with the version itself.
+     *
+     * @param version the version of the content
+     * @param request the current request
+     * @return the strong tag, unquoted
+     */
+    public static String strong(String version, WebRequest request) {
+        return prefersSmile(request) ? version + "-smile" : version;
+    }
+
+    private static boolean prefersSmile(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return false;
+        }
+        try {
+            List<MediaType> types = MediaType.parseMediaTypes(accept);
+            return quality(types, SMILE) > quality(types, MediaType.APPLICATION_JSON);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    private static double quality(List<MediaType> types, MediaType target) {
+        double quality = 0;
+        for (MediaType type : types) {
+            if (type.includes(target)) {
+                quality = Math.max(quality, type.getQualityValue());
+            }
+        }
+        return quality;
+    }
+
+}
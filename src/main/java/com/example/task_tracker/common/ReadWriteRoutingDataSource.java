@@ -0,0 +1,114 @@
+package com.example.task_tracker.common;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary database.
+ * <p>
+ * Connections are obtained lazily, on the first statement, so that the transaction manager
+ * has already marked them read-only: read-only transactions, e.g. those of
+ * {@code @Transactional(readOnly = true)} methods, then get a connection of the replica
+ * pool, all other work one of the primary pool. A transaction stays on the connection it
+ * started with, so read-only methods called within a write transaction read from the
+ * primary.
+ * <p>
+ * Replicas lag behind the primary. Code that must see its own writes marks the current
+ * thread with {@link #setReadFromPrimary(boolean)}; read-only transactions then use the
+ * primary as well. Data read from the replica must not be put into caches shared with other
+ * clients (see {@link ReplicaAwareTransactionManager}).
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy {
+
+    private static final ThreadLocal<Boolean> READ_FROM_PRIMARY = new ThreadLocal<>();
+
+    /**
+     * Creates a new {@code ReadWriteRoutingDataSource}.
+     *
+     * @param primary the data source of the primary database
+     * @param replica the data source of the replica, returning read-only connections
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        super(primary);
+        setReadOnlyDataSource(new ReplicaDataSource(primary, replica));
+    }
+
+    /**
+     * Sends the read-only transactions of the current thread to the primary or back to the
+     * replica.
+     *
+     * @param readFromPrimary whether read-only transactions use the primary
+     */
+    public static void setReadFromPrimary(boolean readFromPrimary) {
+        if (readFromPrimary) {
+            READ_FROM_PRIMARY.set(Boolean.TRUE);
+        } else {
+            READ_FROM_PRIMARY.remove();
+        }
+    }
+
+    /**
+     * @return whether the read-only transactions of the current thread use the primary
+     */
+    public static boolean isReadFromPrimary() {
+        return READ_FROM_PRIMARY.get() != null;
+    }
+
+    /**
+     * Returns whether the current transaction reads from the replica, provided that the
+     * application data source routes reads (see {@link #isRouting(DataSource)}).
+     *
+     * @return whether the current transaction is read-only and the thread does not read from
+     *         the primary
+     */
+    public static boolean isReadFromReplica() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            && !isReadFromPrimary();
+    }
+
+    /**
+     * Returns whether the given data source is, or wraps, a {@code ReadWriteRoutingDataSource}.
+     *
+     * @param dataSource the application data source
+     * @return whether read-only transactions may read from a replica
+     */
+    public static boolean isRouting(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ReadWriteRoutingDataSource.class);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Hands out replica connections unless the current thread reads from the primary.
+     */
+    private static final class ReplicaDataSource extends DelegatingDataSource {
+
+        private final DataSource primary;
+
+        private ReplicaDataSource(DataSource primary, DataSource replica) {
+            super(replica);
+            this.primary = primary;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return isReadFromPrimary() ? primary.getConnection() : super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return isReadFromPrimary()
+                ? primary.getConnection(username, password)
+                : super.getConnection(username, password);
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.example.task_tracker.common;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Lets a client read its own writes while the replica catches up.
+ * <p>
+ * A request with a method other than {@code GET}, {@code HEAD} or {@code OPTIONS} is treated
+ * as a write: it sets the {@link #COOKIE_NAME} cookie, which holds the time until which the
+ * client's reads go to the primary database. Requests carrying an unexpired cookie, and the
+ * write request itself, run with {@link ReadWriteRoutingDataSource#setReadFromPrimary(boolean)}
+ * set. Clients that do not keep cookies read from the replica right away.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    /** Cookie holding the epoch milliseconds until which reads use the primary. */
+    public static final String COOKIE_NAME = "TT-READ-PRIMARY-UNTIL";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration stickiness;
+
+    /**
+     * Creates a new {@code ReadYourWritesFilter}.
+     *
+     * @param stickiness how long the reads of a client go to the primary after a write
+     */
+    public ReadYourWritesFilter(Duration stickiness) {
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException
+    {
+        long now = System.currentTimeMillis();
+        boolean write = !READ_METHODS.contains(request.getMethod());
+        if (write) {
+            // Set before the response is committed by the handler.
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now + stickiness.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, (stickiness.toMillis() + 999) / 1000));
+            response.addCookie(cookie);
+        }
+
+        ReadWriteRoutingDataSource.setReadFromPrimary(write || readsFromPrimary(request, now));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadWriteRoutingDataSource.setReadFromPrimary(false);
+        }
+    }
+
+    private static boolean readsFromPrimary(HttpServletRequest request, long now) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > now;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.example.task_tracker.common;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA transaction manager that keeps data read from the replica out of the Hibernate
+ * second-level and query caches.
+ * <p>
+ * The replica lags behind the primary, so entities and query results it returns may be older
+ * than the primary's. Once cached, they would be served to every client, including one that
+ * has just written the newer state and reads from the primary. Sessions of read-only
+ * transactions that use the replica (see {@link ReadWriteRoutingDataSource}) therefore run
+ * with {@link CacheMode#GET}: they read cached data but add none.
+ */
+public class ReplicaAwareTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        if (definition.isReadOnly() && !ReadWriteRoutingDataSource.isReadFromPrimary()) {
+            Session session = currentSession();
+            if (session != null) {
+                session.setCacheMode(CacheMode.GET);
+            }
+        }
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        // The session may outlive the transaction, e.g. with open-in-view.
+        Session session = currentSession();
+        if (session != null && session.isOpen() && session.getCacheMode() == CacheMode.GET) {
+            session.setCacheMode(CacheMode.NORMAL);
+        }
+        super.doCleanupAfterCompletion(transaction);
+    }
+
+    private Session currentSession() {
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager
+            .getResource(obtainEntityManagerFactory());
+        return holder != null ? holder.getEntityManager().unwrap(Session.class) : null;
+    }
+
+}
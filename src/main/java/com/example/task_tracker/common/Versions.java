@@ -0,0 +1,52 @@
+package com.example.task_tracker.common;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.StringJoiner;
+
+/**
+ * Builds opaque version strings used as entity tags for conditional requests.
+ * <p>
+ * A version is derived from the values a representation depends on, so it changes whenever
+ * one of them changes and is the same on every application instance. Numbers are included
+ * as they are, timestamps as epoch microseconds (the precision of the database columns) and
+ * any other value as the hash code of its string form.
+ */
+public final class Versions {
+
+    private Versions() {}
+
+    /**
+     * Combines the given values into a version string.
+     *
+     * @param parts the values the version depends on; collections contribute their elements
+     * @return a version consisting only of characters allowed in an entity tag
+     */
+    public static String of(Object... parts) {
+        StringJoiner version = new StringJoiner("-");
+        for (Object part : parts) {
+            append(version, part);
+        }
+        return version.toString();
+    }
+
+    private static void append(StringJoiner version, Object part) {
+        if (part == null) {
+            version.add("n");
+        } else if (part instanceof Number number) {
+            version.add(number.toString());
+        } else if (part instanceof LocalDateTime timestamp) {
+            version.add(
+                Long.toString(
+                    ChronoUnit.MICROS.between(
+                        LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), timestamp)));
+        } else if (part instanceof Collection<?> values) {
+            values.forEach(value -> append(version, value));
+        } else {
+            version.add(Integer.toHexString(part.toString().hashCode()));
+        }
+    }
+
+}
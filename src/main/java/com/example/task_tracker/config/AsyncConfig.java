@@ -0,0 +1,16 @@
+package com.example.task_tracker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables {@code @Async} methods, used for background work that must not delay requests or
+ * startup.
+ * <p>
+ * They run on Spring Boot's application task executor, which uses virtual threads when
+ * {@code spring.threads.virtual.enabled} is {@code true}.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
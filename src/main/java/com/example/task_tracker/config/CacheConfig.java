@@ -0,0 +1,44 @@
+package com.example.task_tracker.config;
+
+import com.example.task_tracker.project.service.ProjectCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configures the in-process caches of the application.
+ * <p>
+ * Caches are backed by Caffeine and bounded by the specification in
+ * {@code tasktracker.cache.spec} (size and time-to-live). Statistics are recorded so that
+ * hit and miss counts are published as {@code cache.gets} metrics. Puts and evictions are
+ * deferred until the surrounding transaction commits, so a rolled back change never
+ * invalidates or pollutes a cache.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    private static final String DEFAULT_SPEC = "maximumSize=1000,expireAfterWrite=10m,recordStats";
+
+    /**
+     * Creates the cache manager for all application caches.
+     *
+     * @param spec the Caffeine specification applied to every cache
+     * @return the transaction-aware cache manager
+     */
+    @Bean
+    public CacheManager cacheManager(
+        @Value("${tasktracker.cache.spec:" + DEFAULT_SPEC + "}") String spec)
+    {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheSpecification(spec);
+        // Fixed cache names make the caches known at startup, so their metrics are bound.
+        cacheManager.setCacheNames(ProjectCache.CACHE_NAMES);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.example.task_tracker.config;
+
+import com.example.task_tracker.common.EntityTags;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Serves and accepts Smile, a binary encoding of the JSON data model, next to JSON.
+ * <p>
+ * Clients that send {@code Accept: application/x-jackson-smile} get the same documents as
+ * JSON clients, but field names repeated across the items of a page are written once and
+ * referenced afterwards, and numbers are binary. Clients without that header keep getting
+ * JSON. The Smile mapper is built like the application's JSON mapper, so both encode dates,
+ * enums and nulls the same way. Response compression is configured with
+ * {@code server.compression.*}.
+ * <p>
+ * API responses carry {@code Vary: Accept}, so that caches keep JSON and Smile apart. Entity
+ * tags distinguish the two as described in {@link EntityTags}.
+ */
+@Configuration
+public class ContentNegotiationConfig implements WebMvcConfigurer {
+
+    /**
+     * Creates the Smile converter, which replaces the one Spring MVC registers by default.
+     *
+     * @param builder the builder configured by Spring Boot for the JSON mapper
+     * @return the converter
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+        Jackson2ObjectMapperBuilder builder)
+    {
+        return new MappingJackson2SmileHttpMessageConverter(
+            builder.factory(new SmileFactory()).build());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Added before the handler runs, so that 304 responses carry it as well.
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(
+                HttpServletRequest request, HttpServletResponse response, Object handler)
+            {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
+
+}
@@ -3,8 +3,11 @@ package com.example.task_tracker.config;
 import java.time.LocalDate;
 import java.util.List;
 
+import com.example.task_tracker.event.dto.ChangeEvent;
 import com.example.task_tracker.project.model.Project;
 import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.stats.service.ProjectTaskStatsService;
+import com.example.task_tracker.sync.service.ChangeLogService;
 import com.example.task_tracker.task.model.Task;
 import com.example.task_tracker.task.model.TaskPriority;
 import com.example.task_tracker.task.model.TaskStatus;
@@ -33,6 +36,8 @@ public class DemoDataInitializer implements CommandLineRunner {
 
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
+    private final ProjectTaskStatsService statsService;
+    private final ChangeLogService changeLogService;
     private final boolean demoDataEnabled;
 
     /**
@@ -40,14 +45,19 @@ public class DemoDataInitializer implements CommandLineRunner {
      *
      * @param taskRepository the repository used for task persistence
      * @param projectRepository the repository used for project persistence
+     * @param statsService the service used to build the task counters of the demo projects
+     * @param changeLogService the change log the demo data is recorded in
      * @param demoDataEnabled flag that controls whether demo data may be inserted
      */
     public DemoDataInitializer(
         TaskRepository taskRepository, ProjectRepository projectRepository,
+        ProjectTaskStatsService statsService, ChangeLogService changeLogService,
         @Value("${tasktracker.demo-data.enabled:true}") boolean demoDataEnabled)
     {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
+        this.statsService = statsService;
+        this.changeLogService = changeLogService;
         this.demoDataEnabled = demoDataEnabled;
     }
 
@@ -83,7 +93,8 @@ public class DemoDataInitializer implements CommandLineRunner {
         household.setDescription("Recurring chores and to-dos at home.");
         household.setColor("#22c55e");
 
-        projectRepository.saveAll(List.of(taskTracker, masterThesis, household));
+        List<Project> projects =
+            projectRepository.saveAll(List.of(taskTracker, masterThesis, household));
 
         // --- Create some example tasks ---
         Task t1 = new Task(
@@ -108,7 +119,13 @@ public class DemoDataInitializer implements CommandLineRunner {
             TaskStatus.OPEN, TaskPriority.LOW, null);
         t4.setProject(household);
 
-        taskRepository.saveAll(List.of(t1, t2, t3, t4));
+        List<Task> tasks = taskRepository.saveAll(List.of(t1, t2, t3, t4));
+        // The demo data is written through the repositories, so derive the counters and the
+        // change log entries afterwards.
+        statsService.rebuild();
+        changeLogService.recordCreated(
+            ChangeEvent.PROJECT, projects.stream().map(Project::getId).toList());
+        changeLogService.recordCreated(ChangeEvent.TASK, tasks.stream().map(Task::getId).toList());
 
         log.info(
             "Demo data initialization finished: {} projects, {} tasks.", projectRepository.count(),
@@ -0,0 +1,31 @@
+package com.example.task_tracker.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Records the timers declared with {@code @Timed}.
+ * <p>
+ * Service classes are annotated at class level, so each public method gets a
+ * {@code tasktracker.service} timer tagged with its class and method. Request timers
+ * ({@code http.server.requests}) as well as Hibernate, HikariCP and cache metrics are
+ * provided by Spring Boot; all are published for Prometheus on the management port.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Creates the aspect that times {@code @Timed} classes and methods.
+     *
+     * @param registry the registry the timers are recorded in
+     * @return the aspect
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.example.task_tracker.config;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+
+import com.example.task_tracker.common.ReadWriteRoutingDataSource;
+import com.example.task_tracker.common.ReadYourWritesFilter;
+import com.example.task_tracker.common.ReplicaAwareTransactionManager;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Offloads read-only transactions to a read replica.
+ * <p>
+ * Active when {@code tasktracker.datasource.replica.enabled} is {@code true}. The primary pool
+ * is configured with {@code spring.datasource.*} as before, the replica pool with
+ * {@code tasktracker.datasource.replica.url}, {@code username}, {@code password} and
+ * {@code hikari.*}. The application data source is a {@link ReadWriteRoutingDataSource}
+ * over both; Flyway migrates the primary only. The {@link ReplicaAwareTransactionManager}
+ * keeps replica reads out of the Hibernate caches.
+ * <p>
+ * After a write, a client's reads go to the primary for
+ * {@code tasktracker.datasource.replica.read-your-writes} (see {@link ReadYourWritesFilter}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "tasktracker.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    /**
+     * Creates the connection pool of the primary database.
+     *
+     * @param properties the {@code spring.datasource} properties
+     * @return the primary pool
+     */
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Creates the connection pool of the replica.
+     *
+     * @param url the JDBC URL of the replica
+     * @param username the user name for the replica
+     * @param password the password for the replica
+     * @return the replica pool
+     */
+    @Bean
+    @ConfigurationProperties("tasktracker.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+        @Value("${tasktracker.datasource.replica.url}") String url,
+        @Value("${tasktracker.datasource.replica.username}") String username,
+        @Value("${tasktracker.datasource.replica.password}") String password)
+    {
+        return DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+    }
+
+    /**
+     * Creates the data source used by JPA and all other application code.
+     *
+     * @param primary the primary pool
+     * @param replica the replica pool
+     * @return the routing data source
+     */
+    @Bean
+    @Primary
+    public ReadWriteRoutingDataSource dataSource(
+        @Qualifier("primaryDataSource") DataSource primary,
+        @Qualifier("replicaDataSource") DataSource replica)
+    {
+        return new ReadWriteRoutingDataSource(primary, replica);
+    }
+
+    /**
+     * Creates the transaction manager, in place of the one Spring Boot would create.
+     *
+     * @param customizers the customizers Spring Boot applies to its transaction manager
+     * @return the transaction manager
+     */
+    @Bean
+    public ReplicaAwareTransactionManager transactionManager(
+        ObjectProvider<TransactionManagerCustomizers> customizers)
+    {
+        ReplicaAwareTransactionManager transactionManager = new ReplicaAwareTransactionManager();
+        customizers.ifAvailable(customizer -> customizer.customize(transactionManager));
+        return transactionManager;
+    }
+
+    /**
+     * Creates the filter that sends the reads of a client to the primary after a write.
+     *
+     * @param stickiness how long reads go to the primary after a write
+     * @return the filter
+     */
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+        @Value("${tasktracker.datasource.replica.read-your-writes:2s}") Duration stickiness)
+    {
+        return new ReadYourWritesFilter(stickiness);
+    }
+
+}
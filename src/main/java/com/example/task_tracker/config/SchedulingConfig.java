@@ -0,0 +1,12 @@
+package com.example.task_tracker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's scheduled task execution, used for periodic maintenance jobs.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
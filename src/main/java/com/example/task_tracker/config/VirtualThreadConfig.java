@@ -0,0 +1,97 @@
+package com.example.task_tracker.config;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+
+import com.example.task_tracker.common.ConnectionLimitingDataSource;
+import com.example.task_tracker.common.ReadWriteRoutingDataSource;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Guards the connection pool when requests run on virtual threads.
+ * <p>
+ * Active when {@code spring.threads.virtual.enabled} is {@code true}. Spring Boot then serves
+ * requests and runs {@code @Async} and scheduled work on virtual threads, so concurrency is
+ * limited by database connections rather than by a thread pool. Every data source is wrapped
+ * in a {@link ConnectionLimitingDataSource} with {@code tasktracker.datasource.max-connections}
+ * permits (by default the Hikari pool size) and a wait of at most
+ * {@code tasktracker.datasource.acquire-timeout}; a {@link ReadWriteRoutingDataSource} is left
+ * as is, since the pools behind it are guarded. Borrowed connections and waiting callers
+ * are published per data source as {@code tasktracker.datasource.connections.active} and
+ * {@code tasktracker.datasource.connections.waiting}, tagged with the bean name.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * Wraps the application data sources once they are initialized.
+     *
+     * @param environment the environment providing the limits
+     * @return the post-processor wrapping the data sources
+     */
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+        Environment environment)
+    {
+        int poolSize = environment.getProperty(
+            "spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        int maxConnections = environment.getProperty(
+            "tasktracker.datasource.max-connections", Integer.class, poolSize);
+        Duration acquireTimeout = environment.getProperty(
+            "tasktracker.datasource.acquire-timeout", Duration.class, Duration.ofSeconds(5));
+
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                    && !(bean instanceof ConnectionLimitingDataSource)
+                    && !(bean instanceof ReadWriteRoutingDataSource))
+                {
+                    return new ConnectionLimitingDataSource(
+                        dataSource, maxConnections, acquireTimeout);
+                }
+                return bean;
+            }
+
+        };
+    }
+
+    /**
+     * Publishes the number of borrowed connections and waiting callers of the guarded data
+     * sources.
+     *
+     * @param beanFactory the factory providing the data sources by bean name
+     * @return the binder registering the gauges
+     */
+    @Bean
+    public MeterBinder connectionLimitingDataSourceMetrics(ListableBeanFactory beanFactory) {
+        return registry -> beanFactory.getBeansOfType(DataSource.class).forEach((name, bean) -> {
+            if (bean instanceof ConnectionLimitingDataSource dataSource) {
+                Gauge.builder(
+                    "tasktracker.datasource.connections.active", dataSource,
+                    ConnectionLimitingDataSource::getActiveConnections)
+                    .description("Connections borrowed through the virtual-thread guard")
+                    .tag("name", name)
+                    .register(registry);
+                Gauge.builder(
+                    "tasktracker.datasource.connections.waiting", dataSource,
+                    ConnectionLimitingDataSource::getWaitingCallers)
+                    .description("Callers waiting for a permit of the virtual-thread guard")
+                    .tag("name", name)
+                    .register(registry);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.example.task_tracker.event.controller;
+
+import com.example.task_tracker.event.dto.ChangeEvent;
+import com.example.task_tracker.event.service.ChangeEventBroadcaster;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller streaming task and project changes as server-sent events.
+ * <p>
+ * Every committed create, update or delete is pushed as a {@link ChangeEvent} named after the
+ * resource ({@code task} or {@code project}). Streams are served asynchronously, so an idle
+ * connection does not occupy a request thread.
+ */
+@RestController
+@RequestMapping("/api/events")
+public class EventStreamController {
+
+    /** Seconds a client should wait before reconnecting when the server is full. */
+    private static final String RETRY_AFTER_SECONDS = "10";
+
+    private final ChangeEventBroadcaster broadcaster;
+
+    /**
+     * Creates a new {@code EventStreamController} with the required dependency.
+     *
+     * @param broadcaster the broadcaster managing the subscribers
+     */
+    public EventStreamController(ChangeEventBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * Opens an event stream of task and project changes.
+     *
+     * @return the stream, or {@code 503 Service Unavailable} if too many clients are connected
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe() {
+        return broadcaster.subscribe().map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).build());
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.example.task_tracker.event.dto;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Compact notification about a created, updated or deleted task or project, pushed to the
+ * subscribers of {@code GET /api/events}.
+ * <p>
+ * Created events carry all fields of the new resource, updated events only the fields that
+ * changed, and deleted events none. Field values may be {@code null}.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record ChangeEvent(String resource, ChangeType type, Long id, Map<String, Object> changes) {
+
+    /** Resource name of task events. */
+    public static final String TASK = "task";
+
+    /** Resource name of project events. */
+    public static final String PROJECT = "project";
+
+    /**
+     * Creates the event for a new resource.
+     *
+     * @param resource the resource name, {@link #TASK} or {@link #PROJECT}
+     * @param id the ID of the new resource
+     * @param fields all fields of the new resource
+     * @return the event
+     */
+    public static ChangeEvent created(String resource, Long id, Map<String, Object> fields) {
+        return new ChangeEvent(resource, ChangeType.CREATED, id, fields);
+    }
+
+    /**
+     * Creates the event for a changed resource, containing the fields whose values differ.
+     *
+     * @param resource the resource name, {@link #TASK} or {@link #PROJECT}
+     * @param id the ID of the resource
+     * @param before the fields before the change
+     * @param after the fields after the change
+     * @return the event; its changes are empty if nothing has changed
+     */
+    public static ChangeEvent updated(
+        String resource, Long id, Map<String, Object> before, Map<String, Object> after)
+    {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        after.forEach((field, value) -> {
+            if (!Objects.equals(before.get(field), value)) {
+                changes.put(field, value);
+            }
+        });
+        return new ChangeEvent(resource, ChangeType.UPDATED, id, changes);
+    }
+
+    /**
+     * Creates the event for a deleted resource.
+     *
+     * @param resource the resource name, {@link #TASK} or {@link #PROJECT}
+     * @param id the ID of the deleted resource
+     * @return the event
+     */
+    public static ChangeEvent deleted(String resource, Long id) {
+        return new ChangeEvent(resource, ChangeType.DELETED, id, Collections.emptyMap());
+    }
+
+    /**
+     * @return {@code true} if this is an update that did not change any field
+     */
+    @JsonIgnore
+    public boolean isEmptyUpdate() {
+        return type == ChangeType.UPDATED && changes.isEmpty();
+    }
+
+}
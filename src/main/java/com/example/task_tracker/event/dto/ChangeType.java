@@ -0,0 +1,12 @@
+package com.example.task_tracker.event.dto;
+
+/**
+ * Kind of change reported by a {@link ChangeEvent}.
+ */
+public enum ChangeType {
+
+    CREATED,
+    UPDATED,
+    DELETED
+
+}
@@ -0,0 +1,273 @@
+package com.example.task_tracker.event.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.task_tracker.event.dto.ChangeEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes {@link ChangeEvent}s to the subscribers of the server-sent event stream.
+ * <p>
+ * Events are published by the services as application events and broadcast only after the
+ * publishing transaction has committed, so subscribers never see changes that are rolled back.
+ * Each event is serialized once and offered to a bounded buffer per subscriber; the committing
+ * thread never writes to a connection. A subscriber's buffer is drained by a virtual thread
+ * that only exists while there is something to send, so idle connections hold no thread.
+ * <p>
+ * A subscriber whose buffer is full has fallen behind and is disconnected rather than
+ * silently missing events; clients reconnect and reload. A comment is sent to every
+ * subscriber at a fixed interval, which keeps proxies from closing idle connections and
+ * detects clients that have gone away. Subscribers and dropped subscribers are published as
+ * {@code tasktracker.events.subscribers} and {@code tasktracker.events.dropped}.
+ */
+@Component
+public class ChangeEventBroadcaster implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeEventBroadcaster.class);
+
+    /** Buffered message without a name, sent as a comment to keep the connection alive. */
+    private static final Message HEARTBEAT = new Message(null, null);
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong dropped = new AtomicLong();
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final Executor senders;
+
+    /**
+     * Creates a new {@code ChangeEventBroadcaster} sending on virtual threads.
+     *
+     * @param objectMapper the mapper serializing events
+     * @param bufferSize the number of messages buffered per subscriber
+     * @param maxSubscribers the maximum number of concurrent subscribers
+     * @param timeout how long a stream stays open before the client has to reconnect
+     */
+    @Autowired
+    public ChangeEventBroadcaster(
+        ObjectMapper objectMapper,
+        @Value("${tasktracker.events.buffer-size:256}") int bufferSize,
+        @Value("${tasktracker.events.max-subscribers:5000}") int maxSubscribers,
+        @Value("${tasktracker.events.timeout:PT30M}") Duration timeout)
+    {
+        this(objectMapper, bufferSize, maxSubscribers, timeout, Thread::startVirtualThread);
+    }
+
+    /**
+     * Creates a new {@code ChangeEventBroadcaster} sending on the given executor.
+     *
+     * @param objectMapper the mapper serializing events
+     * @param bufferSize the number of messages buffered per subscriber
+     * @param maxSubscribers the maximum number of concurrent subscribers
+     * @param timeout how long a stream stays open before the client has to reconnect
+     * @param senders runs the tasks draining the subscriber buffers
+     */
+    ChangeEventBroadcaster(
+        ObjectMapper objectMapper, int bufferSize, int maxSubscribers, Duration timeout,
+        Executor senders)
+    {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        this.senders = senders;
+    }
+
+    /**
+     * Registers a new subscriber.
+     *
+     * @return the emitter streaming events to the subscriber, or an empty optional if the
+     *         maximum number of subscribers is reached
+     */
+    public Optional<SseEmitter> subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            return Optional.empty();
+        }
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMillis));
+        subscribers.add(subscriber);
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(subscriber::close);
+        subscriber.emitter.onError(error -> subscriber.close());
+        // Sends the response headers right away, so the client knows it is connected.
+        subscriber.offer(HEARTBEAT);
+        return Optional.of(subscriber.emitter);
+    }
+
+    /**
+     * Broadcasts an event to all subscribers once the publishing transaction has committed,
+     * or immediately if it was published outside a transaction.
+     *
+     * @param event the event to broadcast
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void broadcast(ChangeEvent event) {
+        if (subscribers.isEmpty() || event.isEmptyUpdate()) {
+            return;
+        }
+        Message message;
+        try {
+            message = new Message(event.resource(), objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize change event {}", event, e);
+            return;
+        }
+        subscribers.forEach(subscriber -> subscriber.offer(message));
+    }
+
+    /**
+     * Sends a heartbeat comment to all subscribers.
+     */
+    @Scheduled(
+        fixedRateString = "${tasktracker.events.heartbeat-interval:PT15S}",
+        initialDelayString = "${tasktracker.events.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+    }
+
+    /**
+     * @return the number of connected subscribers
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * @return the number of subscribers disconnected because they fell behind
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(
+            "tasktracker.events.subscribers", this, ChangeEventBroadcaster::getSubscriberCount)
+            .description("Clients connected to the change event stream")
+            .register(registry);
+        FunctionCounter.builder(
+            "tasktracker.events.dropped", this, ChangeEventBroadcaster::getDroppedCount)
+            .description("Subscribers disconnected because their event buffer was full")
+            .register(registry);
+    }
+
+    /**
+     * Ends all streams on shutdown, so open connections do not delay it.
+     */
+    @PreDestroy
+    public void completeAll() {
+        subscribers.forEach(Subscriber::close);
+    }
+
+    /**
+     * A serialized event, or a heartbeat if it has no name.
+     *
+     * @param name the event name
+     * @param data the JSON data
+     */
+    private record Message(String name, String data) {
+    }
+
+    /**
+     * A connected client with its buffer of messages that have not been sent yet.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Buffers a message and starts a sender unless one is running. Disconnects the
+         * subscriber if the buffer is full.
+         */
+        private void offer(Message message) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(message)) {
+                dropped.incrementAndGet();
+                log.debug(
+                    "Disconnecting slow event subscriber after {} buffered messages", bufferSize);
+                close();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        /**
+         * Sends buffered messages until the buffer is empty. Messages offered while the
+         * sender stops are picked up by a new one, so none is left behind.
+         */
+        private void drain() {
+            do {
+                Message message;
+                while ((message = buffer.poll()) != null) {
+                    if (!send(message)) {
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!buffer.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private boolean send(Message message) {
+            try {
+                if (message.name() == null) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    emitter.send(
+                        SseEmitter.event().name(message.name())
+                            .data(message.data(), MediaType.APPLICATION_JSON));
+                }
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // The client has gone away or the stream has already been completed.
+                close();
+                return false;
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                buffer.clear();
+                emitter.complete();
+            }
+        }
+
+    }
+
+}
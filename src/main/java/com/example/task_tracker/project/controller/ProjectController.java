@@ -1,26 +1,37 @@
 package com.example.task_tracker.project.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import com.example.task_tracker.common.EntityTags;
+import com.example.task_tracker.common.Versions;
 import com.example.task_tracker.project.dto.ProjectCreateRequest;
+import com.example.task_tracker.project.dto.ProjectPatchRequest;
 import com.example.task_tracker.project.dto.ProjectResponse;
 import com.example.task_tracker.project.dto.ProjectUpdateRequest;
 import com.example.task_tracker.project.service.ProjectService;
+import com.example.task_tracker.stats.dto.TaskCounts;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 
 /**
  * REST controller exposing CRUD operations for projects.
+ * <p>
+ * Read endpoints support {@code If-None-Match} and updates support {@code If-Match}, as for
+ * tasks.
  */
 @RestController
 @RequestMapping("/api/projects")
@@ -54,10 +65,14 @@ public class ProjectController {
     /**
      * Retrieves all projects.
      *
-     * @return a list of all projects
+     * @param webRequest the current request, used for conditional request handling
+     * @return a list of all projects, or {@code null} if not modified
      */
     @GetMapping
-    public List<ProjectResponse> getProjects() {
+    public List<ProjectResponse> getProjects(WebRequest webRequest) {
+        if (webRequest.checkNotModified(EntityTags.weak(projectService.getProjectsVersion()))) {
+            return null;
+        }
         return projectService.getAllProjects();
     }
 
@@ -65,25 +80,75 @@ public class ProjectController {
      * Retrieves a single project by its ID.
      *
      * @param id the project identifier
-     * @return the matching project
+     * @param webRequest the current request, used for conditional request handling
+     * @return the matching project, or {@code null} if not modified
      */
     @GetMapping("/{id}")
-    public ProjectResponse getProjectById(@PathVariable Long id) {
-        return projectService.getProjectById(id);
+    public ProjectResponse getProjectById(@PathVariable Long id, WebRequest webRequest) {
+        ProjectResponse project = projectService.getProjectById(id);
+        if (webRequest.checkNotModified(versionOf(project, webRequest))) {
+            return null;
+        }
+        return project;
     }
 
     /**
      * Updates an existing project.
+     * <p>
+     * If an {@code If-Match} header is present, the update is only applied if it matches the
+     * current {@code ETag} of the project. Concurrent edits between that check and the update
+     * fail with {@code 409 Conflict}.
      *
      * @param id the project identifier
      * @param request the updated project fields
-     * @return the updated project
+     * @param webRequest the current request, used for conditional request handling
+     * @return the updated project with its new {@code ETag}, or {@code null} if the
+     *         precondition failed
      */
     @PutMapping("/{id}")
-    public ProjectResponse updateProject(
-        @PathVariable Long id, @Valid @RequestBody ProjectUpdateRequest request)
+    public ResponseEntity<ProjectResponse> updateProject(
+        @PathVariable Long id, @Valid @RequestBody ProjectUpdateRequest request,
+        WebRequest webRequest)
     {
-        return projectService.updateProject(id, request);
+        LocalDateTime unmodifiedSince = null;
+        if (webRequest.getHeader(HttpHeaders.IF_MATCH) != null) {
+            ProjectResponse current = projectService.getProjectById(id);
+            if (webRequest.checkNotModified(versionOf(current, webRequest))) {
+                return null;
+            }
+            unmodifiedSince = current.updatedAt();
+        }
+        ProjectResponse updated = projectService.updateProject(id, request, unmodifiedSince);
+        return ResponseEntity.ok().eTag(versionOf(updated, webRequest)).body(updated);
+    }
+
+    /**
+     * Changes some fields of an existing project.
+     * <p>
+     * Only the fields present in the body are changed. {@code If-Match} is handled as for
+     * {@link #updateProject}; concurrent edits fail with {@code 409 Conflict}.
+     *
+     * @param id the project identifier
+     * @param request the fields to change
+     * @param webRequest the current request, used for conditional request handling
+     * @return the updated project with its new {@code ETag}, or {@code null} if the
+     *         precondition failed
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<ProjectResponse> patchProject(
+        @PathVariable Long id, @Valid @RequestBody ProjectPatchRequest request,
+        WebRequest webRequest)
+    {
+        LocalDateTime unmodifiedSince = null;
+        if (webRequest.getHeader(HttpHeaders.IF_MATCH) != null) {
+            ProjectResponse current = projectService.getProjectById(id);
+            if (webRequest.checkNotModified(versionOf(current, webRequest))) {
+                return null;
+            }
+            unmodifiedSince = current.updatedAt();
+        }
+        ProjectResponse updated = projectService.patchProject(id, request, unmodifiedSince);
+        return ResponseEntity.ok().eTag(versionOf(updated, webRequest)).body(updated);
     }
 
     /**
@@ -98,4 +163,21 @@ public class ProjectController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Derives the entity tag of a single project from the values its representation depends
+     * on, including its task counts.
+     *
+     * @param project the project response
+     * @param webRequest the current request, which selects the representation
+     * @return the entity tag of the project
+     */
+    private static String versionOf(ProjectResponse project, WebRequest webRequest) {
+        TaskCounts counts = project.taskCounts();
+        return EntityTags.strong(
+            Versions.of(
+                project.id(), project.updatedAt(), counts.total(), counts.byStatus().values(),
+                counts.byPriority().values()),
+            webRequest);
+    }
+
 }
\ No newline at end of file
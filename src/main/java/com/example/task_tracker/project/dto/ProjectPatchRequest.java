@@ -0,0 +1,87 @@
+package com.example.task_tracker.project.dto;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Data transfer object used for changing some fields of an existing project.
+ * Represents the payload of the HTTP PATCH /api/projects/{id} request.
+ * <p>
+ * Only fields present in the payload are changed. An explicit {@code null} clears the
+ * description or color.
+ */
+public class ProjectPatchRequest {
+
+    /** Names of the fields present in the payload, recorded as Jackson calls the setters. */
+    private final Set<String> fields = new HashSet<>();
+
+    @Size(max = 120)
+    private String name;
+
+    @Size(max = 500)
+    private String description;
+
+    @Size(max = 20)
+    private String color;
+
+    /** @return the new project name */
+    public String getName() {
+        return name;
+    }
+
+    /** @param name the new name for the project */
+    public void setName(String name) {
+        this.name = name;
+        fields.add("name");
+    }
+
+    /** @return {@code true} if the payload contains a name */
+    public boolean hasName() {
+        return fields.contains("name");
+    }
+
+    /** @return the new project description */
+    public String getDescription() {
+        return description;
+    }
+
+    /** @param description the new description for the project, or {@code null} to clear it */
+    public void setDescription(String description) {
+        this.description = description;
+        fields.add("description");
+    }
+
+    /** @return {@code true} if the payload contains a description */
+    public boolean hasDescription() {
+        return fields.contains("description");
+    }
+
+    /** @return the new display color */
+    public String getColor() {
+        return color;
+    }
+
+    /** @param color the new display color, or {@code null} to clear it */
+    public void setColor(String color) {
+        this.color = color;
+        fields.add("color");
+    }
+
+    /** @return {@code true} if the payload contains a color */
+    public boolean hasColor() {
+        return fields.contains("color");
+    }
+
+    /** @return {@code true} if the name is not blank, if it is given */
+    @JsonIgnore
+    @AssertTrue(message = "'name' must not be blank")
+    public boolean isNameValid() {
+        return !hasName() || (name != null && !name.isBlank());
+    }
+
+}
@@ -2,9 +2,22 @@ package com.example.task_tracker.project.dto;
 
 import java.time.LocalDateTime;
 
+import com.example.task_tracker.stats.dto.TaskCounts;
+
 /**
- * Response model exposing project data to API clients.
+ * Response model exposing project data to API clients, including the project's task counts.
  */
 public record ProjectResponse(Long id, String name, String description, String color,
-    LocalDateTime createdAt, LocalDateTime updatedAt) {
-}
\ No newline at end of file
+    LocalDateTime createdAt, LocalDateTime updatedAt, TaskCounts taskCounts) {
+
+    /**
+     * Returns a copy of this response with the given task counts.
+     *
+     * @param taskCounts the task counts of the project
+     * @return the new response
+     */
+    public ProjectResponse withTaskCounts(TaskCounts taskCounts) {
+        return new ProjectResponse(id, name, description, color, createdAt, updatedAt, taskCounts);
+    }
+
+}
@@ -1,7 +1,13 @@
 package com.example.task_tracker.project.model;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -10,15 +16,22 @@ import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 /**
  * JPA entity representing a logical grouping of tasks.
  * <p>
  * A project can be used to organize tasks by topic, area of life, or application
  * (for example: "Task Tracker", "Master Thesis", "Household").
+ * <p>
+ * Projects change rarely and are kept in the second-level cache. Updates only write the
+ * changed columns and are guarded by a version column.
  */
 @Entity
 @Table(name = "projects")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Project {
 
     @Id
@@ -43,6 +56,10 @@ public class Project {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /** Incremented on every update and checked by Hibernate for optimistic locking. */
+    @Version
+    private Long version;
+
     /**
      * No-args constructor required by JPA.
      */
@@ -63,11 +80,11 @@ public class Project {
 
     /**
      * Lifecycle callback executed before the entity is first persisted.
-     * Initializes timestamps.
+     * Initializes timestamps, truncated to the microsecond precision of the database columns.
      */
     @PrePersist
     public void prePersist() {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         this.createdAt = now;
         this.updatedAt = now;
     }
@@ -78,7 +95,7 @@ public class Project {
      */
     @PreUpdate
     public void preUpdate() {
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     /** @return the project ID */
@@ -126,4 +143,9 @@ public class Project {
         return updatedAt;
     }
 
+    /** @return the optimistic locking version, or {@code null} if the project is not persisted */
+    public Long getVersion() {
+        return version;
+    }
+
 }
\ No newline at end of file
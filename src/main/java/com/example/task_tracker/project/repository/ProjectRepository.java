@@ -1,10 +1,32 @@
 package com.example.task_tracker.project.repository;
 
+import java.util.List;
+
 import com.example.task_tracker.project.model.Project;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for accessing and querying {@link Project} entities.
  */
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    /** Query cache region holding the result of {@link #findAll()}. */
+    String PROJECT_LIST_REGION = "project-list";
+
+    /**
+     * Retrieves all projects. The result is kept in the Hibernate query cache and is
+     * invalidated whenever the {@code projects} table is modified.
+     *
+     * @return all projects
+     */
+    @Override
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PROJECT_LIST_REGION) })
+    List<Project> findAll();
+
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.example.task_tracker.project.service;
+
+import java.util.List;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+
+import com.example.task_tracker.common.ReadWriteRoutingDataSource;
+import com.example.task_tracker.project.dto.ProjectResponse;
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.project.repository.ProjectRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Caches project data in memory, since projects are read far more often than they change.
+ * <p>
+ * Cached responses carry no task counts; those change with every task write and are added by
+ * the callers. Unknown projects are not cached. Every project change must call
+ * {@link #evict(Long)} so that readers never see outdated data for longer than the current
+ * request.
+ * <p>
+ * Entries are shared by all clients, so a miss is never loaded from a read replica: data the
+ * replica has not caught up with yet would be served to everyone, including the client that
+ * wrote it, until the entry expires. Misses within a replica transaction are loaded in a
+ * separate transaction on the primary.
+ */
+@Component
+public class ProjectCache {
+
+    /** Cache of single projects by ID. */
+    public static final String PROJECTS = "projects";
+
+    /** Cache holding the list of all projects under a single key. */
+    public static final String ALL_PROJECTS = "allProjects";
+
+    /** Names of all caches maintained by this class. */
+    public static final List<String> CACHE_NAMES = List.of(PROJECTS, ALL_PROJECTS);
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate primaryTransaction;
+    private final boolean routing;
+
+    /**
+     * Creates a new {@code ProjectCache} reading through the given repository.
+     *
+     * @param projectRepository the repository used on cache misses
+     * @param transactionManager the transaction manager for loads from the primary
+     * @param dataSource the application data source, which may route reads to a replica
+     */
+    public ProjectCache(
+        ProjectRepository projectRepository, PlatformTransactionManager transactionManager,
+        DataSource dataSource)
+    {
+        this.projectRepository = projectRepository;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryTransaction
+            .setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.routing = ReadWriteRoutingDataSource.isRouting(dataSource);
+    }
+
+    /**
+     * Returns a project by ID, loading it on a cache miss.
+     *
+     * @param id the project identifier
+     * @return the project without task counts, or {@code null} if it does not exist
+     */
+    @Cacheable(cacheNames = PROJECTS, unless = "#result == null")
+    public ProjectResponse get(Long id) {
+        return load(
+            () -> projectRepository.findById(id).map(ProjectCache::toResponse).orElse(null));
+    }
+
+    /**
+     * Returns all projects, loading them on a cache miss.
+     *
+     * @return all projects without task counts
+     */
+    @Cacheable(cacheNames = ALL_PROJECTS, key = "'all'")
+    public List<ProjectResponse> getAll() {
+        return load(
+            () -> projectRepository.findAll().stream().map(ProjectCache::toResponse).toList());
+    }
+
+    /**
+     * Removes a project and the project list from the caches. Within a transaction, the
+     * eviction takes effect on commit.
+     *
+     * @param id the identifier of the created, updated or deleted project
+     */
+    @Caching(evict = {
+        @CacheEvict(cacheNames = PROJECTS, key = "#id"),
+        @CacheEvict(cacheNames = ALL_PROJECTS, allEntries = true) })
+    public void evict(Long id) {
+        // Evictions are performed by the caching interceptor.
+    }
+
+    /**
+     * Runs a cache miss load, on the primary if the current transaction reads from a replica.
+     * The new transaction takes a connection from the primary pool, not from the replica pool
+     * the current one may hold.
+     *
+     * @param loader the load
+     * @return the loaded value
+     */
+    private <T> T load(Supplier<T> loader) {
+        if (routing && ReadWriteRoutingDataSource.isReadFromReplica()) {
+            return primaryTransaction.execute(status -> loader.get());
+        }
+        return loader.get();
+    }
+
+    /**
+     * Maps a {@link Project} entity to its {@link ProjectResponse} DTO without task counts, as
+     * held by this cache.
+     *
+     * @param project the project entity to convert
+     * @return the mapped response
+     */
+    public static ProjectResponse toResponse(Project project) {
+        return new ProjectResponse(
+            project.getId(), project.getName(), project.getDescription(), project.getColor(),
+            project.getCreatedAt(), project.getUpdatedAt(), null);
+    }
+
+}
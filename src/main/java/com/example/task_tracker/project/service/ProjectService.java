@@ -1,8 +1,10 @@
 package com.example.task_tracker.project.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.example.task_tracker.project.dto.ProjectCreateRequest;
+import com.example.task_tracker.project.dto.ProjectPatchRequest;
 import com.example.task_tracker.project.dto.ProjectResponse;
 import com.example.task_tracker.project.dto.ProjectUpdateRequest;
 
@@ -34,14 +36,49 @@ public interface ProjectService {
      */
     List<ProjectResponse> getAllProjects();
 
+    /**
+     * Returns an opaque version of the project list, used to answer conditional requests
+     * without loading any project.
+     * <p>
+     * The version changes whenever a project or task is created, updated or deleted, since
+     * listed projects include their task counts. It is the sequence number of the last change
+     * recorded in the change log, read with a single primary-key lookup.
+     *
+     * @return the current version of the project list
+     */
+    String getProjectsVersion();
+
     /**
      * Updates an existing project.
+     * <p>
+     * If {@code unmodifiedSince} is given and the project has been modified since, the update
+     * fails with an {@link org.springframework.dao.OptimisticLockingFailureException}. The
+     * check runs in the transaction of the update, against the database rather than the
+     * project cache.
      *
      * @param id      the project identifier
      * @param request the update payload
+     * @param unmodifiedSince the modification time of the project the update is based on, or
+     *        {@code null} to apply it to the current version
+     * @return the updated project
+     */
+    ProjectResponse updateProject(
+        Long id, ProjectUpdateRequest request, LocalDateTime unmodifiedSince);
+
+    /**
+     * Changes the given fields of an existing project and leaves all others as they are.
+     * <p>
+     * Only the changed columns are written. If the project is changed concurrently, the update
+     * fails with an {@link org.springframework.dao.OptimisticLockingFailureException}.
+     *
+     * @param id the project identifier
+     * @param request the fields to change
+     * @param unmodifiedSince the modification time of the project the change is based on, or
+     *        {@code null} to apply it to the current version
      * @return the updated project
      */
-    ProjectResponse updateProject(Long id, ProjectUpdateRequest request);
+    ProjectResponse patchProject(
+        Long id, ProjectPatchRequest request, LocalDateTime unmodifiedSince);
 
     /**
      * Deletes a project by its ID.
@@ -1,85 +1,190 @@
 package com.example.task_tracker.project.service;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import com.example.task_tracker.common.Versions;
+import com.example.task_tracker.event.dto.ChangeEvent;
 import com.example.task_tracker.project.dto.ProjectCreateRequest;
+import com.example.task_tracker.project.dto.ProjectPatchRequest;
 import com.example.task_tracker.project.dto.ProjectResponse;
 import com.example.task_tracker.project.dto.ProjectUpdateRequest;
 import com.example.task_tracker.project.exception.ProjectNotFoundException;
 import com.example.task_tracker.project.model.Project;
 import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.stats.dto.TaskCounts;
+import com.example.task_tracker.stats.service.ProjectTaskStatsService;
+import com.example.task_tracker.suggest.service.SuggestionService;
+import com.example.task_tracker.sync.service.ChangeLogService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.annotation.Timed;
 
 /**
  * Default implementation of {@link ProjectService} delegating persistence
- * operations to {@link ProjectRepository}.
+ * operations to {@link ProjectRepository}. Reads are served from {@link ProjectCache}.
+ * Every change is published as a {@link ChangeEvent}, delivered once its transaction commits.
+ * Every method is timed as {@code tasktracker.service}, tagged with class and method.
  */
 @Service
+@Timed(value = "tasktracker.service", histogram = true)
 public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final ProjectCache projectCache;
+    private final ProjectTaskStatsService statsService;
+    private final ChangeLogService changeLogService;
+    private final SuggestionService suggestionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Creates a new {@code ProjectServiceImpl} with the given repository.
+     * Creates a new {@code ProjectServiceImpl} with the given dependencies.
      *
      * @param projectRepository the repository used for project persistence
+     * @param projectCache the cache serving project reads
+     * @param statsService the service providing per-project task counts
+     * @param changeLogService the change log whose sequence serves as the list version
+     * @param suggestionService the service whose name index is updated on project writes
+     * @param eventPublisher the publisher of project change events
      */
-    public ProjectServiceImpl(ProjectRepository projectRepository) {
+    public ProjectServiceImpl(
+        ProjectRepository projectRepository, ProjectCache projectCache,
+        ProjectTaskStatsService statsService, ChangeLogService changeLogService,
+        SuggestionService suggestionService, ApplicationEventPublisher eventPublisher)
+    {
         this.projectRepository = projectRepository;
+        this.projectCache = projectCache;
+        this.statsService = statsService;
+        this.changeLogService = changeLogService;
+        this.suggestionService = suggestionService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public ProjectResponse createProject(ProjectCreateRequest request) {
         Project project =
             new Project(request.getName(), request.getDescription(), request.getColor());
 
         Project saved = projectRepository.save(project);
-        return mapToResponse(saved);
+        statsService.initializeProject(saved.getId());
+        projectCache.evict(saved.getId());
+        suggestionService.projectSaved(saved.getId(), saved.getName());
+        eventPublisher.publishEvent(
+            ChangeEvent.created(ChangeEvent.PROJECT, saved.getId(), fieldsOf(saved)));
+        return ProjectCache.toResponse(saved).withTaskCounts(statsService.getCounts(saved.getId()));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ProjectResponse getProjectById(Long id) {
-        Project project =
-            projectRepository.findById(id).orElseThrow(() -> new ProjectNotFoundException(id));
-        return mapToResponse(project);
+        ProjectResponse project = projectCache.get(id);
+        if (project == null) {
+            throw new ProjectNotFoundException(id);
+        }
+        return project.withTaskCounts(statsService.getCounts(id));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProjectResponse> getAllProjects() {
-        return projectRepository.findAll().stream().map(this::mapToResponse).toList();
+        // One query for all counters instead of one per project.
+        Map<Long, TaskCounts> counts = statsService.getAllCounts();
+        return projectCache.getAll().stream()
+            .map(project -> project.withTaskCounts(counts.get(project.id()))).toList();
     }
 
     @Override
-    public ProjectResponse updateProject(Long id, ProjectUpdateRequest request) {
+    @Transactional(readOnly = true)
+    public String getProjectsVersion() {
+        return Versions.of(changeLogService.getLastSequence());
+    }
+
+    @Override
+    @Transactional
+    public ProjectResponse updateProject(
+        Long id, ProjectUpdateRequest request, LocalDateTime unmodifiedSince)
+    {
         Project project =
             projectRepository.findById(id).orElseThrow(() -> new ProjectNotFoundException(id));
+        if (unmodifiedSince != null && !unmodifiedSince.equals(project.getUpdatedAt())) {
+            throw new ObjectOptimisticLockingFailureException(Project.class, id);
+        }
+        Map<String, Object> oldFields = fieldsOf(project);
 
         project.setName(request.getName());
         project.setDescription(request.getDescription());
         project.setColor(request.getColor());
 
-        Project updated = projectRepository.save(project);
-        return mapToResponse(updated);
+        Project updated = projectRepository.saveAndFlush(project);
+        projectCache.evict(id);
+        suggestionService.projectSaved(id, updated.getName());
+        eventPublisher.publishEvent(
+            ChangeEvent.updated(ChangeEvent.PROJECT, id, oldFields, fieldsOf(updated)));
+        return ProjectCache.toResponse(updated).withTaskCounts(statsService.getCounts(id));
+    }
+
+    @Override
+    @Transactional
+    public ProjectResponse patchProject(
+        Long id, ProjectPatchRequest request, LocalDateTime unmodifiedSince)
+    {
+        Project project =
+            projectRepository.findById(id).orElseThrow(() -> new ProjectNotFoundException(id));
+        if (unmodifiedSince != null && !unmodifiedSince.equals(project.getUpdatedAt())) {
+            throw new ObjectOptimisticLockingFailureException(Project.class, id);
+        }
+        Map<String, Object> oldFields = fieldsOf(project);
+
+        if (request.hasName()) {
+            project.setName(request.getName());
+        }
+        if (request.hasDescription()) {
+            project.setDescription(request.getDescription());
+        }
+        if (request.hasColor()) {
+            project.setColor(request.getColor());
+        }
+
+        Project updated = projectRepository.saveAndFlush(project);
+        projectCache.evict(id);
+        if (request.hasName()) {
+            suggestionService.projectSaved(id, updated.getName());
+        }
+        eventPublisher.publishEvent(
+            ChangeEvent.updated(ChangeEvent.PROJECT, id, oldFields, fieldsOf(updated)));
+        return ProjectCache.toResponse(updated).withTaskCounts(statsService.getCounts(id));
     }
 
     @Override
+    @Transactional
     public void deleteProject(Long id) {
         if (!projectRepository.existsById(id)) {
             throw new ProjectNotFoundException(id);
         }
         projectRepository.deleteById(id);
+        projectCache.evict(id);
+        suggestionService.projectDeleted(id);
+        eventPublisher.publishEvent(ChangeEvent.deleted(ChangeEvent.PROJECT, id));
     }
 
     /**
-     * Maps a {@link Project} entity to its {@link ProjectResponse} DTO.
+     * Returns the fields of a project that are reported in change events.
      *
-     * @param project the project entity to convert
-     * @return the mapped response
+     * @param project the project
+     * @return the fields by name, in a stable order; values may be {@code null}
      */
-    private ProjectResponse mapToResponse(Project project) {
-        return new ProjectResponse(
-            project.getId(), project.getName(), project.getDescription(), project.getColor(),
-            project.getCreatedAt(), project.getUpdatedAt());
+    private static Map<String, Object> fieldsOf(Project project) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("name", project.getName());
+        fields.put("description", project.getDescription());
+        fields.put("color", project.getColor());
+        return fields;
     }
 
 }
\ No newline at end of file
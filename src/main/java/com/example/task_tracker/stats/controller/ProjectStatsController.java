@@ -0,0 +1,39 @@
+package com.example.task_tracker.stats.controller;
+
+import java.util.List;
+
+import com.example.task_tracker.stats.dto.ProjectTaskStats;
+import com.example.task_tracker.stats.service.ProjectTaskStatsService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller exposing per-project task statistics.
+ */
+@RestController
+@RequestMapping("/api/projects/stats")
+public class ProjectStatsController {
+
+    private final ProjectTaskStatsService statsService;
+
+    /**
+     * Creates a new {@code ProjectStatsController} with the required service dependency.
+     *
+     * @param statsService the service providing task statistics
+     */
+    public ProjectStatsController(ProjectTaskStatsService statsService) {
+        this.statsService = statsService;
+    }
+
+    /**
+     * Retrieves the task counts of all projects, broken down by status and priority.
+     *
+     * @return the statistics of every project
+     */
+    @GetMapping
+    public List<ProjectTaskStats> getStats() {
+        return statsService.getAllStats();
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.example.task_tracker.stats.dto;
+
+/**
+ * Response model for the task statistics of a single project.
+ *
+ * @param projectId the project identifier
+ * @param taskCounts the task counts of the project
+ */
+public record ProjectTaskStats(Long projectId, TaskCounts taskCounts) {
+}
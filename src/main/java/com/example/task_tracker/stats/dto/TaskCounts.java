@@ -0,0 +1,18 @@
+package com.example.task_tracker.stats.dto;
+
+import java.util.Map;
+
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+
+/**
+ * Number of tasks of a project, in total and broken down by status and priority.
+ * Every status and priority is present in the maps, with {@code 0} if no task matches.
+ *
+ * @param total the total number of tasks
+ * @param byStatus the number of tasks per status
+ * @param byPriority the number of tasks per priority
+ */
+public record TaskCounts(long total, Map<TaskStatus, Long> byStatus,
+    Map<TaskPriority, Long> byPriority) {
+}
@@ -0,0 +1,81 @@
+package com.example.task_tracker.stats.model;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/**
+ * JPA entity holding the number of tasks of one project with a given status and priority.
+ * <p>
+ * Counters are maintained incrementally by the task write paths, so per-project statistics
+ * can be read without scanning the {@code tasks} table.
+ */
+@Entity
+@Table(name = "project_task_counters")
+public class ProjectTaskCounter implements Persistable<ProjectTaskCounterId> {
+
+    @EmbeddedId
+    private ProjectTaskCounterId id;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    /**
+     * Counters have assigned keys; this flag lets Spring Data persist new counters directly
+     * instead of merging them, which would cost an extra SELECT per counter.
+     */
+    @Transient
+    private boolean isNew = true;
+
+    /**
+     * Protected no-args constructor required by JPA.
+     */
+    protected ProjectTaskCounter() {}
+
+    /**
+     * Creates a new counter.
+     *
+     * @param id the counter key
+     * @param taskCount the initial number of tasks
+     */
+    public ProjectTaskCounter(ProjectTaskCounterId id, long taskCount) {
+        this.id = id;
+        this.taskCount = taskCount;
+    }
+
+    /**
+     * Lifecycle callback marking the counter as persistent once it was loaded or stored.
+     */
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public ProjectTaskCounterId getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /** @return the number of tasks */
+    public long getTaskCount() {
+        return taskCount;
+    }
+
+    /** @param taskCount the number of tasks */
+    public void setTaskCount(long taskCount) {
+        this.taskCount = taskCount;
+    }
+
+}
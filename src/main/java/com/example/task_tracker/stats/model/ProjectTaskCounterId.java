@@ -0,0 +1,98 @@
+package com.example.task_tracker.stats.model;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.Objects;
+
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+/**
+ * Composite key of a {@link ProjectTaskCounter}: one counter exists per project, status and
+ * priority.
+ * <p>
+ * Keys are ordered by project, status and priority. Counter rows are always updated and locked
+ * in this order, so that concurrent transactions cannot deadlock. Status and priority compare
+ * by name, as the database stores and sorts them.
+ */
+@Embeddable
+public class ProjectTaskCounterId implements Serializable, Comparable<ProjectTaskCounterId> {
+
+    private static final Comparator<ProjectTaskCounterId> ORDER = Comparator
+        .comparing(ProjectTaskCounterId::getProjectId,
+            Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(id -> id.getStatus().name())
+        .thenComparing(id -> id.getPriority().name());
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TaskPriority priority;
+
+    /**
+     * Protected no-args constructor required by JPA.
+     */
+    protected ProjectTaskCounterId() {}
+
+    /**
+     * Creates a new counter key.
+     *
+     * @param projectId the project identifier
+     * @param status the task status
+     * @param priority the task priority
+     */
+    public ProjectTaskCounterId(Long projectId, TaskStatus status, TaskPriority priority) {
+        this.projectId = projectId;
+        this.status = status;
+        this.priority = priority;
+    }
+
+    /** @return the project identifier */
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    /** @return the task status */
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    /** @return the task priority */
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    @Override
+    public int compareTo(ProjectTaskCounterId other) {
+        return ORDER.compare(this, other);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ProjectTaskCounterId other)) {
+            return false;
+        }
+        return Objects.equals(projectId, other.projectId) && status == other.status
+            && priority == other.priority;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(projectId, status, priority);
+    }
+
+}
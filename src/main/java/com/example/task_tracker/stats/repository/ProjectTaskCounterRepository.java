@@ -0,0 +1,84 @@
+package com.example.task_tracker.stats.repository;
+
+import java.util.List;
+
+import com.example.task_tracker.stats.model.ProjectTaskCounter;
+import com.example.task_tracker.stats.model.ProjectTaskCounterId;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Repository interface for accessing and maintaining {@link ProjectTaskCounter} entities.
+ */
+public interface ProjectTaskCounterRepository
+    extends JpaRepository<ProjectTaskCounter, ProjectTaskCounterId>
+{
+
+    /**
+     * Retrieves all counters of a project.
+     *
+     * @param projectId the project identifier
+     * @return the counters of the project
+     */
+    List<ProjectTaskCounter> findAllByIdProjectId(Long projectId);
+
+    /**
+     * Retrieves all counters and locks their rows until the end of the surrounding
+     * transaction. Rows are locked in {@link ProjectTaskCounterId} order, the order in which
+     * counters are updated.
+     *
+     * @return all counters
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select c from ProjectTaskCounter c
+        order by c.id.projectId, c.id.status, c.id.priority
+        """)
+    List<ProjectTaskCounter> lockAll();
+
+    /**
+     * Adds a delta to a single counter in the database.
+     *
+     * @param projectId the project identifier
+     * @param status the task status
+     * @param priority the task priority
+     * @param delta the value to add (negative to decrement)
+     * @return the number of updated counters, {@code 0} if the counter does not exist
+     */
+    @Modifying
+    @Query("""
+        update ProjectTaskCounter c set c.taskCount = c.taskCount + :delta
+        where c.id.projectId = :projectId and c.id.status = :status
+            and c.id.priority = :priority
+        """)
+    int increment(
+        @Param("projectId") Long projectId, @Param("status") TaskStatus status,
+        @Param("priority") TaskPriority priority, @Param("delta") long delta);
+
+    /**
+     * Counts all tasks that belong to a project, grouped by project, status and priority.
+     * Used to rebuild the counters from scratch.
+     *
+     * @return rows of project ID, status, priority and task count
+     */
+    @Query("""
+        select t.project.id, t.status, t.priority, count(t) from Task t
+        where t.project is not null
+        group by t.project.id, t.status, t.priority
+        """)
+    List<Object[]> countTasksByProjectStatusAndPriority();
+
+    /**
+     * @return the IDs of all projects
+     */
+    @Query("select p.id from Project p")
+    List<Long> findAllProjectIds();
+
+}
@@ -0,0 +1,39 @@
+package com.example.task_tracker.stats.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically rebuilds the project task counters from the {@code tasks} table.
+ * <p>
+ * Counters are maintained incrementally and should always be exact; the rebuild repairs drift
+ * caused by changes that bypass the application, such as manual SQL. Scheduled via
+ * {@code tasktracker.stats.rebuild-cron} and can be disabled with
+ * {@code tasktracker.stats.rebuild-enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "tasktracker.stats.rebuild-enabled", havingValue = "true", matchIfMissing = true)
+public class ProjectTaskStatsRebuildJob {
+
+    private final ProjectTaskStatsService statsService;
+
+    /**
+     * Creates a new {@code ProjectTaskStatsRebuildJob}.
+     *
+     * @param statsService the service performing the rebuild
+     */
+    public ProjectTaskStatsRebuildJob(ProjectTaskStatsService statsService) {
+        this.statsService = statsService;
+    }
+
+    /**
+     * Rebuilds all counters.
+     */
+    @Scheduled(cron = "${tasktracker.stats.rebuild-cron:0 0 3 * * *}")
+    public void rebuild() {
+        statsService.rebuild();
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.example.task_tracker.stats.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.example.task_tracker.stats.dto.ProjectTaskStats;
+import com.example.task_tracker.stats.dto.TaskCounts;
+import com.example.task_tracker.stats.model.ProjectTaskCounterId;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+
+/**
+ * Service interface for reading and maintaining per-project task statistics.
+ * <p>
+ * Statistics are backed by counters that the task write paths update within their own
+ * transactions. Reading them costs one row per project, status and priority, independent of
+ * the number of tasks. Tasks without a project are not counted.
+ */
+public interface ProjectTaskStatsService {
+
+    /**
+     * Returns the task counts of all projects.
+     *
+     * @return the statistics of every project
+     */
+    List<ProjectTaskStats> getAllStats();
+
+    /**
+     * Returns the task counts of all projects keyed by project ID.
+     *
+     * @return the task counts per project ID
+     */
+    Map<Long, TaskCounts> getAllCounts();
+
+    /**
+     * Returns the task counts of a single project.
+     *
+     * @param projectId the project identifier
+     * @return the task counts, all zero if the project has no counters
+     */
+    TaskCounts getCounts(Long projectId);
+
+    /**
+     * Creates zeroed counters for a newly created project.
+     *
+     * @param projectId the project identifier
+     */
+    void initializeProject(Long projectId);
+
+    /**
+     * Records that a task was created. Does nothing if the task has no project.
+     *
+     * @param projectId the project of the task (may be {@code null})
+     * @param status the status of the task
+     * @param priority the priority of the task
+     */
+    void recordCreated(Long projectId, TaskStatus status, TaskPriority priority);
+
+    /**
+     * Records that a task was deleted. Does nothing if the task had no project.
+     *
+     * @param projectId the project of the task (may be {@code null})
+     * @param status the status of the task
+     * @param priority the priority of the task
+     */
+    void recordDeleted(Long projectId, TaskStatus status, TaskPriority priority);
+
+    /**
+     * Applies several counter changes at once, e.g. after a batch operation or when a task
+     * moves between counters. The counters are updated in {@link ProjectTaskCounterId} order.
+     * Deltas of zero and counters without a project are skipped.
+     *
+     * @param deltas the value to add per counter
+     */
+    void applyDeltas(Map<ProjectTaskCounterId, Long> deltas);
+
+    /**
+     * Recomputes all counters from the {@code tasks} table to repair any drift. The counters
+     * are locked for the duration, so task writes that change them wait for the rebuild.
+     */
+    void rebuild();
+
+}
@@ -0,0 +1,205 @@
+package com.example.task_tracker.stats.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.example.task_tracker.stats.dto.ProjectTaskStats;
+import com.example.task_tracker.stats.dto.TaskCounts;
+import com.example.task_tracker.stats.model.ProjectTaskCounter;
+import com.example.task_tracker.stats.model.ProjectTaskCounterId;
+import com.example.task_tracker.stats.repository.ProjectTaskCounterRepository;
+import com.example.task_tracker.sync.service.ChangeLogService;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Default implementation of {@link ProjectTaskStatsService} backed by
+ * {@link ProjectTaskCounterRepository}.
+ * <p>
+ * Write methods join the caller's transaction, so counter changes commit or roll back together
+ * with the task change they describe. All counter changes go through
+ * {@link #applyDeltas(Map)}, which updates the rows in {@link ProjectTaskCounterId} order so
+ * that concurrent transactions touching the same counters cannot deadlock.
+ */
+@Service
+public class ProjectTaskStatsServiceImpl implements ProjectTaskStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectTaskStatsServiceImpl.class);
+
+    private final ProjectTaskCounterRepository counterRepository;
+    private final ChangeLogService changeLogService;
+
+    /**
+     * Creates a new {@code ProjectTaskStatsServiceImpl} with the given dependencies.
+     *
+     * @param counterRepository the repository used for counter persistence
+     * @param changeLogService the change log, advanced when a rebuild corrects counters
+     */
+    public ProjectTaskStatsServiceImpl(
+        ProjectTaskCounterRepository counterRepository, ChangeLogService changeLogService)
+    {
+        this.counterRepository = counterRepository;
+        this.changeLogService = changeLogService;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectTaskStats> getAllStats() {
+        return getAllCounts().entrySet().stream()
+            .map(entry -> new ProjectTaskStats(entry.getKey(), entry.getValue())).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, TaskCounts> getAllCounts() {
+        Map<Long, List<ProjectTaskCounter>> countersByProject = new HashMap<>();
+        for (ProjectTaskCounter counter : counterRepository.findAll()) {
+            countersByProject
+                .computeIfAbsent(counter.getId().getProjectId(), id -> new ArrayList<>())
+                .add(counter);
+        }
+        Map<Long, TaskCounts> counts = new HashMap<>();
+        countersByProject.forEach((projectId, counters) -> counts.put(projectId, sum(counters)));
+        return counts;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskCounts getCounts(Long projectId) {
+        return sum(counterRepository.findAllByIdProjectId(projectId));
+    }
+
+    @Override
+    @Transactional
+    public void initializeProject(Long projectId) {
+        List<ProjectTaskCounter> counters = new ArrayList<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            for (TaskPriority priority : TaskPriority.values()) {
+                counters.add(
+                    new ProjectTaskCounter(
+                        new ProjectTaskCounterId(projectId, status, priority), 0));
+            }
+        }
+        counterRepository.saveAll(counters);
+    }
+
+    @Override
+    @Transactional
+    public void recordCreated(Long projectId, TaskStatus status, TaskPriority priority) {
+        applyDeltas(Map.of(new ProjectTaskCounterId(projectId, status, priority), 1L));
+    }
+
+    @Override
+    @Transactional
+    public void recordDeleted(Long projectId, TaskStatus status, TaskPriority priority) {
+        applyDeltas(Map.of(new ProjectTaskCounterId(projectId, status, priority), -1L));
+    }
+
+    @Override
+    @Transactional
+    public void applyDeltas(Map<ProjectTaskCounterId, Long> deltas) {
+        new TreeMap<>(deltas).forEach((id, delta) -> {
+            if (id.getProjectId() != null && delta != 0) {
+                increment(id, delta);
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public void rebuild() {
+        // Lock the counters before counting: writers that already changed a counter are
+        // waited for, so their tasks are counted; writers that have not yet changed one wait
+        // for the rebuild and apply their delta to the rebuilt value.
+        Map<ProjectTaskCounterId, ProjectTaskCounter> existing = new HashMap<>();
+        for (ProjectTaskCounter counter : counterRepository.lockAll()) {
+            existing.put(counter.getId(), counter);
+        }
+
+        Map<ProjectTaskCounterId, Long> actual = new HashMap<>();
+        for (Object[] row : counterRepository.countTasksByProjectStatusAndPriority()) {
+            actual.put(
+                new ProjectTaskCounterId(
+                    (Long) row[0], (TaskStatus) row[1], (TaskPriority) row[2]),
+                (Long) row[3]);
+        }
+
+        // Managed counters are corrected in place; only drifted ones are written on flush.
+        List<ProjectTaskCounter> missing = new ArrayList<>();
+        int corrected = 0;
+        for (Long projectId : counterRepository.findAllProjectIds()) {
+            for (TaskStatus status : TaskStatus.values()) {
+                for (TaskPriority priority : TaskPriority.values()) {
+                    ProjectTaskCounterId id = new ProjectTaskCounterId(projectId, status, priority);
+                    long count = actual.getOrDefault(id, 0L);
+                    ProjectTaskCounter counter = existing.get(id);
+                    if (counter == null) {
+                        missing.add(new ProjectTaskCounter(id, count));
+                    } else if (counter.getTaskCount() != count) {
+                        counter.setTaskCount(count);
+                        corrected++;
+                    }
+                }
+            }
+        }
+        counterRepository.saveAll(missing);
+        if (corrected > 0 || !missing.isEmpty()) {
+            // Project lists include the counts, so their version must change.
+            changeLogService.recordDerivedChange();
+        }
+        log.info(
+            "Rebuilt project task counters: {} corrected, {} created.", corrected,
+            missing.size());
+    }
+
+    /**
+     * Adds a delta to a counter, creating the counter if it is missing.
+     *
+     * @param id the counter key
+     * @param delta the value to add
+     */
+    private void increment(ProjectTaskCounterId id, long delta) {
+        int updated = counterRepository
+            .increment(id.getProjectId(), id.getStatus(), id.getPriority(), delta);
+        if (updated == 0) {
+            log.warn(
+                "Missing task counter for project {}, status {}, priority {}; creating it.",
+                id.getProjectId(), id.getStatus(), id.getPriority());
+            counterRepository.save(new ProjectTaskCounter(id, Math.max(delta, 0)));
+        }
+    }
+
+    /**
+     * Aggregates the counters of one project.
+     *
+     * @param counters the counters to aggregate
+     * @return the task counts
+     */
+    private static TaskCounts sum(List<ProjectTaskCounter> counters) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, 0L);
+        }
+
+        long total = 0;
+        for (ProjectTaskCounter counter : counters) {
+            total += counter.getTaskCount();
+            byStatus.merge(counter.getId().getStatus(), counter.getTaskCount(), Long::sum);
+            byPriority.merge(counter.getId().getPriority(), counter.getTaskCount(), Long::sum);
+        }
+        return new TaskCounts(total, byStatus, byPriority);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.example.task_tracker.suggest.controller;
+
+import com.example.task_tracker.suggest.dto.SuggestionResponse;
+import com.example.task_tracker.suggest.service.SuggestionService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller exposing typeahead suggestions for task titles and project names.
+ */
+@RestController
+@RequestMapping("/api/suggest")
+public class SuggestionController {
+
+    private final SuggestionService suggestionService;
+
+    /**
+     * Creates a new {@code SuggestionController} with the required service dependency.
+     *
+     * @param suggestionService the service providing suggestions
+     */
+    public SuggestionController(SuggestionService suggestionService) {
+        this.suggestionService = suggestionService;
+    }
+
+    /**
+     * Retrieves the projects and tasks whose name or title starts with the given prefix,
+     * ignoring case. A blank prefix yields no suggestions.
+     *
+     * @param prefix the text typed so far
+     * @param limit the maximum number of suggestions per kind (at most 50)
+     * @return the suggestions in alphabetical order
+     */
+    @GetMapping
+    public SuggestionResponse suggest(
+        @RequestParam String prefix, @RequestParam(defaultValue = "10") int limit)
+    {
+        return suggestionService.suggest(prefix, limit);
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.example.task_tracker.suggest.dto;
+
+/**
+ * A single typeahead suggestion.
+ *
+ * @param id the identifier of the suggested task or project
+ * @param text the task title or project name
+ */
+public record Suggestion(Long id, String text) {
+}
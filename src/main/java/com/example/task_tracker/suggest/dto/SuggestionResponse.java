@@ -0,0 +1,12 @@
+package com.example.task_tracker.suggest.dto;
+
+import java.util.List;
+
+/**
+ * Typeahead suggestions for a prefix, grouped by kind.
+ *
+ * @param projects projects whose name starts with the prefix, in alphabetical order
+ * @param tasks tasks whose title starts with the prefix, in alphabetical order
+ */
+public record SuggestionResponse(List<Suggestion> projects, List<Suggestion> tasks) {
+}
@@ -0,0 +1,190 @@
+package com.example.task_tracker.suggest.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import com.example.task_tracker.suggest.dto.Suggestion;
+
+/**
+ * In-memory index answering case-insensitive prefix queries over short texts.
+ * <p>
+ * Entries are kept in a concurrent skip list ordered by text, so a query is a range scan that
+ * stops after the requested number of matches, in {@code O(log n + k)} regardless of how many
+ * texts share the prefix. Reads are lock-free; writers are serialized so that replacing the
+ * text of an ID is never observed half-done by another writer. Writers wait on a
+ * {@link ReentrantLock} rather than a monitor, so a virtual thread blocked behind a long
+ * {@link #replaceAll} does not pin its carrier thread.
+ * <p>
+ * Each entry costs about 180 bytes plus the text itself (two node objects, the entry, the
+ * boxed ID and the string), i.e. roughly 20 MB per 100k titles of typical length. The
+ * {@code PrefixIndexBenchmarkTest} measures the actual figure.
+ */
+public class PrefixIndex {
+
+    private record Entry(String text, long id) {
+    }
+
+    /** Sorts after any character a text can continue with. */
+    private static final char MAX_CHAR = Character.MAX_VALUE;
+
+    private static final Comparator<Entry> ORDER = Comparator
+        .comparing(Entry::text, String.CASE_INSENSITIVE_ORDER).thenComparingLong(Entry::id);
+
+    private final NavigableSet<Entry> entries = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, Entry> entriesById = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock replaceLock = new ReentrantLock();
+    /** IDs written while {@link #replaceAll} takes its snapshot; guarded by the write lock. */
+    private Set<Long> writtenDuringSnapshot;
+
+    /**
+     * Adds or replaces the text of the given ID. Blank texts remove the ID from the index.
+     *
+     * @param id the identifier the text belongs to
+     * @param text the text to index (may be {@code null})
+     */
+    public void put(long id, String text) {
+        writeLock.lock();
+        try {
+            recordWrite(id);
+            putEntry(id, text);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the text of the given ID, if present.
+     *
+     * @param id the identifier to remove
+     */
+    public void remove(long id) {
+        writeLock.lock();
+        try {
+            recordWrite(id);
+            removeEntry(id);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole content of the index with a snapshot. Readers see either the old or
+     * the new text of each ID while this runs, never an empty index.
+     * <p>
+     * IDs passed to {@link #put} or {@link #remove} while the snapshot is taken keep their
+     * current text: the snapshot may have been read before that write and would undo it.
+     * Calls are serialized.
+     *
+     * @param snapshot supplies the texts to index by identifier; called once, without holding
+     *        the write lock
+     */
+    public void replaceAll(Supplier<Map<Long, String>> snapshot) {
+        replaceLock.lock();
+        try {
+            Set<Long> written = new HashSet<>();
+            setWrittenDuringSnapshot(written);
+            try {
+                Map<Long, String> texts = snapshot.get();
+                writeLock.lock();
+                try {
+                    for (Long id : List.copyOf(entriesById.keySet())) {
+                        if (!texts.containsKey(id) && !written.contains(id)) {
+                            removeEntry(id);
+                        }
+                    }
+                    texts.forEach((id, text) -> {
+                        if (!written.contains(id)) {
+                            putEntry(id, text);
+                        }
+                    });
+                } finally {
+                    writeLock.unlock();
+                }
+            } finally {
+                setWrittenDuringSnapshot(null);
+            }
+        } finally {
+            replaceLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the first texts in alphabetical order that start with the given prefix, ignoring
+     * case and surrounding whitespace.
+     *
+     * @param prefix the prefix to look up
+     * @param limit the maximum number of results
+     * @return the matching texts together with their identifiers
+     */
+    public List<Suggestion> find(String prefix, int limit) {
+        String key = prefix.strip();
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        NavigableSet<Entry> range = entries.subSet(
+            new Entry(key, Long.MIN_VALUE), true, new Entry(key + MAX_CHAR, Long.MIN_VALUE),
+            false);
+
+        List<Suggestion> result = new ArrayList<>(Math.min(limit, 16));
+        for (Entry entry : range) {
+            result.add(new Suggestion(entry.id(), entry.text()));
+            if (result.size() == limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of indexed texts
+     */
+    public int size() {
+        return entriesById.size();
+    }
+
+    private void setWrittenDuringSnapshot(Set<Long> written) {
+        writeLock.lock();
+        try {
+            writtenDuringSnapshot = written;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void recordWrite(long id) {
+        if (writtenDuringSnapshot != null) {
+            writtenDuringSnapshot.add(id);
+        }
+    }
+
+    private void putEntry(long id, String text) {
+        if (text == null || text.isBlank()) {
+            removeEntry(id);
+            return;
+        }
+        Entry entry = new Entry(text.strip(), id);
+        Entry previous = entriesById.put(id, entry);
+        if (previous != null) {
+            entries.remove(previous);
+        }
+        entries.add(entry);
+    }
+
+    private void removeEntry(long id) {
+        Entry previous = entriesById.remove(id);
+        if (previous != null) {
+            entries.remove(previous);
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.example.task_tracker.suggest.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the suggestion indexes once the application has started.
+ * <p>
+ * The build runs asynchronously on the application task executor, so a large database does
+ * not delay readiness; until it completes, suggestions are incomplete.
+ */
+@Component
+public class SuggestionIndexInitializer {
+
+    private final SuggestionService suggestionService;
+
+    /**
+     * Creates a new {@code SuggestionIndexInitializer}.
+     *
+     * @param suggestionService the service owning the indexes
+     */
+    public SuggestionIndexInitializer(SuggestionService suggestionService) {
+        this.suggestionService = suggestionService;
+    }
+
+    /**
+     * Builds the indexes from the database.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexes() {
+        suggestionService.rebuild();
+    }
+
+}
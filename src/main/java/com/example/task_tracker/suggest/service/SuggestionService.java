@@ -0,0 +1,64 @@
+package com.example.task_tracker.suggest.service;
+
+import com.example.task_tracker.suggest.dto.SuggestionResponse;
+
+/**
+ * Service interface for typeahead suggestions of task titles and project names.
+ * <p>
+ * Suggestions are served from in-memory prefix indexes without querying the database. The
+ * indexes are built at startup and kept current by the task and project write paths, which
+ * report their changes through the {@code *Saved} and {@code *Deleted} methods.
+ */
+public interface SuggestionService {
+
+    /**
+     * Returns the projects and tasks whose name or title starts with the given prefix,
+     * ignoring case.
+     *
+     * @param prefix the text typed so far
+     * @param limit the maximum number of suggestions per kind
+     * @return the suggestions in alphabetical order
+     */
+    SuggestionResponse suggest(String prefix, int limit);
+
+    /**
+     * Records the title of a created or updated task. Within a transaction, the index is
+     * updated once the transaction has committed.
+     *
+     * @param id the task identifier
+     * @param title the current title
+     */
+    void taskSaved(Long id, String title);
+
+    /**
+     * Records the deletion of a task. Within a transaction, the index is updated once the
+     * transaction has committed.
+     *
+     * @param id the task identifier
+     */
+    void taskDeleted(Long id);
+
+    /**
+     * Records the name of a created or updated project. Within a transaction, the index is
+     * updated once the transaction has committed.
+     *
+     * @param id the project identifier
+     * @param name the current name
+     */
+    void projectSaved(Long id, String name);
+
+    /**
+     * Records the deletion of a project. Within a transaction, the index is updated once the
+     * transaction has committed.
+     *
+     * @param id the project identifier
+     */
+    void projectDeleted(Long id);
+
+    /**
+     * Rebuilds both indexes from the database. Changes recorded while the database is read
+     * are kept, even if the rebuild read the previous state.
+     */
+    void rebuild();
+
+}
@@ -0,0 +1,126 @@
+package com.example.task_tracker.suggest.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.example.task_tracker.common.ReadWriteRoutingDataSource;
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.suggest.dto.SuggestionResponse;
+import com.example.task_tracker.task.repository.TaskRepository;
+import com.example.task_tracker.task.repository.TaskTitle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Default implementation of {@link SuggestionService} backed by one {@link PrefixIndex} for
+ * task titles and one for project names.
+ * <p>
+ * Changes reported within a transaction are applied after commit, like the evictions of the
+ * project cache, so rolled back writes never show up as suggestions. A {@link #rebuild()}
+ * reads from the primary, since a replica may not have the writes the indexes already hold
+ * yet, and leaves the entries changed while it reads as they are.
+ */
+@Service
+public class SuggestionServiceImpl implements SuggestionService {
+
+    /** Upper bound for the number of suggestions per kind. */
+    static final int MAX_LIMIT = 50;
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestionServiceImpl.class);
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final PrefixIndex taskTitles = new PrefixIndex();
+    private final PrefixIndex projectNames = new PrefixIndex();
+
+    /**
+     * Creates a new {@code SuggestionServiceImpl} with the given dependencies.
+     *
+     * @param taskRepository the repository the task index is built from
+     * @param projectRepository the repository the project index is built from
+     */
+    public SuggestionServiceImpl(
+        TaskRepository taskRepository, ProjectRepository projectRepository)
+    {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    @Override
+    public SuggestionResponse suggest(String prefix, int limit) {
+        int max = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return new SuggestionResponse(projectNames.find(prefix, max), taskTitles.find(prefix, max));
+    }
+
+    @Override
+    public void taskSaved(Long id, String title) {
+        afterCommit(() -> taskTitles.put(id, title));
+    }
+
+    @Override
+    public void taskDeleted(Long id) {
+        afterCommit(() -> taskTitles.remove(id));
+    }
+
+    @Override
+    public void projectSaved(Long id, String name) {
+        afterCommit(() -> projectNames.put(id, name));
+    }
+
+    @Override
+    public void projectDeleted(Long id) {
+        afterCommit(() -> projectNames.remove(id));
+    }
+
+    @Override
+    public void rebuild() {
+        long start = System.nanoTime();
+        boolean readFromPrimary = ReadWriteRoutingDataSource.isReadFromPrimary();
+        ReadWriteRoutingDataSource.setReadFromPrimary(true);
+        try {
+            taskTitles.replaceAll(() -> {
+                Map<Long, String> titles = new HashMap<>();
+                for (TaskTitle task : taskRepository.findAllTitles()) {
+                    titles.put(task.id(), task.title());
+                }
+                return titles;
+            });
+            projectNames.replaceAll(() -> {
+                Map<Long, String> names = new HashMap<>();
+                for (Project project : projectRepository.findAll()) {
+                    names.put(project.getId(), project.getName());
+                }
+                return names;
+            });
+        } finally {
+            ReadWriteRoutingDataSource.setReadFromPrimary(readFromPrimary);
+        }
+        log.info(
+            "Built suggestion indexes for {} tasks and {} projects in {} ms", taskTitles.size(),
+            projectNames.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Runs the given index update after the current transaction has committed, or immediately
+     * if there is none.
+     *
+     * @param update the index update
+     */
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.example.task_tracker.sync.dto;
+
+/**
+ * Last change of a single task or project, as read from the change log.
+ *
+ * @param resource the resource name, e.g. {@code task}
+ * @param id the resource identifier
+ * @param deleted whether the resource was deleted
+ */
+public record ChangeLogEntry(String resource, Long id, boolean deleted) {
+}
@@ -0,0 +1,13 @@
+package com.example.task_tracker.sync.dto;
+
+import java.util.List;
+
+/**
+ * Consecutive entries of the change log.
+ *
+ * @param entries the entries in change log order
+ * @param next the position to continue from
+ * @param hasMore whether further entries follow right away
+ */
+public record ChangeLogPage(List<ChangeLogEntry> entries, ChangeToken next, boolean hasMore) {
+}
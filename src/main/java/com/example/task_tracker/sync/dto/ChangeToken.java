@@ -0,0 +1,74 @@
+package com.example.task_tracker.sync.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.example.task_tracker.task.exception.InvalidCursorException;
+
+/**
+ * Position in the change log up to which a client has synchronized.
+ * <p>
+ * Entries are ordered by sequence number, resource name and ID, so a position within a large
+ * transaction can be resumed. Clients receive the position as an opaque, URL-safe Base64
+ * token.
+ *
+ * @param sequence the sequence number of the last received entry
+ * @param resource the resource name of the last received entry
+ * @param resourceId the resource ID of the last received entry
+ */
+public record ChangeToken(long sequence, String resource, long resourceId) {
+
+    /** Position before the first entry, used for the initial synchronization. */
+    public static final ChangeToken INITIAL = new ChangeToken(0, "", 0);
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Returns the position after all entries up to the given sequence number.
+     *
+     * @param sequence the last sequence number the client has received completely
+     * @return the position before the first entry of the next sequence number
+     */
+    public static ChangeToken afterSequence(long sequence) {
+        return new ChangeToken(sequence + 1, "", 0);
+    }
+
+    /**
+     * @return whether this is the position before the first entry
+     */
+    public boolean isInitial() {
+        return equals(INITIAL);
+    }
+
+    /**
+     * @return the opaque token of this position
+     */
+    public String encode() {
+        String raw = String.join(
+            SEPARATOR, VERSION, Long.toString(sequence), resource, Long.toString(resourceId));
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token created by {@link #encode()}.
+     *
+     * @param token the opaque token
+     * @return the position
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static ChangeToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new InvalidCursorException("Malformed change token");
+            }
+            return new ChangeToken(Long.parseLong(parts[1]), parts[2], Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Malformed change token");
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.example.task_tracker.sync.exception;
+
+/**
+ * Exception thrown when a change token is older than the retained tombstones, so that the
+ * deletions since then can no longer be reported. The client has to synchronize from scratch.
+ */
+public class ChangeTokenExpiredException extends RuntimeException {
+
+    /**
+     * Creates a new exception with a default message.
+     */
+    public ChangeTokenExpiredException() {
+        super("The change token has expired; synchronize again without a token");
+    }
+
+}
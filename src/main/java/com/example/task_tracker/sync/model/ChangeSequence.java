@@ -0,0 +1,47 @@
+package com.example.task_tracker.sync.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * JPA entity for the single row numbering the transactions recorded in the change log.
+ * <p>
+ * A writer increments {@link #getLastValue() lastValue} right before it commits and holds the
+ * row lock until then, so sequence numbers become visible in the order they were handed out.
+ */
+@Entity
+@Table(name = "change_sequence")
+public class ChangeSequence {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "last_value", nullable = false)
+    private long lastValue;
+
+    @Column(name = "purged_through", nullable = false)
+    private long purgedThrough;
+
+    /**
+     * Protected no-args constructor required by JPA.
+     */
+    protected ChangeSequence() {}
+
+    /** @return the identifier, always {@code 1} */
+    public Integer getId() {
+        return id;
+    }
+
+    /** @return the last sequence number handed out */
+    public long getLastValue() {
+        return lastValue;
+    }
+
+    /** @return the highest sequence number of a purged tombstone */
+    public long getPurgedThrough() {
+        return purgedThrough;
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.example.task_tracker.sync.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/**
+ * JPA entity recording the last change of a task or project for delta synchronization.
+ * <p>
+ * The entry holds the sequence number of the transaction that changed the resource last. For
+ * a deleted resource, it remains as a tombstone until the retention window has passed.
+ */
+@Entity
+@Table(name = "resource_changes")
+public class ResourceChange implements Persistable<ResourceChangeId> {
+
+    @EmbeddedId
+    private ResourceChangeId id;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    /**
+     * Entries of created resources are known to be new; this flag lets Spring Data persist
+     * them directly instead of merging them, which would cost an extra SELECT per entry.
+     */
+    @Transient
+    private boolean isNew = true;
+
+    /**
+     * Protected no-args constructor required by JPA.
+     */
+    protected ResourceChange() {}
+
+    /**
+     * Creates a new change log entry.
+     *
+     * @param id the resource name and ID
+     * @param changeSeq the sequence number of the change
+     * @param deleted whether the resource was deleted
+     * @param changedAt the time of the change
+     */
+    public ResourceChange(
+        ResourceChangeId id, long changeSeq, boolean deleted, LocalDateTime changedAt)
+    {
+        this.id = id;
+        this.changeSeq = changeSeq;
+        this.deleted = deleted;
+        this.changedAt = changedAt;
+    }
+
+    /**
+     * Lifecycle callback marking the entry as persistent once it was loaded or stored.
+     */
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public ResourceChangeId getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /** @return the sequence number of the last change */
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    /** @return whether the resource was deleted */
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    /** @return the time of the last change */
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.example.task_tracker.sync.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * Composite key of a {@link ResourceChange}: one entry exists per resource name and ID.
+ */
+@Embeddable
+public class ResourceChangeId implements Serializable {
+
+    @Column(nullable = false, length = 20)
+    private String resource;
+
+    @Column(name = "resource_id", nullable = false)
+    private Long resourceId;
+
+    /**
+     * Protected no-args constructor required by JPA.
+     */
+    protected ResourceChangeId() {}
+
+    /**
+     * Creates a new change log key.
+     *
+     * @param resource the resource name, e.g. {@code task}
+     * @param resourceId the resource identifier
+     */
+    public ResourceChangeId(String resource, Long resourceId) {
+        this.resource = resource;
+        this.resourceId = resourceId;
+    }
+
+    /** @return the resource name */
+    public String getResource() {
+        return resource;
+    }
+
+    /** @return the resource identifier */
+    public Long getResourceId() {
+        return resourceId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ResourceChangeId other)) {
+            return false;
+        }
+        return Objects.equals(resource, other.resource)
+            && Objects.equals(resourceId, other.resourceId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(resource, resourceId);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.example.task_tracker.sync.repository;
+
+import com.example.task_tracker.sync.model.ChangeSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository interface for the {@link ChangeSequence} row.
+ */
+public interface ChangeSequenceRepository extends JpaRepository<ChangeSequence, Integer> {
+
+    /**
+     * Hands out the next sequence number. The row stays locked until the current transaction
+     * ends, so concurrent writers wait here and commit in sequence order.
+     *
+     * @return the number of updated rows, {@code 1}
+     */
+    @Modifying
+    @Query("update ChangeSequence s set s.lastValue = s.lastValue + 1 where s.id = 1")
+    int advance();
+
+    /**
+     * @return the last sequence number handed out
+     */
+    @Query("select s.lastValue from ChangeSequence s where s.id = 1")
+    long findLastValue();
+
+    /**
+     * @return the highest sequence number of a purged tombstone
+     */
+    @Query("select s.purgedThrough from ChangeSequence s where s.id = 1")
+    long findPurgedThrough();
+
+    /**
+     * Raises the highest sequence number of a purged tombstone.
+     *
+     * @param changeSeq the sequence number of the last purged tombstone
+     * @return the number of updated rows, {@code 0} if the value was already higher
+     */
+    @Modifying
+    @Query("""
+        update ChangeSequence s set s.purgedThrough = :changeSeq
+        where s.id = 1 and s.purgedThrough < :changeSeq
+        """)
+    int raisePurgedThrough(@Param("changeSeq") long changeSeq);
+
+}
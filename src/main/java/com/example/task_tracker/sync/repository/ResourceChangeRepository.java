@@ -0,0 +1,102 @@
+package com.example.task_tracker.sync.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import com.example.task_tracker.sync.model.ResourceChange;
+import com.example.task_tracker.sync.model.ResourceChangeId;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository interface for reading and maintaining the {@link ResourceChange} log.
+ */
+public interface ResourceChangeRepository extends JpaRepository<ResourceChange, ResourceChangeId> {
+
+    /**
+     * Retrieves the entries after the given position, ordered by sequence number, resource
+     * name and ID. Served by a range scan of {@code idx_resource_changes_seq}.
+     *
+     * @param changeSeq the sequence number of the position
+     * @param resource the resource name of the position
+     * @param resourceId the resource ID of the position
+     * @param limit the maximum number of entries
+     * @return the entries following the position
+     */
+    @Query("""
+        select c from ResourceChange c
+        where c.changeSeq >= :changeSeq
+            and (c.changeSeq > :changeSeq or c.id.resource > :resource
+                or (c.id.resource = :resource and c.id.resourceId > :resourceId))
+        order by c.changeSeq, c.id.resource, c.id.resourceId
+        """)
+    List<ResourceChange> findAfter(
+        @Param("changeSeq") long changeSeq, @Param("resource") String resource,
+        @Param("resourceId") long resourceId, Limit limit);
+
+    /**
+     * Moves existing entries to a new sequence number.
+     *
+     * @param resource the resource name
+     * @param resourceIds the resource IDs
+     * @param changeSeq the new sequence number
+     * @param deleted whether the resources were deleted
+     * @param changedAt the time of the change
+     * @return the number of updated entries, less than the number of IDs if some are missing
+     */
+    @Modifying
+    @Query("""
+        update ResourceChange c
+        set c.changeSeq = :changeSeq, c.deleted = :deleted, c.changedAt = :changedAt
+        where c.id.resource = :resource and c.id.resourceId in :resourceIds
+        """)
+    int markChanged(
+        @Param("resource") String resource, @Param("resourceIds") Collection<Long> resourceIds,
+        @Param("changeSeq") long changeSeq, @Param("deleted") boolean deleted,
+        @Param("changedAt") LocalDateTime changedAt);
+
+    /**
+     * Returns which of the given resources have an entry.
+     *
+     * @param resource the resource name
+     * @param resourceIds the resource IDs
+     * @return the IDs that have an entry
+     */
+    @Query("""
+        select c.id.resourceId from ResourceChange c
+        where c.id.resource = :resource and c.id.resourceId in :resourceIds
+        """)
+    List<Long> findExistingIds(
+        @Param("resource") String resource, @Param("resourceIds") Collection<Long> resourceIds);
+
+    /**
+     * @param changedBefore the end of the retention window
+     * @return the highest sequence number of the tombstones older than the retention window,
+     *         or {@code null} if there are none
+     */
+    @Query("""
+        select max(c.changeSeq) from ResourceChange c
+        where c.deleted = true and c.changedAt < :changedBefore
+        """)
+    Long findLastTombstoneSeqBefore(@Param("changedBefore") LocalDateTime changedBefore);
+
+    /**
+     * Deletes the tombstones older than the retention window, up to a sequence number.
+     *
+     * @param changedBefore the end of the retention window
+     * @param changeSeq the highest sequence number to delete
+     * @return the number of deleted tombstones
+     */
+    @Modifying
+    @Query("""
+        delete from ResourceChange c
+        where c.deleted = true and c.changedAt < :changedBefore and c.changeSeq <= :changeSeq
+        """)
+    int deleteTombstones(
+        @Param("changedBefore") LocalDateTime changedBefore, @Param("changeSeq") long changeSeq);
+
+}
@@ -0,0 +1,70 @@
+package com.example.task_tracker.sync.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import com.example.task_tracker.event.dto.ChangeEvent;
+import com.example.task_tracker.sync.dto.ChangeLogPage;
+import com.example.task_tracker.sync.dto.ChangeToken;
+
+/**
+ * Service interface maintaining the change log used for delta synchronization.
+ * <p>
+ * Every task and project has one change log entry carrying the sequence number of the
+ * transaction that changed it last. Changes are collected during a transaction and written
+ * right before it commits, so sequence numbers become visible in increasing order.
+ */
+public interface ChangeLogService {
+
+    /**
+     * Records a change within the current transaction, or in a transaction of its own if none
+     * is active. Updates that did not change any field are ignored.
+     *
+     * @param event the change of a task or project
+     */
+    void record(ChangeEvent event);
+
+    /**
+     * Records newly created resources, e.g. after an import that bypasses change events.
+     *
+     * @param resource the resource name, {@link ChangeEvent#TASK} or {@link ChangeEvent#PROJECT}
+     * @param ids the IDs of the created resources
+     */
+    void recordCreated(String resource, Collection<Long> ids);
+
+    /**
+     * Advances the sequence when the current transaction commits without recording a change
+     * of a task or project, e.g. after task counts were corrected. Clients holding a version
+     * from {@link #getLastSequence()} then reload.
+     */
+    void recordDerivedChange();
+
+    /**
+     * Returns the sequence number of the last committed change. It changes with every write of
+     * a task or project and costs a single primary-key lookup, so it serves as the version of
+     * the task and project lists.
+     *
+     * @return the last sequence number
+     */
+    long getLastSequence();
+
+    /**
+     * Returns the entries after the given position.
+     *
+     * @param after the position of the last entry the client has received
+     * @param limit the maximum number of entries
+     * @return the following entries
+     * @throws com.example.task_tracker.sync.exception.ChangeTokenExpiredException if tombstones
+     *         after the position have already been purged
+     */
+    ChangeLogPage getChanges(ChangeToken after, int limit);
+
+    /**
+     * Removes the tombstones of resources deleted before the given time.
+     *
+     * @param deletedBefore the end of the retention window
+     * @return the number of removed tombstones
+     */
+    int purgeTombstones(LocalDateTime deletedBefore);
+
+}
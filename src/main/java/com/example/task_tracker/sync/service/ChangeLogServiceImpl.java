@@ -0,0 +1,288 @@
+package com.example.task_tracker.sync.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.task_tracker.event.dto.ChangeEvent;
+import com.example.task_tracker.event.dto.ChangeType;
+import com.example.task_tracker.sync.dto.ChangeLogEntry;
+import com.example.task_tracker.sync.dto.ChangeLogPage;
+import com.example.task_tracker.sync.dto.ChangeToken;
+import com.example.task_tracker.sync.exception.ChangeTokenExpiredException;
+import com.example.task_tracker.sync.model.ResourceChange;
+import com.example.task_tracker.sync.model.ResourceChangeId;
+import com.example.task_tracker.sync.repository.ChangeSequenceRepository;
+import com.example.task_tracker.sync.repository.ResourceChangeRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Default implementation of {@link ChangeLogService} backed by {@link ResourceChangeRepository}.
+ * <p>
+ * Change events published by the task and project services are collected per transaction. Right
+ * before the transaction commits, it takes the next sequence number, which keeps the sequence
+ * row locked until the commit, and moves all collected resources to it: one UPDATE per resource
+ * type and chunk of IDs, and batched INSERTs for created resources. The lock serializes only
+ * this last step of concurrent writers.
+ */
+@Service
+public class ChangeLogServiceImpl implements ChangeLogService {
+
+    /** Number of IDs per UPDATE statement when moving entries to a new sequence number. */
+    static final int UPDATE_CHUNK_SIZE = 1000;
+
+    private final ResourceChangeRepository changeRepository;
+    private final ChangeSequenceRepository sequenceRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Creates a new {@code ChangeLogServiceImpl} with the given dependencies.
+     *
+     * @param changeRepository the repository of change log entries
+     * @param sequenceRepository the repository handing out sequence numbers
+     * @param transactionManager the transaction manager used for changes recorded outside of a
+     *        transaction
+     */
+    public ChangeLogServiceImpl(
+        ResourceChangeRepository changeRepository, ChangeSequenceRepository sequenceRepository,
+        PlatformTransactionManager transactionManager)
+    {
+        this.changeRepository = changeRepository;
+        this.sequenceRepository = sequenceRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @EventListener
+    public void record(ChangeEvent event) {
+        if (event.isEmptyUpdate()) {
+            return;
+        }
+        inTransaction(() -> pendingChanges().add(event.resource(), event.id(), event.type()));
+    }
+
+    @Override
+    public void recordCreated(String resource, Collection<Long> ids) {
+        inTransaction(() -> {
+            PendingChanges pending = pendingChanges();
+            ids.forEach(id -> pending.add(resource, id, ChangeType.CREATED));
+        });
+    }
+
+    @Override
+    public void recordDerivedChange() {
+        // Registering the write is enough; it advances the sequence even without entries.
+        inTransaction(this::pendingChanges);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getLastSequence() {
+        return sequenceRepository.findLastValue();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeLogPage getChanges(ChangeToken after, int limit) {
+        // Every number up to the last one handed out is committed, since writers commit in
+        // sequence order. Read before the entries, so none committed in between is skipped.
+        long lastSeq = sequenceRepository.findLastValue();
+        // Fetch one extra entry to find out whether there are more.
+        List<ResourceChange> changes = changeRepository.findAfter(
+            after.sequence(), after.resource(), after.resourceId(), Limit.of(limit + 1));
+        // Checked after reading, so a purge running concurrently cannot go unnoticed.
+        if (!after.isInitial() && after.sequence() <= sequenceRepository.findPurgedThrough()) {
+            throw new ChangeTokenExpiredException();
+        }
+
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+        }
+        List<ChangeLogEntry> entries = changes.stream()
+            .map(change -> new ChangeLogEntry(
+                change.getId().getResource(), change.getId().getResourceId(),
+                change.isDeleted()))
+            .toList();
+
+        ChangeToken next = changes.isEmpty() ? after : positionOf(changes.get(changes.size() - 1));
+        if (!hasMore && next.sequence() <= lastSeq) {
+            // Continue after the last committed number rather than the last entry: if later
+            // entries were purged tombstones, a token pointing before them would have expired.
+            next = ChangeToken.afterSequence(lastSeq);
+        }
+        return new ChangeLogPage(entries, next, hasMore);
+    }
+
+    @Override
+    @Transactional
+    public int purgeTombstones(LocalDateTime deletedBefore) {
+        Long lastSeq = changeRepository.findLastTombstoneSeqBefore(deletedBefore);
+        if (lastSeq == null) {
+            return 0;
+        }
+        sequenceRepository.raisePurgedThrough(lastSeq);
+        return changeRepository.deleteTombstones(deletedBefore, lastSeq);
+    }
+
+    /**
+     * Returns the position of a change log entry.
+     *
+     * @param change the entry
+     * @return the position right after the entry
+     */
+    private static ChangeToken positionOf(ResourceChange change) {
+        return new ChangeToken(
+            change.getChangeSeq(), change.getId().getResource(), change.getId().getResourceId());
+    }
+
+    /**
+     * Runs the given action in the current transaction, or in a new one if none is active.
+     *
+     * @param action the action collecting changes
+     */
+    private void inTransaction(Runnable action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            action.run();
+        } else {
+            transactionTemplate.executeWithoutResult(status -> action.run());
+        }
+    }
+
+    /**
+     * Returns the changes collected in the current transaction, registering their write on the
+     * first call.
+     *
+     * @return the collected changes
+     */
+    private PendingChanges pendingChanges() {
+        PendingChanges pending =
+            (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        PendingChanges created = new PendingChanges();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(ChangeLogServiceImpl.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(ChangeLogServiceImpl.this, created);
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                write(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(
+                    ChangeLogServiceImpl.this);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Writes the collected changes of a transaction under a new sequence number.
+     *
+     * @param pending the collected changes
+     */
+    private void write(PendingChanges pending) {
+        // Send the pending entity changes first: their row locks must be taken before the
+        // sequence lock, or a writer could wait for a row while holding it.
+        changeRepository.flush();
+        sequenceRepository.advance();
+        long changeSeq = sequenceRepository.findLastValue();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        List<ResourceChange> inserts = new ArrayList<>();
+        Map<UpdateGroup, List<Long>> updates = new LinkedHashMap<>();
+        pending.changes.forEach((id, change) -> {
+            if (change.created()) {
+                inserts.add(new ResourceChange(id, changeSeq, change.deleted(), now));
+            } else {
+                updates.computeIfAbsent(
+                    new UpdateGroup(id.getResource(), change.deleted()),
+                    group -> new ArrayList<>()).add(id.getResourceId());
+            }
+        });
+
+        updates.forEach((group, ids) -> {
+            for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+                List<Long> chunk =
+                    ids.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, ids.size()));
+                int updated = changeRepository
+                    .markChanged(group.resource(), chunk, changeSeq, group.deleted(), now);
+                if (updated < chunk.size()) {
+                    // Resources written by other means than this service have no entry yet.
+                    Set<Long> existing =
+                        new HashSet<>(changeRepository.findExistingIds(group.resource(), chunk));
+                    for (Long id : chunk) {
+                        if (!existing.contains(id)) {
+                            inserts.add(
+                                new ResourceChange(
+                                    new ResourceChangeId(group.resource(), id), changeSeq,
+                                    group.deleted(), now));
+                        }
+                    }
+                }
+            }
+        });
+        changeRepository.saveAll(inserts);
+    }
+
+    /**
+     * Changes collected in one transaction, at most one per resource.
+     */
+    private static final class PendingChanges {
+
+        private final Map<ResourceChangeId, PendingChange> changes = new LinkedHashMap<>();
+
+        private void add(String resource, Long id, ChangeType type) {
+            changes.merge(
+                new ResourceChangeId(resource, id),
+                new PendingChange(type == ChangeType.CREATED, type == ChangeType.DELETED),
+                (previous, next) -> new PendingChange(
+                    previous.created() || next.created(), next.deleted()));
+        }
+
+    }
+
+    /**
+     * Combined change of one resource within a transaction.
+     *
+     * @param created whether the resource was created, so that it has no entry yet
+     * @param deleted whether the resource was deleted
+     */
+    private record PendingChange(boolean created, boolean deleted) {
+    }
+
+    /**
+     * Existing entries that are moved to a new sequence number with the same UPDATE.
+     *
+     * @param resource the resource name
+     * @param deleted whether the resources were deleted
+     */
+    private record UpdateGroup(String resource, boolean deleted) {
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.example.task_tracker.sync.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically removes the tombstones of resources deleted longer ago than the retention window.
+ * <p>
+ * Clients that have not synchronized within {@code tasktracker.sync.tombstone-retention} are
+ * told to synchronize from scratch afterwards. Scheduled via {@code tasktracker.sync.purge-cron}
+ * and can be disabled with {@code tasktracker.sync.purge-enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "tasktracker.sync.purge-enabled", havingValue = "true", matchIfMissing = true)
+public class TombstonePurgeJob {
+
+    private final ChangeLogService changeLogService;
+    private final Duration retention;
+
+    /**
+     * Creates a new {@code TombstonePurgeJob}.
+     *
+     * @param changeLogService the service removing the tombstones
+     * @param retention how long tombstones are kept
+     */
+    public TombstonePurgeJob(
+        ChangeLogService changeLogService,
+        @Value("${tasktracker.sync.tombstone-retention:P30D}") Duration retention)
+    {
+        this.changeLogService = changeLogService;
+        this.retention = retention;
+    }
+
+    /**
+     * Removes the tombstones older than the retention window.
+     */
+    @Scheduled(cron = "${tasktracker.sync.purge-cron:0 30 3 * * *}")
+    public void purge() {
+        changeLogService.purgeTombstones(LocalDateTime.now().minus(retention));
+    }
+
+}
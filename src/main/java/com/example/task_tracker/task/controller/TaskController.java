@@ -1,47 +1,90 @@
 package com.example.task_tracker.task.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.example.task_tracker.common.EntityTags;
+import com.example.task_tracker.common.Versions;
+import com.example.task_tracker.task.dto.TaskBatchResponse;
+import com.example.task_tracker.task.dto.TaskChanges;
 import com.example.task_tracker.task.dto.TaskCreateRequest;
+import com.example.task_tracker.task.dto.TaskCursorPage;
+import com.example.task_tracker.task.dto.TaskFileFormat;
+import com.example.task_tracker.task.dto.TaskFilter;
+import com.example.task_tracker.task.dto.TaskImportProgress;
+import com.example.task_tracker.task.dto.TaskImportResponse;
+import com.example.task_tracker.task.dto.TaskPatchRequest;
 import com.example.task_tracker.task.dto.TaskResponse;
+import com.example.task_tracker.task.dto.TaskSlice;
+import com.example.task_tracker.task.dto.TaskTransitionRequest;
+import com.example.task_tracker.task.dto.TaskTransitionResponse;
 import com.example.task_tracker.task.dto.TaskUpdateRequest;
-import com.example.task_tracker.task.model.TaskPriority;
-import com.example.task_tracker.task.model.TaskStatus;
+import com.example.task_tracker.task.service.TaskImportService;
 import com.example.task_tracker.task.service.TaskService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 /**
  * REST controller exposing CRUD operations for tasks.
  * Handles request validation, pagination, and filtering and delegates
  * business logic to {@link TaskService}.
+ * <p>
+ * Read endpoints return an {@code ETag} and answer {@code If-None-Match} with
+ * {@code 304 Not Modified}. For lists, the tag is weak and checked against a cheap version
+ * lookup before the list is queried; see {@link EntityTags}. Updates honor {@code If-Match}
+ * and fail with {@code 412 Precondition Failed} if the task has changed in the meantime.
  */
 @RestController
 @RequestMapping("/api/tasks")
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskImportService importService;
+    private final TaskExportWriter exportWriter;
+    private final TaskImportReader importReader;
 
     /**
-     * Creates a new {@code TaskController} with the required service dependency.
+     * Creates a new {@code TaskController} with the required dependencies.
      *
      * @param taskService the service handling task operations
+     * @param importService the service handling task imports
+     * @param exportWriter the writer serializing task exports
+     * @param importReader the reader parsing task imports
      */
-    public TaskController(TaskService taskService) {
+    public TaskController(
+        TaskService taskService, TaskImportService importService, TaskExportWriter exportWriter,
+        TaskImportReader importReader)
+    {
         this.taskService = taskService;
+        this.importService = importService;
+        this.exportWriter = exportWriter;
+        this.importReader = importReader;
     }
 
     /**
@@ -57,51 +100,320 @@ public class TaskController {
     }
 
     /**
-     * Retrieves a paginated list of tasks with optional filtering by status and priority.
+     * Creates multiple tasks in a single request.
      * <p>
+     * Items are validated individually, so invalid items do not prevent the creation of the
+     * remaining ones. The response lists the outcome of every item in request order.
+     *
+     * @param requests the request payloads containing task fields
+     * @return the per-item results
+     */
+    @PostMapping("/batch")
+    public TaskBatchResponse createTasks(@RequestBody List<TaskCreateRequest> requests) {
+        return taskService.createTasks(requests);
+    }
+
+    /**
+     * Imports tasks from an NDJSON or CSV file sent as the request body.
+     * <p>
+     * The body is parsed while it is received, so files of any size can be imported. Records
+     * have the fields of {@link #createTask}; the project may also be given by name in a
+     * {@code projectName} field. Files produced by {@link #exportTasks} can be imported
+     * as they are. Invalid lines are reported with their line numbers and do not prevent the
+     * import of the remaining ones.
+     *
+     * @param contentType the content type of the body, {@code application/x-ndjson} or
+     *        {@code text/csv}
+     * @param request the request whose body is imported
+     * @return the number of imported tasks and the rejected lines
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(path = "/import", consumes = { "application/x-ndjson", "text/csv" })
+    public TaskImportResponse importTasks(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, HttpServletRequest request)
+        throws IOException
+    {
+        TaskFileFormat format = TaskFileFormat.fromMediaType(contentType);
+        return importService.importTasks(importReader.read(request.getInputStream(), format));
+    }
+
+    /**
+     * Imports tasks like {@link #importTasks}, reporting the progress while the import runs.
+     * <p>
+     * Enabled by {@code progress=true}. The response is NDJSON with one
+     * {@link TaskImportProgress} per line: one for every rejected line as soon as it is read,
+     * one with the counts so far after every batch, and a last one with {@code done} set.
+     * Rejected lines are not limited in number.
+     *
+     * @param contentType the content type of the body, {@code application/x-ndjson} or
+     *        {@code text/csv}
+     * @param request the request whose body is imported
+     * @param response the response the progress is written to
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(
+        path = "/import", consumes = { "application/x-ndjson", "text/csv" },
+        params = "progress=true")
+    public void importTasksWithProgress(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, HttpServletRequest request,
+        HttpServletResponse response)
+        throws IOException
+    {
+        TaskFileFormat format = TaskFileFormat.fromMediaType(contentType);
+        response.setContentType(TaskFileFormat.NDJSON.getMediaType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = response.getOutputStream();
+        importService.importTasks(
+            importReader.read(request.getInputStream(), format),
+            progress -> exportWriter.writeProgress(progress, out));
+    }
+
+    /**
+     * Retrieves a paginated list of tasks with optional filtering.
+     * <p>
+     * Filters are bound from query parameters into a {@link TaskFilter}, e.g.
+     * {@code status=OPEN,IN_PROGRESS&dueTo=2025-01-31&hasProject=true}.
      * Sorting can be customized via the {@code sort} query parameter.
      * By default, tasks are sorted by {@code createdAt} in ascending order.
      *
      * @param pageable pagination and sorting information
-     * @param status optional filter for task status
-     * @param priority optional filter for task priority
-     * @param projectId optional filter for tasks belonging to a specific project
-     * @return a {@link Page} of matching task responses
+     * @param filter optional filter criteria
+     * @param webRequest the current request, used for conditional request handling
+     * @return a {@link Page} of matching task responses, or {@code null} if not modified
      */
     @GetMapping
     public Page<TaskResponse> getTasks(
         @PageableDefault(
             size = 10, sort = "createdAt", direction = Sort.Direction.ASC) Pageable pageable,
-        @RequestParam(required = false) TaskStatus status,
-        @RequestParam(required = false) TaskPriority priority,
-        @RequestParam(required = false) Long projectId)
+        TaskFilter filter, WebRequest webRequest)
+    {
+        if (webRequest.checkNotModified(EntityTags.weak(taskService.getTasksVersion()))) {
+            return null;
+        }
+        return taskService.getTasks(pageable, filter);
+    }
+
+    /**
+     * Retrieves a page of tasks without computing the exact total count.
+     * <p>
+     * Enabled by {@code withTotal=false}. Returns only whether a next page exists, which saves
+     * the {@code COUNT(*)} query on every request. With {@code estimateTotal=true}, an
+     * approximate total from a short-lived count cache is included.
+     *
+     * @param pageable pagination and sorting information
+     * @param filter optional filter criteria, as for {@link #getTasks}
+     * @param estimateTotal whether to include an estimated total
+     * @param webRequest the current request, used for conditional request handling
+     * @return a {@link TaskSlice} of matching task responses, or {@code null} if not modified
+     */
+    @GetMapping(params = "withTotal=false")
+    public TaskSlice getTaskSlice(
+        @PageableDefault(
+            size = 10, sort = "createdAt", direction = Sort.Direction.ASC) Pageable pageable,
+        TaskFilter filter, @RequestParam(defaultValue = "false") boolean estimateTotal,
+        WebRequest webRequest)
+    {
+        if (webRequest.checkNotModified(EntityTags.weak(taskService.getTasksVersion()))) {
+            return null;
+        }
+        return taskService.getTaskSlice(pageable, filter, estimateTotal);
+    }
+
+    /**
+     * Retrieves a slice of tasks using cursor (keyset) pagination.
+     * <p>
+     * Enabled by the {@code cursor} query parameter. Instead of a page number, clients pass the
+     * {@code nextCursor} or {@code previousCursor} of a previous response via {@code after} or
+     * {@code before}. Fetching a slice costs the same regardless of how deep into the list it
+     * lies. Supported sort properties are {@code createdAt}, {@code updatedAt}, {@code title}
+     * and {@code id}.
+     *
+     * @param after optional cursor of the task after which the slice starts
+     * @param before optional cursor of the task before which the slice ends
+     * @param size the maximum number of tasks in the slice
+     * @param sort sorting information
+     * @param filter optional filter criteria, as for {@link #getTasks}
+     * @param webRequest the current request, used for conditional request handling
+     * @return a {@link TaskCursorPage} of matching task responses, or {@code null} if not
+     *         modified
+     */
+    @GetMapping(params = "cursor")
+    public TaskCursorPage getTasksByCursor(
+        @RequestParam(required = false) String after,
+        @RequestParam(required = false) String before,
+        @RequestParam(defaultValue = "10") int size,
+        @SortDefault(sort = "createdAt", direction = Sort.Direction.ASC) Sort sort,
+        TaskFilter filter, WebRequest webRequest)
     {
-        return taskService.getTasks(pageable, status, priority, projectId);
+        if (webRequest.checkNotModified(EntityTags.weak(taskService.getTasksVersion()))) {
+            return null;
+        }
+        return taskService.getTasksByCursor(after, before, size, sort, filter);
+    }
+
+    /**
+     * Returns the tasks and projects changed or deleted since the last sync.
+     * <p>
+     * Clients start without {@code since} to receive all tasks and projects, then pass the
+     * {@code nextToken} of each response to receive only what changed in the meantime, and
+     * repeat while {@code hasMore} is {@code true}. A token older than the tombstone retention
+     * is answered with {@code 410 Gone}; the client then starts over without a token.
+     *
+     * @param since optional {@code nextToken} of the previous response
+     * @param size the maximum number of changes in the response
+     * @return the changes with the token for the next sync
+     */
+    @GetMapping("/changes")
+    public TaskChanges getChanges(
+        @RequestParam(required = false) String since,
+        @RequestParam(defaultValue = "500") int size)
+    {
+        return taskService.getChanges(since, size);
+    }
+
+    /**
+     * Searches tasks by text in their title and description, most relevant first.
+     * <p>
+     * Accepts the same filters as {@link #getTasks}, e.g.
+     * {@code q=login bug&status=OPEN}. On PostgreSQL, quoted phrases and {@code -word}
+     * exclusions are supported.
+     *
+     * @param q the search text
+     * @param pageable pagination information; sorting only breaks ties in relevance
+     * @param filter optional filter criteria
+     * @param webRequest the current request, used for conditional request handling
+     * @return a {@link Page} of matching task responses, or {@code null} if not modified
+     */
+    @GetMapping("/search")
+    public Page<TaskResponse> searchTasks(
+        @RequestParam String q, @PageableDefault(size = 10) Pageable pageable,
+        TaskFilter filter, WebRequest webRequest)
+    {
+        if (webRequest.checkNotModified(EntityTags.weak(taskService.getTasksVersion()))) {
+            return null;
+        }
+        return taskService.searchTasks(q, pageable, filter);
+    }
+
+    /**
+     * Exports all tasks matching the filter as a file download.
+     * <p>
+     * The tasks are streamed straight to the response while they are read from the database,
+     * so the export needs constant memory regardless of its size. Accepts the same filters as
+     * {@link #getTasks}. By default, tasks are sorted by {@code id}.
+     *
+     * @param format the file format, {@code NDJSON} (default) or {@code CSV}
+     * @param sort sorting information
+     * @param filter optional filter criteria
+     * @param response the response the tasks are written to
+     * @throws IOException if the response cannot be written
+     */
+    @GetMapping("/export")
+    public void exportTasks(
+        @RequestParam(defaultValue = "NDJSON") TaskFileFormat format,
+        @SortDefault(sort = "id") Sort sort, TaskFilter filter, HttpServletResponse response)
+        throws IOException
+    {
+        response.setContentType(format.getMediaType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(
+            HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("tasks." + format.getFileExtension()).build().toString());
+        OutputStream out = response.getOutputStream();
+        taskService.exportTasks(filter, sort, tasks -> exportWriter.write(tasks, format, out));
     }
 
     /**
      * Retrieves a single task by its ID.
      *
      * @param id the task identifier
-     * @return the matching task response
+     * @param webRequest the current request, used for conditional request handling
+     * @return the matching task response, or {@code null} if not modified
      */
     @GetMapping("/{id}")
-    public TaskResponse getTaskById(@PathVariable Long id) {
-        return taskService.getTaskById(id);
+    public TaskResponse getTaskById(@PathVariable Long id, WebRequest webRequest) {
+        TaskResponse task = taskService.getTaskById(id);
+        if (webRequest.checkNotModified(versionOf(task, webRequest))) {
+            return null;
+        }
+        return task;
     }
 
     /**
      * Updates an existing task by its ID.
+     * <p>
+     * If an {@code If-Match} header is present, the update is only applied if it matches the
+     * current {@code ETag} of the task. Concurrent edits between that check and the update
+     * fail with {@code 409 Conflict}.
      *
      * @param id the task identifier
      * @param request the updated task fields
-     * @return the updated task response
+     * @param webRequest the current request, used for conditional request handling
+     * @return the updated task response with its new {@code ETag}, or {@code null} if the
+     *         precondition failed
      */
     @PutMapping("/{id}")
-    public TaskResponse updateTask(
-        @PathVariable Long id, @Valid @RequestBody TaskUpdateRequest request)
+    public ResponseEntity<TaskResponse> updateTask(
+        @PathVariable Long id, @Valid @RequestBody TaskUpdateRequest request,
+        WebRequest webRequest)
     {
-        return taskService.updateTask(id, request);
+        LocalDateTime unmodifiedSince = null;
+        if (webRequest.getHeader(HttpHeaders.IF_MATCH) != null) {
+            TaskResponse current = taskService.getTaskById(id);
+            if (webRequest.checkNotModified(versionOf(current, webRequest))) {
+                return null;
+            }
+            unmodifiedSince = current.updatedAt();
+        }
+        TaskResponse updated = taskService.updateTask(id, request, unmodifiedSince);
+        return ResponseEntity.ok().eTag(versionOf(updated, webRequest)).body(updated);
+    }
+
+    /**
+     * Changes some fields of an existing task.
+     * <p>
+     * Only the fields present in the body are changed; an explicit {@code null} clears the
+     * description, due date or project. If an {@code If-Match} header is present, the change is
+     * only applied if it matches the current {@code ETag} of the task. Concurrent edits,
+     * including those between that check and the update, fail with {@code 409 Conflict}.
+     * Changes of status or priority alone are retried on the newer version instead.
+     *
+     * @param id the task identifier
+     * @param request the fields to change
+     * @param webRequest the current request, used for conditional request handling
+     * @return the updated task response with its new {@code ETag}, or {@code null} if the
+     *         precondition failed
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskResponse> patchTask(
+        @PathVariable Long id, @Valid @RequestBody TaskPatchRequest request,
+        WebRequest webRequest)
+    {
+        LocalDateTime unmodifiedSince = null;
+        if (webRequest.getHeader(HttpHeaders.IF_MATCH) != null) {
+            TaskResponse current = taskService.getTaskById(id);
+            if (webRequest.checkNotModified(versionOf(current, webRequest))) {
+                return null;
+            }
+            unmodifiedSince = current.updatedAt();
+        }
+        TaskResponse updated = taskService.patchTask(id, request, unmodifiedSince);
+        return ResponseEntity.ok().eTag(versionOf(updated, webRequest)).body(updated);
+    }
+
+    /**
+     * Moves many tasks to a new status and/or priority in one request.
+     * <p>
+     * Tasks are selected by a list of IDs or by a filter, e.g. all open tasks of a project.
+     *
+     * @param request the task selection and target state
+     * @return the number of changed tasks
+     */
+    @PostMapping("/transition")
+    public TaskTransitionResponse transitionTasks(
+        @Valid @RequestBody TaskTransitionRequest request)
+    {
+        return taskService.transitionTasks(request);
     }
 
     /**
@@ -116,4 +428,17 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Derives the entity tag of a single task from the values its representation depends on.
+     *
+     * @param task the task response
+     * @param webRequest the current request, which selects the representation
+     * @return the entity tag of the task
+     */
+    private static String versionOf(TaskResponse task, WebRequest webRequest) {
+        return EntityTags.strong(
+            Versions.of(task.id(), task.updatedAt(), task.projectId(), task.projectName()),
+            webRequest);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.example.task_tracker.task.controller;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import com.example.task_tracker.task.dto.TaskFileFormat;
+import com.example.task_tracker.task.dto.TaskImportProgress;
+import com.example.task_tracker.task.dto.TaskResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes streams of tasks to an output stream in one of the {@link TaskFileFormat}s.
+ * <p>
+ * Each task is written as soon as it is read from the stream and output is buffered in small
+ * blocks, so memory use does not depend on the number of tasks. The output stream is flushed
+ * but not closed. Also writes the NDJSON progress updates of imports.
+ */
+@Component
+public class TaskExportWriter {
+
+    /** Header row of CSV exports, naming the {@link TaskResponse} fields in order. */
+    static final String CSV_HEADER =
+        "id,title,description,status,priority,dueDate,createdAt,updatedAt,projectId,"
+            + "projectName\r\n";
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final ObjectWriter jsonWriter;
+    private final ObjectWriter progressWriter;
+
+    /**
+     * Creates a new {@code TaskExportWriter}.
+     *
+     * @param objectMapper the mapper used by the REST API, so NDJSON lines match its responses
+     */
+    public TaskExportWriter(ObjectMapper objectMapper) {
+        this.jsonWriter = objectMapper.writerFor(TaskResponse.class);
+        this.progressWriter = objectMapper.writerFor(TaskImportProgress.class);
+    }
+
+    /**
+     * Writes an import progress update as one NDJSON line and flushes it, so that the client
+     * receives it right away.
+     *
+     * @param progress the progress update
+     * @param out the target stream
+     * @throws UncheckedIOException if writing fails, e.g. because the client disconnected
+     */
+    public void writeProgress(TaskImportProgress progress, OutputStream out) {
+        try {
+            out.write(progressWriter.writeValueAsBytes(progress));
+            out.write('\n');
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Writes all tasks of the stream in the given format.
+     *
+     * @param tasks the tasks to write
+     * @param format the output format
+     * @param out the target stream
+     * @return the number of written tasks
+     * @throws UncheckedIOException if writing fails, e.g. because the client disconnected
+     */
+    public long write(Stream<TaskResponse> tasks, TaskFileFormat format, OutputStream out) {
+        try {
+            return switch (format) {
+                case NDJSON -> writeNdjson(tasks.iterator(), out);
+                case CSV -> writeCsv(tasks.iterator(), out);
+            };
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private long writeNdjson(Iterator<TaskResponse> tasks, OutputStream out) throws IOException {
+        BufferedOutputStream buffer = new BufferedOutputStream(out, BUFFER_SIZE);
+        long count = 0;
+        while (tasks.hasNext()) {
+            buffer.write(jsonWriter.writeValueAsBytes(tasks.next()));
+            buffer.write('\n');
+            count++;
+        }
+        buffer.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<TaskResponse> tasks, OutputStream out) throws IOException {
+        Writer writer =
+            new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(CSV_HEADER);
+        long count = 0;
+        while (tasks.hasNext()) {
+            TaskResponse task = tasks.next();
+            writeCsvRow(
+                writer, task.id(), task.title(), task.description(), task.status(),
+                task.priority(), task.dueDate(), task.createdAt(), task.updatedAt(),
+                task.projectId(), task.projectName());
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(csvField(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quotes a CSV field if it contains a separator, quote or line break, doubling any quotes.
+     *
+     * @param value the raw field value
+     * @return the value as it appears in the CSV file
+     */
+    static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+            && value.indexOf('\r') < 0)
+        {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+}
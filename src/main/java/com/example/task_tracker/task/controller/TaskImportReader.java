@@ -0,0 +1,246 @@
+package com.example.task_tracker.task.controller;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
+import com.example.task_tracker.task.dto.TaskFileFormat;
+import com.example.task_tracker.task.dto.TaskImportLine;
+import com.example.task_tracker.task.dto.TaskImportRecord;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.stereotype.Component;
+
+/**
+ * Parses task import files incrementally, one record at a time.
+ * <p>
+ * Accepts the output of {@link TaskExportWriter}: NDJSON with one task object per line, or
+ * CSV with a header row naming the columns. Columns and properties that are not part of a
+ * {@link TaskImportRecord}, such as {@code id} or {@code createdAt}, are ignored. Malformed
+ * records are returned as such instead of aborting the import.
+ */
+@Component
+public class TaskImportReader {
+
+    /** CSV columns and how they are applied to a record. Values are never empty. */
+    private static final Map<String, BiConsumer<TaskImportRecord, String>> CSV_COLUMNS = Map.of(
+        "title", TaskImportRecord::setTitle,
+        "description", TaskImportRecord::setDescription,
+        "status", (record, value) -> record.setStatus(TaskStatus.valueOf(value)),
+        "priority", (record, value) -> record.setPriority(TaskPriority.valueOf(value)),
+        "dueDate", (record, value) -> record.setDueDate(LocalDate.parse(value)),
+        "projectId", (record, value) -> record.setProjectId(Long.valueOf(value)),
+        "projectName", TaskImportRecord::setProjectName);
+
+    private final ObjectReader jsonReader;
+
+    /**
+     * Creates a new {@code TaskImportReader}.
+     *
+     * @param objectMapper the mapper used by the REST API, so NDJSON records are read like
+     *        request bodies
+     */
+    public TaskImportReader(ObjectMapper objectMapper) {
+        this.jsonReader = objectMapper.readerFor(TaskImportRecord.class);
+    }
+
+    /**
+     * Returns an iterator over the records of the given input. The input is read lazily as
+     * the iterator advances and is not closed.
+     *
+     * @param in the import file, encoded in UTF-8
+     * @param format the format of the file
+     * @return the parsed lines
+     * @throws UncheckedIOException from the iterator if reading the input fails
+     */
+    public Iterator<TaskImportLine> read(InputStream in, TaskFileFormat format) {
+        BufferedReader reader =
+            new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        return switch (format) {
+            case NDJSON -> new NdjsonIterator(reader);
+            case CSV -> new CsvIterator(reader);
+        };
+    }
+
+    /**
+     * Base class of the format-specific iterators, which compute the next line on demand.
+     */
+    private abstract static class LineIterator implements Iterator<TaskImportLine> {
+
+        private TaskImportLine next;
+        private boolean done;
+
+        /**
+         * @return the next line, or {@code null} at the end of the input
+         * @throws IOException if reading fails
+         */
+        abstract TaskImportLine readNext() throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    next = readNext();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                done = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public TaskImportLine next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            TaskImportLine line = next;
+            next = null;
+            return line;
+        }
+
+    }
+
+    private final class NdjsonIterator extends LineIterator {
+
+        private final BufferedReader reader;
+        private long lineNumber;
+
+        NdjsonIterator(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        TaskImportLine readNext() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                lineNumber++;
+            } while (line != null && line.isBlank());
+            if (line == null) {
+                return null;
+            }
+            try {
+                return TaskImportLine.parsed(lineNumber, jsonReader.readValue(line));
+            } catch (JsonProcessingException ex) {
+                return TaskImportLine.malformed(lineNumber, ex.getOriginalMessage());
+            }
+        }
+
+    }
+
+    private static final class CsvIterator extends LineIterator {
+
+        private final BufferedReader reader;
+        private long lineNumber = 1;
+        private List<String> header;
+
+        CsvIterator(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        TaskImportLine readNext() throws IOException {
+            if (header == null) {
+                List<String> names = readRow();
+                if (names == null) {
+                    return null;
+                }
+                // Spreadsheet applications often prepend a byte order mark.
+                header = names.stream().map(name -> name.replace("\uFEFF", "").strip()).toList();
+            }
+            List<String> row;
+            long startLine;
+            do {
+                startLine = lineNumber;
+                row = readRow();
+            } while (row != null && row.size() == 1 && row.get(0).isEmpty());
+            if (row == null) {
+                return null;
+            }
+            if (row.size() != header.size()) {
+                return TaskImportLine.malformed(
+                    startLine, "Expected " + header.size() + " fields but found " + row.size());
+            }
+
+            TaskImportRecord record = new TaskImportRecord();
+            for (int i = 0; i < row.size(); i++) {
+                BiConsumer<TaskImportRecord, String> column = CSV_COLUMNS.get(header.get(i));
+                String value = row.get(i);
+                if (column == null || value.isEmpty()) {
+                    continue;
+                }
+                try {
+                    column.accept(record, value);
+                } catch (RuntimeException ex) {
+                    return TaskImportLine.malformed(
+                        startLine, "Invalid value for '" + header.get(i) + "': " + value);
+                }
+            }
+            return TaskImportLine.parsed(startLine, record);
+        }
+
+        /**
+         * Reads one RFC 4180 record, which may span several lines if a quoted field contains
+         * line breaks.
+         *
+         * @return the fields of the record, or {@code null} at the end of the input
+         * @throws IOException if reading fails
+         */
+        private List<String> readRow() throws IOException {
+            int c = reader.read();
+            if (c < 0) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (c >= 0) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            lineNumber++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    lineNumber++;
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.example.task_tracker.task.dto;
+
+import java.util.Map;
+
+/**
+ * Outcome of a single item of a batch task creation request.
+ * <p>
+ * Exactly one of {@code task} and {@code error} is set, depending on whether the item was
+ * created or rejected.
+ *
+ * @param index the position of the item in the request array
+ * @param task the created task, or {@code null} if the item was rejected
+ * @param error a human-readable reason for the rejection, or {@code null} on success
+ * @param validationErrors field-level validation errors, or {@code null} if none
+ */
+public record TaskBatchItemResult(int index, TaskResponse task, String error,
+    Map<String, String> validationErrors) {
+
+    /**
+     * @param index the position of the item in the request array
+     * @param task the created task
+     * @return a successful item result
+     */
+    public static TaskBatchItemResult created(int index, TaskResponse task) {
+        return new TaskBatchItemResult(index, task, null, null);
+    }
+
+    /**
+     * @param index the position of the item in the request array
+     * @param error the reason for the rejection
+     * @param validationErrors optional field-level validation errors
+     * @return a failed item result
+     */
+    public static TaskBatchItemResult failed(
+        int index, String error, Map<String, String> validationErrors)
+    {
+        return new TaskBatchItemResult(index, null, error, validationErrors);
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.example.task_tracker.task.dto;
+
+import java.util.List;
+
+/**
+ * Response model for the HTTP POST /api/tasks/batch request.
+ * Contains one result per submitted item, in request order.
+ *
+ * @param created the number of tasks that were created
+ * @param failed the number of items that were rejected
+ * @param results the per-item outcomes
+ */
+public record TaskBatchResponse(int created, int failed, List<TaskBatchItemResult> results) {
+}
@@ -0,0 +1,25 @@
+package com.example.task_tracker.task.dto;
+
+import java.util.List;
+
+import com.example.task_tracker.project.dto.ProjectResponse;
+
+/**
+ * Response model for a delta synchronization: the tasks and projects changed or deleted since
+ * the client's last token.
+ * <p>
+ * Changed resources are returned in their current state; projects without task counts. Clients
+ * pass {@code nextToken} back via the {@code since} query parameter and repeat the request
+ * while {@code hasMore} is {@code true}.
+ *
+ * @param tasks the created or updated tasks
+ * @param deletedTaskIds the IDs of deleted tasks
+ * @param projects the created or updated projects
+ * @param deletedProjectIds the IDs of deleted projects
+ * @param nextToken token for the next synchronization
+ * @param hasMore whether further changes are available right away
+ */
+public record TaskChanges(List<TaskResponse> tasks, List<Long> deletedTaskIds,
+    List<ProjectResponse> projects, List<Long> deletedProjectIds, String nextToken,
+    boolean hasMore) {
+}
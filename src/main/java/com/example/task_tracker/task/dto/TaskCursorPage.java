@@ -0,0 +1,18 @@
+package com.example.task_tracker.task.dto;
+
+import java.util.List;
+
+/**
+ * Response model for a slice of tasks retrieved in cursor (keyset) pagination mode.
+ * <p>
+ * Instead of page numbers and a total count, clients receive opaque cursors that can be
+ * passed back via the {@code after} or {@code before} query parameters to fetch the adjacent
+ * slices.
+ *
+ * @param content the tasks of this slice
+ * @param nextCursor cursor for the following slice, or {@code null} if this is the last one
+ * @param previousCursor cursor for the preceding slice, or {@code null} if this is the first one
+ */
+public record TaskCursorPage(List<TaskResponse> content, String nextCursor,
+    String previousCursor) {
+}
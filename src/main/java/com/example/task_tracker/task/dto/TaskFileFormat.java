@@ -0,0 +1,49 @@
+package com.example.task_tracker.task.dto;
+
+/**
+ * File formats supported by the task export and import.
+ */
+public enum TaskFileFormat {
+
+    /** Newline-delimited JSON: one task object per line, as returned by the task endpoints. */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /** Comma-separated values (RFC 4180) with a header row. */
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    TaskFileFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    /** @return the content type of the exported file */
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /** @return the file name extension of the exported file */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format with the given content type, ignoring parameters such as the charset.
+     *
+     * @param contentType the content type of a request body
+     * @return the matching format
+     * @throws IllegalArgumentException if no format has the given content type
+     */
+    public static TaskFileFormat fromMediaType(String contentType) {
+        String mediaType = contentType.split(";", 2)[0].strip();
+        for (TaskFileFormat format : values()) {
+            if (format.mediaType.equalsIgnoreCase(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported content type: " + contentType);
+    }
+
+}
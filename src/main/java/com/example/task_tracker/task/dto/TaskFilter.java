@@ -0,0 +1,178 @@
+package com.example.task_tracker.task.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * Filter criteria for listing tasks.
+ * Bound from the query parameters of the HTTP GET /api/tasks request.
+ * <p>
+ * All criteria are optional and combined with AND. Multi-value criteria such as
+ * {@code status=OPEN,IN_PROGRESS} match any of the given values. Date ranges include their
+ * lower bound; due-date ranges also include their upper bound, while timestamp windows
+ * ({@code createdTo}, {@code updatedTo}) exclude it.
+ */
+public class TaskFilter {
+
+    private List<TaskStatus> status;
+    private List<TaskPriority> priority;
+    private Long projectId;
+
+    /**
+     * Optional restriction to tasks with ({@code true}) or without ({@code false}) a project.
+     */
+    private Boolean hasProject;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedTo;
+
+    /** @return the accepted task statuses, or {@code null} for any status */
+    public List<TaskStatus> getStatus() {
+        return status;
+    }
+
+    /** @param status the accepted task statuses */
+    public void setStatus(List<TaskStatus> status) {
+        this.status = status;
+    }
+
+    /** @return the accepted task priorities, or {@code null} for any priority */
+    public List<TaskPriority> getPriority() {
+        return priority;
+    }
+
+    /** @param priority the accepted task priorities */
+    public void setPriority(List<TaskPriority> priority) {
+        this.priority = priority;
+    }
+
+    /** @return the ID of the project the tasks must belong to, or {@code null} */
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    /** @param projectId the ID of the project the tasks must belong to */
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    /** @return whether tasks must (not) have a project, or {@code null} for either */
+    public Boolean getHasProject() {
+        return hasProject;
+    }
+
+    /**
+     * @param hasProject whether tasks must ({@code true}) or must not ({@code false}) have a
+     *        project
+     */
+    public void setHasProject(Boolean hasProject) {
+        this.hasProject = hasProject;
+    }
+
+    /** @return the earliest accepted due date (inclusive) */
+    public LocalDate getDueFrom() {
+        return dueFrom;
+    }
+
+    /** @param dueFrom the earliest accepted due date (inclusive) */
+    public void setDueFrom(LocalDate dueFrom) {
+        this.dueFrom = dueFrom;
+    }
+
+    /** @return the latest accepted due date (inclusive) */
+    public LocalDate getDueTo() {
+        return dueTo;
+    }
+
+    /** @param dueTo the latest accepted due date (inclusive) */
+    public void setDueTo(LocalDate dueTo) {
+        this.dueTo = dueTo;
+    }
+
+    /** @return the start of the creation window (inclusive) */
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+
+    /** @param createdFrom the start of the creation window (inclusive) */
+    public void setCreatedFrom(LocalDateTime createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+
+    /** @return the end of the creation window (exclusive) */
+    public LocalDateTime getCreatedTo() {
+        return createdTo;
+    }
+
+    /** @param createdTo the end of the creation window (exclusive) */
+    public void setCreatedTo(LocalDateTime createdTo) {
+        this.createdTo = createdTo;
+    }
+
+    /** @return the start of the update window (inclusive) */
+    public LocalDateTime getUpdatedFrom() {
+        return updatedFrom;
+    }
+
+    /** @param updatedFrom the start of the update window (inclusive) */
+    public void setUpdatedFrom(LocalDateTime updatedFrom) {
+        this.updatedFrom = updatedFrom;
+    }
+
+    /** @return the end of the update window (exclusive) */
+    public LocalDateTime getUpdatedTo() {
+        return updatedTo;
+    }
+
+    /** @param updatedTo the end of the update window (exclusive) */
+    public void setUpdatedTo(LocalDateTime updatedTo) {
+        this.updatedTo = updatedTo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TaskFilter other)) {
+            return false;
+        }
+        return Objects.equals(status, other.status) && Objects.equals(priority, other.priority)
+            && Objects.equals(projectId, other.projectId)
+            && Objects.equals(hasProject, other.hasProject)
+            && Objects.equals(dueFrom, other.dueFrom) && Objects.equals(dueTo, other.dueTo)
+            && Objects.equals(createdFrom, other.createdFrom)
+            && Objects.equals(createdTo, other.createdTo)
+            && Objects.equals(updatedFrom, other.updatedFrom)
+            && Objects.equals(updatedTo, other.updatedTo);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            status, priority, projectId, hasProject, dueFrom, dueTo, createdFrom, createdTo,
+            updatedFrom, updatedTo);
+    }
+
+}
\ No newline at end of file
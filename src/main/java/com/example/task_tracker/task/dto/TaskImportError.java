@@ -0,0 +1,13 @@
+package com.example.task_tracker.task.dto;
+
+import java.util.Map;
+
+/**
+ * A rejected line of a task import.
+ *
+ * @param line the 1-based line number in the import file
+ * @param error a human-readable reason for the rejection
+ * @param validationErrors field-level validation errors, or {@code null} if none
+ */
+public record TaskImportError(long line, String error, Map<String, String> validationErrors) {
+}
@@ -0,0 +1,33 @@
+package com.example.task_tracker.task.dto;
+
+/**
+ * A record of an import file together with the line it starts on.
+ * <p>
+ * Exactly one of {@code record} and {@code error} is set, depending on whether the line could
+ * be parsed.
+ *
+ * @param line the 1-based line number in the import file
+ * @param record the parsed record, or {@code null} if the line is malformed
+ * @param error a human-readable parse error, or {@code null} on success
+ */
+public record TaskImportLine(long line, TaskImportRecord record, String error) {
+
+    /**
+     * @param line the 1-based line number in the import file
+     * @param record the parsed record
+     * @return a successfully parsed line
+     */
+    public static TaskImportLine parsed(long line, TaskImportRecord record) {
+        return new TaskImportLine(line, record, null);
+    }
+
+    /**
+     * @param line the 1-based line number in the import file
+     * @param error the reason the line could not be parsed
+     * @return a malformed line
+     */
+    public static TaskImportLine malformed(long line, String error) {
+        return new TaskImportLine(line, null, error);
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.example.task_tracker.task.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Progress update of a running task import, sent for every rejected line, after every batch
+ * and once at the end.
+ *
+ * @param imported the number of tasks created so far
+ * @param failed the number of lines rejected so far
+ * @param rejected the line this update reports, or {@code null} for a batch or final update
+ * @param done whether the import has finished
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskImportProgress(long imported, long failed, TaskImportError rejected,
+    boolean done) {
+}
@@ -0,0 +1,24 @@
+package com.example.task_tracker.task.dto;
+
+/**
+ * A single record of a task import.
+ * <p>
+ * Has the fields and validation constraints of {@link TaskCreateRequest}. The project may be
+ * given by its ID or, if the ID is absent, by its name, since IDs of a foreign system rarely
+ * match ours.
+ */
+public class TaskImportRecord extends TaskCreateRequest {
+
+    private String projectName;
+
+    /** @return the name of the project to associate with this task, or {@code null} */
+    public String getProjectName() {
+        return projectName;
+    }
+
+    /** @param projectName the name of the project this task should be linked to */
+    public void setProjectName(String projectName) {
+        this.projectName = projectName;
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.example.task_tracker.task.dto;
+
+import java.util.List;
+
+/**
+ * Response model for the HTTP POST /api/tasks/import request.
+ * <p>
+ * Only the first rejected lines are listed in {@code errors}; {@code failed} counts all of
+ * them.
+ *
+ * @param imported the number of tasks that were created
+ * @param failed the number of lines that were rejected
+ * @param errors the rejected lines, in file order
+ * @param errorsTruncated whether more lines were rejected than listed
+ */
+public record TaskImportResponse(long imported, long failed, List<TaskImportError> errors,
+    boolean errorsTruncated) {
+}
@@ -0,0 +1,159 @@
+package com.example.task_tracker.task.dto;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Data transfer object used for changing some fields of an existing task.
+ * Represents the payload of the HTTP PATCH /api/tasks/{id} request.
+ * <p>
+ * Only fields present in the payload are changed. An explicit {@code null} clears the
+ * description, due date or project; fields that are left out keep their current value.
+ */
+public class TaskPatchRequest {
+
+    private static final Set<String> STATE_FIELDS = Set.of("status", "priority");
+
+    /** Names of the fields present in the payload, recorded as Jackson calls the setters. */
+    private final Set<String> fields = new HashSet<>();
+
+    @Size(max = 100)
+    private String title;
+
+    @Size(max = 1000)
+    private String description;
+
+    private TaskStatus status;
+    private TaskPriority priority;
+    private LocalDate dueDate;
+    private Long projectId;
+
+    /** @return the new task title */
+    public String getTitle() {
+        return title;
+    }
+
+    /** @param title new title for the task */
+    public void setTitle(String title) {
+        this.title = title;
+        fields.add("title");
+    }
+
+    /** @return {@code true} if the payload contains a title */
+    public boolean hasTitle() {
+        return fields.contains("title");
+    }
+
+    /** @return the new description */
+    public String getDescription() {
+        return description;
+    }
+
+    /** @param description new description for the task, or {@code null} to clear it */
+    public void setDescription(String description) {
+        this.description = description;
+        fields.add("description");
+    }
+
+    /** @return {@code true} if the payload contains a description */
+    public boolean hasDescription() {
+        return fields.contains("description");
+    }
+
+    /** @return the new task status */
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    /** @param status new status for the task */
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+        fields.add("status");
+    }
+
+    /** @return {@code true} if the payload contains a status */
+    public boolean hasStatus() {
+        return fields.contains("status");
+    }
+
+    /** @return the new task priority */
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    /** @param priority new priority for the task */
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+        fields.add("priority");
+    }
+
+    /** @return {@code true} if the payload contains a priority */
+    public boolean hasPriority() {
+        return fields.contains("priority");
+    }
+
+    /** @return the new due date */
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    /** @param dueDate new due date for the task, or {@code null} to clear it */
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+        fields.add("dueDate");
+    }
+
+    /** @return {@code true} if the payload contains a due date */
+    public boolean hasDueDate() {
+        return fields.contains("dueDate");
+    }
+
+    /** @return the ID of the project to associate with this task */
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    /** @param projectId the project ID this task should be linked to, or {@code null} to unlink */
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+        fields.add("projectId");
+    }
+
+    /** @return {@code true} if the payload contains a project ID */
+    public boolean hasProjectId() {
+        return fields.contains("projectId");
+    }
+
+    /**
+     * Returns whether the payload changes nothing but status and priority. Such changes do not
+     * depend on the rest of the task, so they can be reapplied to a newer version of it.
+     *
+     * @return {@code true} if only status and/or priority are given
+     */
+    public boolean changesStateOnly() {
+        return !fields.isEmpty() && STATE_FIELDS.containsAll(fields);
+    }
+
+    /** @return {@code true} if the title is not blank, if it is given */
+    @JsonIgnore
+    @AssertTrue(message = "'title' must not be blank")
+    public boolean isTitleValid() {
+        return !hasTitle() || (title != null && !title.isBlank());
+    }
+
+    /** @return {@code true} if status and priority are not {@code null}, if they are given */
+    @JsonIgnore
+    @AssertTrue(message = "'status' and 'priority' must not be null")
+    public boolean isStateValid() {
+        return (!hasStatus() || status != null) && (!hasPriority() || priority != null);
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.example.task_tracker.task.dto;
+
+import java.util.List;
+
+/**
+ * Response model for a page of tasks retrieved without an exact total count.
+ * <p>
+ * Returned by HTTP GET /api/tasks?withTotal=false. Skipping the {@code COUNT(*)} query makes
+ * listing cheaper on large tables; clients page forward as long as {@code hasNext} is set.
+ *
+ * @param content the tasks of this page
+ * @param number the zero-based page index
+ * @param size the requested page size
+ * @param hasNext whether another page follows
+ * @param estimatedTotal an approximate number of matching tasks, or {@code null} if not requested
+ */
+public record TaskSlice(List<TaskResponse> content, int number, int size, boolean hasNext,
+    Long estimatedTotal) {
+}
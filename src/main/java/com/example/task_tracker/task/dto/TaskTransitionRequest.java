@@ -0,0 +1,82 @@
+package com.example.task_tracker.task.dto;
+
+import java.util.List;
+
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+
+/**
+ * Data transfer object used for moving many tasks to a new status and/or priority at once.
+ * Represents the payload of the HTTP POST /api/tasks/transition request.
+ * <p>
+ * Tasks are selected either by an explicit list of IDs or by a {@link TaskFilter}, never both.
+ */
+public class TaskTransitionRequest {
+
+    private List<Long> ids;
+
+    @Valid
+    private TaskFilter filter;
+
+    private TaskStatus targetStatus;
+    private TaskPriority targetPriority;
+
+    /** @return the IDs of the tasks to update, or {@code null} when selecting by filter */
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    /** @param ids the IDs of the tasks to update */
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    /** @return the filter selecting the tasks to update, or {@code null} when selecting by ID */
+    public TaskFilter getFilter() {
+        return filter;
+    }
+
+    /** @param filter the filter selecting the tasks to update */
+    public void setFilter(TaskFilter filter) {
+        this.filter = filter;
+    }
+
+    /** @return the status to move the tasks to, or {@code null} to keep it */
+    public TaskStatus getTargetStatus() {
+        return targetStatus;
+    }
+
+    /** @param targetStatus the status to move the tasks to */
+    public void setTargetStatus(TaskStatus targetStatus) {
+        this.targetStatus = targetStatus;
+    }
+
+    /** @return the priority to assign to the tasks, or {@code null} to keep it */
+    public TaskPriority getTargetPriority() {
+        return targetPriority;
+    }
+
+    /** @param targetPriority the priority to assign to the tasks */
+    public void setTargetPriority(TaskPriority targetPriority) {
+        this.targetPriority = targetPriority;
+    }
+
+    /** @return {@code true} if exactly one of IDs and filter is given */
+    @JsonIgnore
+    @AssertTrue(message = "exactly one of 'ids' and 'filter' must be given")
+    public boolean isSelectionValid() {
+        return (ids != null && !ids.isEmpty()) != (filter != null);
+    }
+
+    /** @return {@code true} if a target status or priority is given */
+    @JsonIgnore
+    @AssertTrue(message = "'targetStatus' or 'targetPriority' must be given")
+    public boolean isTargetValid() {
+        return targetStatus != null || targetPriority != null;
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.example.task_tracker.task.dto;
+
+/**
+ * Response model for the HTTP POST /api/tasks/transition request.
+ *
+ * @param updated the number of tasks that were changed; tasks already in the target state are
+ *        not counted
+ */
+public record TaskTransitionResponse(long updated) {
+}
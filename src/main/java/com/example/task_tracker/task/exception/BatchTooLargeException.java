@@ -0,0 +1,18 @@
+package com.example.task_tracker.task.exception;
+
+/**
+ * Exception thrown when a batch request contains more items than allowed.
+ */
+public class BatchTooLargeException extends RuntimeException {
+
+    /**
+     * Creates a new exception for a batch exceeding the given limit.
+     *
+     * @param size the number of items in the rejected batch
+     * @param maxSize the maximum number of items per batch
+     */
+    public BatchTooLargeException(int size, int maxSize) {
+        super("Batch of " + size + " items exceeds the maximum of " + maxSize);
+    }
+
+}
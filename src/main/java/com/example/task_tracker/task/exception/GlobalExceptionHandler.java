@@ -4,7 +4,9 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.example.task_tracker.project.exception.ProjectNotFoundException;
+import com.example.task_tracker.sync.exception.ChangeTokenExpiredException;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -54,6 +56,87 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
     }
 
+    /**
+     * Handles pagination cursors that cannot be decoded or do not fit the request.
+     *
+     * @param ex the thrown {@link InvalidCursorException}
+     * @param request the originating HTTP request
+     * @return a 400 Bad Request error response
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(
+        InvalidCursorException ex, HttpServletRequest request)
+    {
+        ErrorResponse body = new ErrorResponse(
+            HttpStatus.BAD_REQUEST.value(), ex.getMessage(), request.getRequestURI(), null);
+        return ResponseEntity.badRequest().body(body);
+    }
+
+    /**
+     * Handles change tokens whose tombstones have already been purged.
+     *
+     * @param ex the thrown {@link ChangeTokenExpiredException}
+     * @param request the originating HTTP request
+     * @return a 410 Gone error response
+     */
+    @ExceptionHandler(ChangeTokenExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleChangeTokenExpired(
+        ChangeTokenExpiredException ex, HttpServletRequest request)
+    {
+        ErrorResponse body = new ErrorResponse(
+            HttpStatus.GONE.value(), ex.getMessage(), request.getRequestURI(), null);
+        return ResponseEntity.status(HttpStatus.GONE).body(body);
+    }
+
+    /**
+     * Handles search queries that are blank or too long.
+     *
+     * @param ex the thrown {@link InvalidSearchQueryException}
+     * @param request the originating HTTP request
+     * @return a 400 Bad Request error response
+     */
+    @ExceptionHandler(InvalidSearchQueryException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidSearchQuery(
+        InvalidSearchQueryException ex, HttpServletRequest request)
+    {
+        ErrorResponse body = new ErrorResponse(
+            HttpStatus.BAD_REQUEST.value(), ex.getMessage(), request.getRequestURI(), null);
+        return ResponseEntity.badRequest().body(body);
+    }
+
+    /**
+     * Handles batch requests exceeding the maximum number of items.
+     *
+     * @param ex the thrown {@link BatchTooLargeException}
+     * @param request the originating HTTP request
+     * @return a 400 Bad Request error response
+     */
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleBatchTooLarge(
+        BatchTooLargeException ex, HttpServletRequest request)
+    {
+        ErrorResponse body = new ErrorResponse(
+            HttpStatus.BAD_REQUEST.value(), ex.getMessage(), request.getRequestURI(), null);
+        return ResponseEntity.badRequest().body(body);
+    }
+
+    /**
+     * Handles updates of tasks or projects that were changed concurrently.
+     *
+     * @param request the originating HTTP request
+     * @return a 409 Conflict error response
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+        HttpServletRequest request)
+    {
+        ErrorResponse body = new ErrorResponse(
+            HttpStatus.CONFLICT.value(),
+            "The resource was modified concurrently; reload it and retry",
+            request.getRequestURI(), null);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
     /**
      * Handles validation errors triggered by invalid request bodies.
      *
@@ -0,0 +1,18 @@
+package com.example.task_tracker.task.exception;
+
+/**
+ * Exception thrown when a pagination cursor cannot be decoded or does not match the
+ * requested sort order.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    /**
+     * Creates a new exception describing why the cursor was rejected.
+     *
+     * @param message a human-readable description of the problem
+     */
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.example.task_tracker.task.exception;
+
+/**
+ * Exception thrown when a search query is missing or otherwise unusable.
+ */
+public class InvalidSearchQueryException extends RuntimeException {
+
+    /**
+     * Creates a new exception describing why the search query was rejected.
+     *
+     * @param message a human-readable description of the problem
+     */
+    public InvalidSearchQueryException(String message) {
+        super(message);
+    }
+
+}
@@ -2,9 +2,14 @@ package com.example.task_tracker.task.model;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 import com.example.task_tracker.project.model.Project;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -17,19 +22,35 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 /**
  * JPA entity representing a task in the system.
  * Stores title, description, status, priority, due date, and automatic timestamps
  * for creation and updates.
+ * <p>
+ * Tasks are kept in the second-level cache, so repeated lookups by ID are served without a
+ * database round trip. Bulk updates evict the whole region.
+ * <p>
+ * UPDATE statements only contain the changed columns and are guarded by a version column, so
+ * concurrent edits of the same task fail instead of overwriting each other.
  */
 @Entity
 @Table(name = "tasks")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Task {
 
+    /**
+     * Generated from a pooled sequence, so IDs are assigned without a round-trip per row and
+     * inserts can be sent to the database in JDBC batches.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id_seq")
+    @SequenceGenerator(name = "task_id_seq", sequenceName = "task_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -62,6 +83,10 @@ public class Task {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /** Incremented on every update and checked by Hibernate for optimistic locking. */
+    @Version
+    private Long version;
+
     /**
      * Protected no-args constructor required by JPA.
      */
@@ -90,10 +115,12 @@ public class Task {
     /**
      * Lifecycle callback executed before the entity is first persisted.
      * Initializes timestamps and ensures default values for status and priority.
+     * Timestamps are truncated to microseconds, the precision of the database columns, so
+     * the in-memory values equal the stored ones.
      */
     @PrePersist
     public void prePersist() {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         this.createdAt = now;
         this.updatedAt = now;
 
@@ -111,7 +138,7 @@ public class Task {
      */
     @PreUpdate
     public void preUpdate() {
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     /** @return the task ID */
@@ -195,4 +222,9 @@ public class Task {
         return updatedAt;
     }
 
+    /** @return the optimistic locking version, or {@code null} if the task is not persisted */
+    public Long getVersion() {
+        return version;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.example.task_tracker.task.model;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Read-only view of the full-text search vector of a task.
+ * <p>
+ * The {@code search_vector} column only exists on PostgreSQL, where it is generated from the
+ * title and description. It is mapped by this separate entity instead of {@link Task}, so
+ * that loading tasks never transfers the vector. Only used by full-text search queries.
+ */
+@Entity
+@Immutable
+@Table(name = "tasks")
+public class TaskSearchDocument {
+
+    @Id
+    private Long id;
+
+    @Column(name = "search_vector", columnDefinition = "tsvector", insertable = false,
+        updatable = false)
+    private String searchVector;
+
+    /**
+     * Protected no-args constructor required by JPA.
+     */
+    protected TaskSearchDocument() {}
+
+    /** @return the task ID */
+    public Long getId() {
+        return id;
+    }
+
+}
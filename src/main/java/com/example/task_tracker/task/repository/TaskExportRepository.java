@@ -0,0 +1,28 @@
+package com.example.task_tracker.task.repository;
+
+import java.util.stream.Stream;
+
+import com.example.task_tracker.task.model.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Custom repository fragment for streaming large numbers of {@link Task} entities.
+ */
+public interface TaskExportRepository {
+
+    /**
+     * Streams all tasks matching the given specification together with their projects.
+     * <p>
+     * Rows are read with a forward-only cursor in chunks of the JDBC fetch size, bypassing the
+     * second-level cache. The persistence context is cleared after every chunk, so tasks
+     * returned earlier become detached and memory use does not grow with the number of rows.
+     * The stream must be consumed within a transaction and closed afterwards.
+     *
+     * @param spec the filter criteria (may be {@code null} to match all tasks)
+     * @param sort the order of the stream
+     * @return a stream of matching tasks
+     */
+    Stream<Task> streamAll(Specification<Task> spec, Sort sort);
+
+}
@@ -0,0 +1,60 @@
+package com.example.task_tracker.task.repository;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import com.example.task_tracker.task.model.Task;
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria API based implementation of {@link TaskExportRepository}.
+ */
+public class TaskExportRepositoryImpl implements TaskExportRepository {
+
+    /** Number of rows fetched per round trip and kept in the persistence context at once. */
+    static final int FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Task> streamAll(Specification<Task> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+        task.fetch("project", JoinType.LEFT);
+
+        Predicate predicate = spec != null ? spec.toPredicate(task, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(task).orderBy(QueryUtils.toOrders(sort, task, cb));
+
+        AtomicLong rows = new AtomicLong();
+        return entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            // Putting every exported task into the second-level cache would evict hot entries.
+            .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+            .getResultStream()
+            .peek(row -> {
+                // Detaches the previous chunk; the current row is already fully loaded.
+                if (rows.incrementAndGet() % FETCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            });
+    }
+
+}
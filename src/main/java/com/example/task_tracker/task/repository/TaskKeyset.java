@@ -0,0 +1,38 @@
+package com.example.task_tracker.task.repository;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Describes a position within a keyset-paginated list of tasks.
+ * <p>
+ * A keyset consists of the sort property and direction, plus the sort key value and ID of
+ * the anchor row. The next slice starts directly after (or, when {@code backward} is set,
+ * directly before) the anchor. When {@code id} is {@code null} the slice starts at the
+ * beginning of the list.
+ *
+ * @param property the task property the list is ordered by
+ * @param direction the sort direction of the list
+ * @param value the sort key value of the anchor row (may be {@code null} for the first slice)
+ * @param id the ID of the anchor row used as a tie-breaker (may be {@code null} for the first slice)
+ * @param backward whether the slice lies before the anchor instead of after it
+ */
+public record TaskKeyset(String property, Sort.Direction direction, Comparable<?> value, Long id,
+    boolean backward) {
+
+    /**
+     * Creates a keyset pointing to the start of a list ordered by the given property.
+     *
+     * @param property the task property the list is ordered by
+     * @param direction the sort direction of the list
+     * @return a keyset without an anchor row
+     */
+    public static TaskKeyset first(String property, Sort.Direction direction) {
+        return new TaskKeyset(property, direction, null, null, false);
+    }
+
+    /** @return {@code true} if this keyset has no anchor row */
+    public boolean isFirst() {
+        return id == null;
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.example.task_tracker.task.repository;
+
+import java.util.List;
+
+import com.example.task_tracker.task.model.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Custom repository fragment providing keyset (seek) pagination for {@link Task} entities.
+ * <p>
+ * Unlike offset pagination, the cost of fetching a slice does not grow with its position in
+ * the list, because the database seeks directly to the anchor row instead of skipping all
+ * preceding rows.
+ */
+public interface TaskKeysetRepository {
+
+    /**
+     * Retrieves up to {@code limit} tasks following (or preceding) the given keyset, ordered by
+     * the keyset property and ID. Backward slices are returned in reverse list order, i.e. the
+     * row closest to the anchor comes first.
+     *
+     * @param keyset the position to continue from
+     * @param limit the maximum number of tasks to return
+     * @param spec optional filter criteria (may be {@code null})
+     * @return the matching tasks together with their projects
+     */
+    List<Task> findAllByKeyset(TaskKeyset keyset, int limit, Specification<Task> spec);
+
+}
@@ -0,0 +1,74 @@
+package com.example.task_tracker.task.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.task_tracker.task.model.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria API based implementation of {@link TaskKeysetRepository}.
+ * <p>
+ * Picked up by Spring Data as the implementation of the fragment through its {@code Impl}
+ * naming convention.
+ */
+public class TaskKeysetRepositoryImpl implements TaskKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public List<Task> findAllByKeyset(TaskKeyset keyset, int limit, Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+        task.fetch("project", JoinType.LEFT);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filter = spec != null ? spec.toPredicate(task, query, cb) : null;
+        if (filter != null) {
+            predicates.add(filter);
+        }
+
+        // Scan direction: backward slices walk the list in reverse order towards its start.
+        boolean ascending = keyset.direction().isAscending() != keyset.backward();
+        Expression<Comparable> key = task.get(keyset.property());
+        Expression<Long> id = task.get("id");
+
+        if (!keyset.isFirst()) {
+            Comparable value = keyset.value();
+            Long anchorId = keyset.id();
+            if ("id".equals(keyset.property())) {
+                predicates.add(ascending ? cb.gt(id, anchorId) : cb.lt(id, anchorId));
+            } else {
+                // (key, id) > (value, anchorId) expanded for the Criteria API
+                Predicate beyondKey =
+                    ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+                Predicate sameKeyBeyondId = cb.and(
+                    cb.equal(key, value), ascending ? cb.gt(id, anchorId) : cb.lt(id, anchorId));
+                predicates.add(cb.or(beyondKey, sameKeyBeyondId));
+            }
+        }
+
+        query.select(task).where(predicates.toArray(Predicate[]::new));
+        if ("id".equals(keyset.property())) {
+            query.orderBy(ascending ? cb.asc(id) : cb.desc(id));
+        } else {
+            query.orderBy(
+                ascending ? cb.asc(key) : cb.desc(key), ascending ? cb.asc(id) : cb.desc(id));
+        }
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+}
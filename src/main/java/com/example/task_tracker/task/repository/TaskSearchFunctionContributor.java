@@ -0,0 +1,43 @@
+package com.example.task_tracker.task.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the PostgreSQL full-text search functions used by {@link TaskSearchRepositoryImpl}.
+ * <p>
+ * The match function renders as the {@code @@} operator, which the GIN index on
+ * {@code tasks.search_vector} requires; a plain function call could not use the index. Search
+ * text is parsed with {@code websearch_to_tsquery}, which accepts arbitrary user input. Loaded
+ * by Hibernate via {@code META-INF/services}; nothing is registered for other databases.
+ */
+public class TaskSearchFunctionContributor implements FunctionContributor {
+
+    /** {@code task_search_matches(vector, text)}: whether the vector matches the search text. */
+    public static final String MATCHES = "task_search_matches";
+
+    /** {@code task_search_rank(vector, text)}: relevance of the vector for the search text. */
+    public static final String RANK = "task_search_rank";
+
+    /** Text search configuration, equal to the one of the generated {@code search_vector}. */
+    private static final String CONFIG = "'english'";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        if (!(functionContributions.getDialect() instanceof PostgreSQLDialect)) {
+            return;
+        }
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration()
+            .getBasicTypeRegistry();
+        functionContributions.getFunctionRegistry().registerPattern(
+            MATCHES, "(?1 @@ websearch_to_tsquery(" + CONFIG + ", ?2))",
+            types.resolve(StandardBasicTypes.BOOLEAN));
+        functionContributions.getFunctionRegistry().registerPattern(
+            RANK, "ts_rank_cd(?1, websearch_to_tsquery(" + CONFIG + ", ?2))",
+            types.resolve(StandardBasicTypes.DOUBLE));
+    }
+
+}
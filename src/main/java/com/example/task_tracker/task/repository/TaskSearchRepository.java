@@ -0,0 +1,29 @@
+package com.example.task_tracker.task.repository;
+
+import com.example.task_tracker.task.model.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Custom repository fragment for searching {@link Task} entities by text.
+ */
+public interface TaskSearchRepository {
+
+    /**
+     * Retrieves a page of tasks whose title or description matches the given search text,
+     * most relevant first, together with their projects.
+     * <p>
+     * On PostgreSQL, the search uses the GIN-indexed full-text search vector of the task; all
+     * words of the text must occur (in stemmed form), quoted phrases and {@code -word}
+     * exclusions are supported. On other databases, a fallback requires every word to occur
+     * as a substring of the title or description and ranks title matches higher.
+     *
+     * @param text the search text
+     * @param spec additional filter criteria (may be {@code null})
+     * @param pageable pagination information; its sort order only breaks ties in relevance
+     * @return a page of matching tasks
+     */
+    Page<Task> search(String text, Specification<Task> spec, Pageable pageable);
+
+}
@@ -0,0 +1,148 @@
+package com.example.task_tracker.task.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.example.task_tracker.task.model.Task;
+import com.example.task_tracker.task.model.TaskSearchDocument;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria API based implementation of {@link TaskSearchRepository}.
+ * <p>
+ * Uses PostgreSQL full-text search when running on PostgreSQL and a {@code LIKE} based
+ * fallback otherwise, e.g. on the embedded database used by tests.
+ */
+public class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    /**
+     * Condition and relevance of a text search within a query.
+     */
+    private record Match(Predicate predicate, Expression<? extends Number> rank) {
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Task> search(String text, Specification<Task> spec, Pageable pageable) {
+        boolean fullText = isPostgreSql();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+        task.fetch("project", JoinType.LEFT);
+        Match match = match(fullText, text, query, task, cb);
+        query.select(task).where(withSpec(match.predicate(), spec, task, query, cb));
+
+        List<Order> orders = new ArrayList<>();
+        orders.add(cb.desc(match.rank()));
+        orders.addAll(QueryUtils.toOrders(pageable.getSort(), task, cb));
+        orders.add(cb.asc(task.get("id")));
+        query.orderBy(orders);
+
+        TypedQuery<Task> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils
+            .getPage(typedQuery.getResultList(), pageable, () -> count(fullText, text, spec));
+    }
+
+    /**
+     * Counts all tasks matching the search text and specification.
+     *
+     * @param fullText whether to use PostgreSQL full-text search
+     * @param text the search text
+     * @param spec additional filter criteria (may be {@code null})
+     * @return the number of matching tasks
+     */
+    private long count(boolean fullText, String text, Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> task = query.from(Task.class);
+        Match match = match(fullText, text, query, task, cb);
+        query.select(cb.count(task)).where(withSpec(match.predicate(), spec, task, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Predicate withSpec(
+        Predicate match, Specification<Task> spec, Root<Task> task, CriteriaQuery<?> query,
+        CriteriaBuilder cb)
+    {
+        Predicate predicate = spec != null ? spec.toPredicate(task, query, cb) : null;
+        return predicate != null ? cb.and(match, predicate) : match;
+    }
+
+    private static Match match(
+        boolean fullText, String text, CriteriaQuery<?> query, Root<Task> task,
+        CriteriaBuilder cb)
+    {
+        return fullText ? fullTextMatch(text, query, task, cb) : substringMatch(text, task, cb);
+    }
+
+    /**
+     * Matches the GIN-indexed search vector of the task against the search text. The vector is
+     * mapped by {@link TaskSearchDocument} and joined by primary key.
+     */
+    private static Match fullTextMatch(
+        String text, CriteriaQuery<?> query, Root<Task> task, CriteriaBuilder cb)
+    {
+        Root<TaskSearchDocument> document = query.from(TaskSearchDocument.class);
+        Expression<String> vector = document.get("searchVector");
+        Expression<String> searchText = cb.literal(text);
+
+        Predicate predicate = cb.and(
+            cb.equal(document.get("id"), task.get("id")), cb.isTrue(
+                cb.function(
+                    TaskSearchFunctionContributor.MATCHES, Boolean.class, vector, searchText)));
+        Expression<Double> rank = cb
+            .function(TaskSearchFunctionContributor.RANK, Double.class, vector, searchText);
+        return new Match(predicate, rank);
+    }
+
+    /**
+     * Requires every word of the search text to occur in the title or description, ignoring
+     * case. Each word scores 2 if it occurs in the title and 1 otherwise.
+     */
+    private static Match substringMatch(String text, Root<Task> task, CriteriaBuilder cb) {
+        Expression<String> title = cb.lower(task.get("title"));
+        Expression<String> description = cb.lower(task.get("description"));
+
+        List<Predicate> predicates = new ArrayList<>();
+        Expression<Integer> rank = cb.literal(0);
+        for (String word : text.toLowerCase(Locale.ROOT).trim().split("\\s+")) {
+            String pattern = "%" + word.replace("\\", "\\\\").replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+            Predicate inTitle = cb.like(title, pattern, '\\');
+            predicates.add(cb.or(inTitle, cb.like(description, pattern, '\\')));
+            rank = cb.sum(rank, cb.<Integer>selectCase().when(inTitle, 2).otherwise(1));
+        }
+        return new Match(cb.and(predicates.toArray(Predicate[]::new)), rank);
+    }
+
+    private boolean isPostgreSql() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+}
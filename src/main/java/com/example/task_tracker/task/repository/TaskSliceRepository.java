@@ -0,0 +1,24 @@
+package com.example.task_tracker.task.repository;
+
+import com.example.task_tracker.task.model.Task;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Custom repository fragment for count-free paging of {@link Task} entities.
+ */
+public interface TaskSliceRepository {
+
+    /**
+     * Retrieves a slice of tasks matching the given specification together with their
+     * projects. Unlike a {@link org.springframework.data.domain.Page}, no count query is
+     * executed; one additional row is fetched to determine whether a next slice exists.
+     *
+     * @param spec the filter criteria (may be {@code null} to match all tasks)
+     * @param pageable pagination and sorting information
+     * @return a slice of matching tasks
+     */
+    Slice<Task> findSlice(Specification<Task> spec, Pageable pageable);
+
+}
@@ -0,0 +1,56 @@
+package com.example.task_tracker.task.repository;
+
+import java.util.List;
+
+import com.example.task_tracker.task.model.Task;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria API based implementation of {@link TaskSliceRepository}.
+ */
+public class TaskSliceRepositoryImpl implements TaskSliceRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<Task> findSlice(Specification<Task> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+        task.fetch("project", JoinType.LEFT);
+
+        Predicate predicate = spec != null ? spec.toPredicate(task, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(task).orderBy(QueryUtils.toOrders(pageable.getSort(), task, cb));
+
+        TypedQuery<Task> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1);
+        }
+        List<Task> tasks = typedQuery.getResultList();
+
+        boolean hasNext = pageable.isPaged() && tasks.size() > pageable.getPageSize();
+        if (hasNext) {
+            tasks = tasks.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(tasks, pageable, hasNext);
+    }
+
+}
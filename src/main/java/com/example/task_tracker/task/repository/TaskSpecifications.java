@@ -0,0 +1,167 @@
+package com.example.task_tracker.task.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.example.task_tracker.task.dto.TaskFilter;
+import com.example.task_tracker.task.model.Task;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Factory for composable {@link Specification}s used to filter {@link Task} entities.
+ * <p>
+ * Each criterion translates into a plain column predicate on the {@code tasks} table (no joins),
+ * so any combination results in a single statement that can use the composite task indexes.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {}
+
+    /**
+     * Combines all criteria set on the given filter.
+     *
+     * @param filter the filter criteria (may be {@code null})
+     * @return a specification matching tasks that satisfy every criterion
+     */
+    public static Specification<Task> matching(TaskFilter filter) {
+        List<Specification<Task>> specs = new ArrayList<>();
+        if (filter != null) {
+            if (filter.getStatus() != null && !filter.getStatus().isEmpty()) {
+                specs.add(statusIn(filter.getStatus()));
+            }
+            if (filter.getPriority() != null && !filter.getPriority().isEmpty()) {
+                specs.add(priorityIn(filter.getPriority()));
+            }
+            if (filter.getProjectId() != null) {
+                specs.add(belongsToProject(filter.getProjectId()));
+            }
+            if (filter.getHasProject() != null) {
+                specs.add(hasProject(filter.getHasProject()));
+            }
+            if (filter.getDueFrom() != null || filter.getDueTo() != null) {
+                specs.add(dueBetween(filter.getDueFrom(), filter.getDueTo()));
+            }
+            if (filter.getCreatedFrom() != null || filter.getCreatedTo() != null) {
+                specs.add(
+                    timestampWithin("createdAt", filter.getCreatedFrom(), filter.getCreatedTo()));
+            }
+            if (filter.getUpdatedFrom() != null || filter.getUpdatedTo() != null) {
+                specs.add(
+                    timestampWithin("updatedAt", filter.getUpdatedFrom(), filter.getUpdatedTo()));
+            }
+        }
+        return Specification.allOf(specs);
+    }
+
+    /**
+     * @param ids the accepted task IDs
+     * @return a specification matching tasks with any of the given IDs
+     */
+    public static Specification<Task> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Matches tasks that would be changed by moving them to the given status and priority.
+     *
+     * @param status the target status, or {@code null} if the status is not changed
+     * @param priority the target priority, or {@code null} if the priority is not changed
+     * @return a specification matching tasks whose status or priority differs from the target
+     */
+    public static Specification<Task> differsFrom(TaskStatus status, TaskPriority priority) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (status != null) {
+                predicates.add(cb.notEqual(root.get("status"), status));
+            }
+            if (priority != null) {
+                predicates.add(cb.notEqual(root.get("priority"), priority));
+            }
+            return cb.or(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * @param statuses the accepted statuses
+     * @return a specification matching tasks in any of the given statuses
+     */
+    public static Specification<Task> statusIn(Collection<TaskStatus> statuses) {
+        return (root, query, cb) -> statuses.size() == 1
+            ? cb.equal(root.get("status"), statuses.iterator().next())
+            : root.get("status").in(statuses);
+    }
+
+    /**
+     * @param priorities the accepted priorities
+     * @return a specification matching tasks with any of the given priorities
+     */
+    public static Specification<Task> priorityIn(Collection<TaskPriority> priorities) {
+        return (root, query, cb) -> priorities.size() == 1
+            ? cb.equal(root.get("priority"), priorities.iterator().next())
+            : root.get("priority").in(priorities);
+    }
+
+    /**
+     * @param projectId the project identifier
+     * @return a specification matching tasks belonging to the given project
+     */
+    public static Specification<Task> belongsToProject(Long projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    /**
+     * @param assigned {@code true} for tasks with a project, {@code false} for tasks without
+     * @return a specification matching tasks by presence of a project
+     */
+    public static Specification<Task> hasProject(boolean assigned) {
+        return (root, query, cb) -> assigned ? cb.isNotNull(root.get("project"))
+            : cb.isNull(root.get("project"));
+    }
+
+    /**
+     * @param from the earliest due date (inclusive, may be {@code null})
+     * @param to the latest due date (inclusive, may be {@code null})
+     * @return a specification matching tasks due within the given range
+     */
+    public static Specification<Task> dueBetween(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            if (from == null) {
+                return cb.lessThanOrEqualTo(root.get("dueDate"), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.get("dueDate"), from);
+            }
+            return cb.between(root.get("dueDate"), from, to);
+        };
+    }
+
+    /**
+     * @param property the timestamp property, {@code createdAt} or {@code updatedAt}
+     * @param from the start of the window (inclusive, may be {@code null})
+     * @param to the end of the window (exclusive, may be {@code null})
+     * @return a specification matching tasks whose timestamp lies within the window
+     */
+    public static Specification<Task> timestampWithin(
+        String property, LocalDateTime from, LocalDateTime to)
+    {
+        return (root, query, cb) -> {
+            if (from == null) {
+                return cb.lessThan(root.get(property), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.get(property), from);
+            }
+            return cb.and(
+                cb.greaterThanOrEqualTo(root.get(property), from),
+                cb.lessThan(root.get(property), to));
+        };
+    }
+
+}
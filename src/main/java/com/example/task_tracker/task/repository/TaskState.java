@@ -0,0 +1,15 @@
+package com.example.task_tracker.task.repository;
+
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+
+/**
+ * Projection of the task columns that per-project statistics depend on.
+ *
+ * @param id the task identifier
+ * @param projectId the project of the task, or {@code null} if it has none
+ * @param status the task status
+ * @param priority the task priority
+ */
+public record TaskState(Long id, Long projectId, TaskStatus status, TaskPriority priority) {
+}
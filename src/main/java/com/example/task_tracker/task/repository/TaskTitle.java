@@ -0,0 +1,10 @@
+package com.example.task_tracker.task.repository;
+
+/**
+ * Projection of a task to its identifier and title.
+ *
+ * @param id the task identifier
+ * @param title the task title
+ */
+public record TaskTitle(Long id, String title) {
+}
@@ -0,0 +1,47 @@
+package com.example.task_tracker.task.repository;
+
+import java.util.List;
+
+import com.example.task_tracker.task.model.Task;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Custom repository fragment for set-based status and priority updates of {@link Task}
+ * entities.
+ * <p>
+ * Specifications passed to these methods must only use the root and criteria builder; the
+ * query argument of {@link Specification#toPredicate} is not available for bulk updates.
+ */
+public interface TaskTransitionRepository {
+
+    /**
+     * Retrieves the state of up to {@code limit} tasks matching the given specification and
+     * locks their rows until the end of the surrounding transaction, so that concurrent
+     * writers cannot change them between this read and a following update.
+     * <p>
+     * Must be called within an existing transaction.
+     *
+     * @param spec the filter criteria
+     * @param limit the maximum number of tasks to return
+     * @return the state of the matching tasks in ascending ID order
+     */
+    List<TaskState> lockStates(Specification<Task> spec, int limit);
+
+    /**
+     * Sets status and/or priority of all tasks matching the given specification with a single
+     * UPDATE statement. The {@code updatedAt} timestamp is set by the database.
+     * <p>
+     * Runs in its own transaction unless called within an existing one. Pending changes are
+     * flushed beforehand and the persistence context is cleared afterwards, so no stale task
+     * instances survive the update.
+     *
+     * @param spec the filter criteria
+     * @param status the new status, or {@code null} to keep it
+     * @param priority the new priority, or {@code null} to keep it
+     * @return the number of updated tasks
+     */
+    int updateStatusAndPriority(Specification<Task> spec, TaskStatus status, TaskPriority priority);
+
+}
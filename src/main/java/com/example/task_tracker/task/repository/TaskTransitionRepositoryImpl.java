@@ -0,0 +1,83 @@
+package com.example.task_tracker.task.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.example.task_tracker.task.model.Task;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria API based implementation of {@link TaskTransitionRepository}.
+ */
+public class TaskTransitionRepositoryImpl implements TaskTransitionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<TaskState> lockStates(Specification<Task> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskState> query = cb.createQuery(TaskState.class);
+        Root<Task> task = query.from(Task.class);
+
+        Predicate predicate = spec.toPredicate(task, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        // Reads the project foreign key column without joining the projects table.
+        query.select(
+            cb.construct(
+                TaskState.class, task.get("id"), task.get("project").get("id"),
+                task.get("status"), task.get("priority")))
+            .orderBy(cb.asc(task.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit)
+            .setLockMode(LockModeType.PESSIMISTIC_WRITE).getResultList();
+    }
+
+    @Override
+    @Transactional
+    public int updateStatusAndPriority(
+        Specification<Task> spec, TaskStatus status, TaskPriority priority)
+    {
+        entityManager.flush();
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+
+        if (status != null) {
+            update.set(task.<TaskStatus>get("status"), status);
+        }
+        if (priority != null) {
+            update.set(task.<TaskPriority>get("priority"), priority);
+        }
+        update.set(task.<LocalDateTime>get("updatedAt"), cb.localDateTime());
+        // Bulk updates bypass Hibernate's version check, so concurrent edits of loaded tasks
+        // must still see that the row has changed.
+        update.set(task.<Long>get("version"), cb.sum(task.<Long>get("version"), 1L));
+
+        Predicate predicate = spec.toPredicate(task, null, cb);
+        if (predicate != null) {
+            update.where(predicate);
+        }
+
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.example.task_tracker.task.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.example.task_tracker.task.dto.TaskFilter;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches task counts per filter for a bounded time.
+ * <p>
+ * Used to provide an estimated total for count-free listings: a count is recomputed at most
+ * once per time-to-live for each distinct filter, so the returned value is never older than
+ * the configured staleness bound. Counts are keyed by a snapshot of the filter, so callers may
+ * keep changing their {@link TaskFilter} afterwards. When the cache is full, it evicts
+ * individual counts instead of dropping all of them.
+ */
+@Component
+public class TaskCountCache {
+
+    /**
+     * Immutable copy of the criteria of a {@link TaskFilter}.
+     */
+    private record Key(
+        List<TaskStatus> status,
+        List<TaskPriority> priority,
+        Long projectId,
+        Boolean hasProject,
+        LocalDate dueFrom,
+        LocalDate dueTo,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        LocalDateTime updatedFrom,
+        LocalDateTime updatedTo)
+    {
+
+        static Key of(TaskFilter filter) {
+            if (filter == null) {
+                return new Key(null, null, null, null, null, null, null, null, null, null);
+            }
+            return new Key(copy(filter.getStatus()), copy(filter.getPriority()),
+                filter.getProjectId(), filter.getHasProject(), filter.getDueFrom(),
+                filter.getDueTo(), filter.getCreatedFrom(), filter.getCreatedTo(),
+                filter.getUpdatedFrom(), filter.getUpdatedTo());
+        }
+
+        private static <T> List<T> copy(List<T> values) {
+            return values != null ? Collections.unmodifiableList(new ArrayList<>(values)) : null;
+        }
+    }
+
+    private final Cache<Key, Long> counts;
+
+    /**
+     * Creates a new {@code TaskCountCache}.
+     *
+     * @param ttl how long a computed count may be served
+     * @param maxEntries the maximum number of cached filters
+     */
+    public TaskCountCache(
+        @Value("${tasktracker.tasks.count-cache.ttl:PT30S}") Duration ttl,
+        @Value("${tasktracker.tasks.count-cache.max-entries:1000}") int maxEntries)
+    {
+        this.counts = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    /**
+     * Returns the cached count for the given filter, computing it if absent or expired.
+     *
+     * @param filter the filter the count belongs to
+     * @param counter computes the exact count
+     * @return the cached or freshly computed count
+     */
+    public long get(TaskFilter filter, Supplier<Long> counter) {
+        return counts.get(Key.of(filter), key -> counter.get());
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.example.task_tracker.task.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Set;
+
+import com.example.task_tracker.task.exception.InvalidCursorException;
+import com.example.task_tracker.task.model.Task;
+import com.example.task_tracker.task.repository.TaskKeyset;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Encodes and decodes the opaque cursors used for keyset pagination of tasks.
+ * <p>
+ * A cursor carries the sort property and direction together with the sort key value and ID of
+ * the anchor task. It is URL-safe Base64 so that it can be passed as a query parameter as-is.
+ */
+public final class TaskCursorCodec {
+
+    /** Task properties that can be used as keyset sort keys. */
+    public static final Set<String> SORTABLE_PROPERTIES =
+        Set.of("createdAt", "updatedAt", "title", "id");
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private TaskCursorCodec() {}
+
+    /**
+     * Creates a cursor pointing at the given task.
+     *
+     * @param task the anchor task
+     * @param order the sort order of the list the task is part of
+     * @return the encoded cursor
+     */
+    public static String encode(Task task, Sort.Order order) {
+        String value = switch (order.getProperty()) {
+            case "createdAt" -> task.getCreatedAt().toString();
+            case "updatedAt" -> task.getUpdatedAt().toString();
+            case "title" -> task.getTitle();
+            default -> "";
+        };
+        String raw = String.join(
+            SEPARATOR, VERSION, order.getProperty(), order.getDirection().name(),
+            task.getId().toString(), value);
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor into a keyset and verifies that it belongs to the given sort order.
+     *
+     * @param cursor the encoded cursor
+     * @param order the sort order of the current request
+     * @param backward whether the slice before the anchor is requested
+     * @return the decoded keyset
+     * @throws InvalidCursorException if the cursor is malformed or was issued for another order
+     */
+    public static TaskKeyset decode(String cursor, Sort.Order order, boolean backward) {
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            parts = raw.split("\\" + SEPARATOR, 5);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        if (parts.length != 5 || !VERSION.equals(parts[0])) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        if (!parts[1].equals(order.getProperty())
+            || !parts[2].equals(order.getDirection().name()))
+        {
+            throw new InvalidCursorException("Cursor does not match the requested sort order");
+        }
+
+        try {
+            Long id = Long.valueOf(parts[3]);
+            Comparable<?> value = switch (parts[1]) {
+                case "createdAt", "updatedAt" -> LocalDateTime.parse(parts[4]);
+                case "title" -> parts[4];
+                default -> id;
+            };
+            return new TaskKeyset(parts[1], order.getDirection(), value, id, backward);
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+
+}
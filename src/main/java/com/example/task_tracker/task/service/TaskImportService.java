@@ -0,0 +1,47 @@
+package com.example.task_tracker.task.service;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+import com.example.task_tracker.task.dto.TaskImportLine;
+import com.example.task_tracker.task.dto.TaskImportProgress;
+import com.example.task_tracker.task.dto.TaskImportResponse;
+
+/**
+ * Service interface for importing large numbers of tasks.
+ */
+public interface TaskImportService {
+
+    /**
+     * Creates a task for every valid line of an import.
+     * <p>
+     * Lines are consumed one at a time as the iterator produces them, so an import of any size
+     * runs in constant memory, and a slow database slows down reading the input instead of
+     * buffering it. Each record is validated like a {@link
+     * com.example.task_tracker.task.dto.TaskCreateRequest}; its project is resolved by ID or
+     * name from a lookup map loaded once. Valid tasks are inserted in batches, each committed
+     * on its own, so rejected lines and failed batches do not affect the rest of the import. A
+     * batch that fails is inserted again one task at a time, so only the lines whose task
+     * cannot be stored are rejected.
+     *
+     * @param lines the parsed lines of the import file
+     * @return the number of imported tasks and the rejected lines
+     */
+    TaskImportResponse importTasks(Iterator<TaskImportLine> lines);
+
+    /**
+     * Creates a task for every valid line of an import, like {@link #importTasks(Iterator)},
+     * and reports the progress while the import runs.
+     * <p>
+     * The listener is called on the importing thread for every rejected line, including lines
+     * of a batch that could not be stored, after every batch and once at the end. Rejected lines are reported to it
+     * without the limit of the response.
+     *
+     * @param lines the parsed lines of the import file
+     * @param listener receives the progress updates
+     * @return the number of imported tasks and the rejected lines
+     */
+    TaskImportResponse importTasks(
+        Iterator<TaskImportLine> lines, Consumer<TaskImportProgress> listener);
+
+}
@@ -0,0 +1,354 @@
+package com.example.task_tracker.task.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.example.task_tracker.event.dto.ChangeEvent;
+import com.example.task_tracker.project.exception.ProjectNotFoundException;
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.stats.model.ProjectTaskCounterId;
+import com.example.task_tracker.stats.service.ProjectTaskStatsService;
+import com.example.task_tracker.suggest.service.SuggestionService;
+import com.example.task_tracker.sync.service.ChangeLogService;
+import com.example.task_tracker.task.dto.TaskImportError;
+import com.example.task_tracker.task.dto.TaskImportLine;
+import com.example.task_tracker.task.dto.TaskImportProgress;
+import com.example.task_tracker.task.dto.TaskImportRecord;
+import com.example.task_tracker.task.dto.TaskImportResponse;
+import com.example.task_tracker.task.model.Task;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Default implementation of {@link TaskImportService}.
+ * <p>
+ * Each batch of tasks is inserted in one transaction together with the project counter
+ * changes and the change log entries, so a failed batch leaves neither behind. The inserts
+ * are sent in JDBC batches; the persistence context is cleared after each of them, so it does
+ * not grow with the batch, and the second-level cache is bypassed. The suggestion index is
+ * updated after each committed batch.
+ * <p>
+ * A batch that cannot be committed, e.g. because a task violates a database constraint that
+ * validation does not check, is inserted again one task per transaction, so that only the
+ * failing lines are rejected. If no transaction can be started at all, the remaining tasks of
+ * the batch are rejected without further attempts.
+ */
+@Service
+public class TaskImportServiceImpl implements TaskImportService {
+
+    /** Number of tasks inserted and committed per transaction. */
+    static final int BATCH_SIZE = 5000;
+
+    /** Number of inserts sent to the database per JDBC batch. */
+    static final int JDBC_BATCH_SIZE = 500;
+
+    /** Upper bound for the number of rejected lines listed in the response. */
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportServiceImpl.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final ProjectRepository projectRepository;
+    private final Validator validator;
+    private final ProjectTaskStatsService statsService;
+    private final SuggestionService suggestionService;
+    private final ChangeLogService changeLogService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Creates a new {@code TaskImportServiceImpl} with the given dependencies.
+     *
+     * @param transactionManager the transaction manager used for the batch transactions
+     * @param projectRepository the repository used to build the project lookup map
+     * @param validator the validator applied to every record
+     * @param statsService the service maintaining per-project task counters
+     * @param suggestionService the service whose title index is updated on import
+     * @param changeLogService the change log the imported tasks are recorded in
+     */
+    public TaskImportServiceImpl(
+        PlatformTransactionManager transactionManager, ProjectRepository projectRepository,
+        Validator validator, ProjectTaskStatsService statsService,
+        SuggestionService suggestionService, ChangeLogService changeLogService)
+    {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.projectRepository = projectRepository;
+        this.validator = validator;
+        this.statsService = statsService;
+        this.suggestionService = suggestionService;
+        this.changeLogService = changeLogService;
+    }
+
+    @Override
+    public TaskImportResponse importTasks(Iterator<TaskImportLine> lines) {
+        return importTasks(lines, progress -> {});
+    }
+
+    @Override
+    public TaskImportResponse importTasks(
+        Iterator<TaskImportLine> lines, Consumer<TaskImportProgress> listener)
+    {
+        ProjectLookup projects = new ProjectLookup(projectRepository.findAll());
+        Progress progress = new Progress(listener);
+        List<PendingTask> batch = new ArrayList<>(BATCH_SIZE);
+
+        while (lines.hasNext()) {
+            TaskImportLine line = lines.next();
+            if (line.error() != null) {
+                progress.reject(line.line(), line.error(), null);
+                continue;
+            }
+            TaskImportRecord record = line.record();
+            Map<String, String> validationErrors = validate(record);
+            if (!validationErrors.isEmpty()) {
+                progress.reject(line.line(), "Validation failed", validationErrors);
+                continue;
+            }
+            Project project;
+            try {
+                project = projects.resolve(record);
+            } catch (IllegalArgumentException ex) {
+                progress.reject(line.line(), ex.getMessage(), null);
+                continue;
+            }
+
+            batch.add(new PendingTask(line.line(), record, project));
+            if (batch.size() == BATCH_SIZE) {
+                insert(batch, progress);
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(batch, progress);
+        }
+        log.info(
+            "Import finished: {} tasks imported, {} lines rejected", progress.imported,
+            progress.failed);
+        progress.report(true);
+        return progress.toResponse();
+    }
+
+    /**
+     * Inserts and commits one batch of tasks, then clears it. If the batch fails, its tasks are
+     * inserted one by one and the lines that still fail are reported as rejected.
+     */
+    private void insert(List<PendingTask> batch, Progress progress) {
+        List<Task> stored;
+        try {
+            stored = store(batch);
+        } catch (RuntimeException ex) {
+            log.warn(
+                "Import batch of {} tasks failed, inserting them one by one", batch.size(), ex);
+            stored = storeEach(batch, progress);
+        }
+
+        for (Task task : stored) {
+            suggestionService.taskSaved(task.getId(), task.getTitle());
+        }
+
+        progress.imported += stored.size();
+        log.info(
+            "Import progress: {} tasks imported, {} lines rejected", progress.imported,
+            progress.failed);
+        progress.report(false);
+        batch.clear();
+    }
+
+    /**
+     * Inserts tasks one per transaction, rejecting the lines whose task cannot be stored.
+     *
+     * @return the stored tasks
+     */
+    private List<Task> storeEach(List<PendingTask> batch, Progress progress) {
+        List<Task> stored = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            PendingTask pending = batch.get(i);
+            try {
+                stored.addAll(store(List.of(pending)));
+            } catch (CannotCreateTransactionException ex) {
+                // The database is unavailable; no line is at fault, and retrying each is futile.
+                log.warn("Import batch aborted, no transaction could be started", ex);
+                for (PendingTask rest : batch.subList(i, batch.size())) {
+                    progress.reject(rest.line(), "Could not store task: " + ex.getMessage(), null);
+                }
+                break;
+            } catch (RuntimeException ex) {
+                progress.reject(pending.line(), "Could not store task: " + ex.getMessage(), null);
+            }
+        }
+        return stored;
+    }
+
+    /**
+     * Inserts and commits tasks together with their counter changes and change log entries.
+     * Any exception, including one thrown on commit, means that none of them was stored.
+     *
+     * @return the stored tasks
+     */
+    private List<Task> store(List<PendingTask> pending) {
+        return transactionTemplate.execute(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.setJdbcBatchSize(JDBC_BATCH_SIZE);
+            session.setCacheMode(CacheMode.IGNORE);
+            List<Task> tasks = new ArrayList<>(pending.size());
+            Map<ProjectTaskCounterId, Long> counterDeltas = new HashMap<>();
+            for (PendingTask item : pending) {
+                Task task = toEntity(item.record(), item.project());
+                session.persist(task);
+                tasks.add(task);
+                if (tasks.size() % JDBC_BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+                Long projectId = item.project() != null ? item.project().getId() : null;
+                counterDeltas.merge(
+                    new ProjectTaskCounterId(projectId, task.getStatus(), task.getPriority()),
+                    1L, Long::sum);
+            }
+            session.flush();
+            session.clear();
+            statsService.applyDeltas(counterDeltas);
+            changeLogService.recordCreated(
+                ChangeEvent.TASK, tasks.stream().map(Task::getId).toList());
+            return tasks;
+        });
+    }
+
+    private Map<String, String> validate(TaskImportRecord record) {
+        return validator.validate(record).stream().collect(
+            Collectors.toMap(
+                violation -> violation.getPropertyPath().toString(),
+                ConstraintViolation::getMessage, (msg1, msg2) -> msg1));
+    }
+
+    private static Task toEntity(TaskImportRecord record, Project project) {
+        Task task = new Task(
+            record.getTitle(), record.getDescription(),
+            record.getStatus() != null ? record.getStatus() : TaskStatus.OPEN,
+            record.getPriority() != null ? record.getPriority() : TaskPriority.MEDIUM,
+            record.getDueDate());
+        task.setProject(project);
+        return task;
+    }
+
+    /**
+     * A valid line waiting to be inserted with the next batch. The entity is created in the
+     * transaction that inserts it, so a failed batch can be inserted again.
+     */
+    private record PendingTask(long line, TaskImportRecord record, Project project) {
+    }
+
+    /**
+     * Resolves the project of a record from all projects, loaded once per import.
+     */
+    private static final class ProjectLookup {
+
+        private final Map<Long, Project> byId;
+        private final Map<String, Project> byName = new HashMap<>();
+        private final Set<String> ambiguousNames = new HashSet<>();
+
+        ProjectLookup(List<Project> projects) {
+            byId = projects.stream().collect(Collectors.toMap(Project::getId, Function.identity()));
+            for (Project project : projects) {
+                String key = nameKey(project.getName());
+                if (byName.putIfAbsent(key, project) != null) {
+                    ambiguousNames.add(key);
+                }
+            }
+        }
+
+        /**
+         * @param record the import record
+         * @return the referenced project, or {@code null} if the record references none
+         * @throws IllegalArgumentException if the referenced project does not exist or its
+         *         name is ambiguous
+         */
+        Project resolve(TaskImportRecord record) {
+            if (record.getProjectId() != null) {
+                Project project = byId.get(record.getProjectId());
+                if (project == null) {
+                    throw new IllegalArgumentException(
+                        new ProjectNotFoundException(record.getProjectId()).getMessage());
+                }
+                return project;
+            }
+            if (record.getProjectName() == null || record.getProjectName().isBlank()) {
+                return null;
+            }
+            String key = nameKey(record.getProjectName());
+            if (ambiguousNames.contains(key)) {
+                throw new IllegalArgumentException(
+                    "Project name '" + record.getProjectName() + "' is not unique");
+            }
+            Project project = byName.get(key);
+            if (project == null) {
+                throw new IllegalArgumentException(
+                    "Project named '" + record.getProjectName() + "' not found");
+            }
+            return project;
+        }
+
+        private static String nameKey(String name) {
+            return name.strip().toLowerCase(Locale.ROOT);
+        }
+
+    }
+
+    /**
+     * Counts imported and rejected lines, keeps the first rejections for the response and
+     * passes updates to the listener of the import.
+     */
+    private static final class Progress {
+
+        private final Consumer<TaskImportProgress> listener;
+        private long imported;
+        private long failed;
+        private final List<TaskImportError> errors = new ArrayList<>();
+
+        Progress(Consumer<TaskImportProgress> listener) {
+            this.listener = listener;
+        }
+
+        void reject(long line, String error, Map<String, String> validationErrors) {
+            failed++;
+            TaskImportError rejected = new TaskImportError(line, error, validationErrors);
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(rejected);
+            }
+            listener.accept(new TaskImportProgress(imported, failed, rejected, false));
+        }
+
+        void report(boolean done) {
+            listener.accept(new TaskImportProgress(imported, failed, null, done));
+        }
+
+        TaskImportResponse toResponse() {
+            return new TaskImportResponse(imported, failed, errors, failed > errors.size());
+        }
+
+    }
+
+}
@@ -1,12 +1,24 @@
 package com.example.task_tracker.task.service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.example.task_tracker.task.dto.TaskBatchResponse;
+import com.example.task_tracker.task.dto.TaskChanges;
 import com.example.task_tracker.task.dto.TaskCreateRequest;
+import com.example.task_tracker.task.dto.TaskCursorPage;
+import com.example.task_tracker.task.dto.TaskFilter;
+import com.example.task_tracker.task.dto.TaskPatchRequest;
 import com.example.task_tracker.task.dto.TaskResponse;
+import com.example.task_tracker.task.dto.TaskSlice;
+import com.example.task_tracker.task.dto.TaskTransitionRequest;
+import com.example.task_tracker.task.dto.TaskTransitionResponse;
 import com.example.task_tracker.task.dto.TaskUpdateRequest;
-import com.example.task_tracker.task.model.TaskPriority;
-import com.example.task_tracker.task.model.TaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 /**
  * Service interface defining business operations for managing tasks.
@@ -23,6 +35,18 @@ public interface TaskService {
      */
     TaskResponse createTask(TaskCreateRequest request);
 
+    /**
+     * Creates multiple tasks at once.
+     * <p>
+     * Each item is validated individually; invalid items and items referencing unknown projects
+     * are reported in the result without affecting the remaining items. All referenced projects
+     * are resolved with a single query and the tasks are inserted in JDBC batches.
+     *
+     * @param requests the input data for the new tasks
+     * @return the per-item results in request order
+     */
+    TaskBatchResponse createTasks(List<TaskCreateRequest> requests);
+
     /**
      * Retrieves a task by its ID.
      *
@@ -31,6 +55,18 @@ public interface TaskService {
      */
     TaskResponse getTaskById(Long id);
 
+    /**
+     * Returns an opaque version of the task list, used to answer conditional requests without
+     * loading any task.
+     * <p>
+     * The version changes whenever a task or project is created, updated or deleted, since
+     * listed tasks include their project names. It is the sequence number of the last change
+     * recorded in the change log, read with a single primary-key lookup.
+     *
+     * @return the current version of the task list
+     */
+    String getTasksVersion();
+
     /**
      * Returns a paginated list of tasks with optional filtering.
      * <p>
@@ -38,22 +74,138 @@ public interface TaskService {
      * Sorting can be configured by passing a {@code sort} query parameter.
      *
      * @param pageable pagination and sorting information
-     * @param status optional filter for task status (may be {@code null})
-     * @param priority optional filter for task priority (may be {@code null})
-     * @param projectId optional filter for tasks belonging to a specific project
+     * @param filter optional filter criteria (may be {@code null})
      * @return a page of task responses
      */
-    Page<TaskResponse> getTasks(
-        Pageable pageable, TaskStatus status, TaskPriority priority, Long projectId);
+    Page<TaskResponse> getTasks(Pageable pageable, TaskFilter filter);
+
+    /**
+     * Returns a page of tasks with optional filtering, without computing the exact total.
+     * <p>
+     * Avoids the {@code COUNT(*)} query of {@link #getTasks}. If requested, an estimated total
+     * is served from a count cache whose entries expire after a configurable staleness bound.
+     *
+     * @param pageable pagination and sorting information
+     * @param filter optional filter criteria (may be {@code null})
+     * @param estimateTotal whether to include an estimated total
+     * @return a slice of task responses
+     */
+    TaskSlice getTaskSlice(Pageable pageable, TaskFilter filter, boolean estimateTotal);
+
+    /**
+     * Searches the title and description of all tasks for the given text, with optional
+     * filtering.
+     * <p>
+     * Results are ordered by relevance; the sort order of {@code pageable} only breaks ties.
+     * On PostgreSQL, the search is served by a full-text index and understands quoted phrases
+     * and {@code -word} exclusions.
+     *
+     * @param query the search text
+     * @param pageable pagination information
+     * @param filter optional filter criteria (may be {@code null})
+     * @return a page of matching task responses
+     * @throws com.example.task_tracker.task.exception.InvalidSearchQueryException if the
+     *         search text is blank or too long
+     */
+    Page<TaskResponse> searchTasks(String query, Pageable pageable, TaskFilter filter);
+
+    /**
+     * Returns a slice of tasks using cursor (keyset) pagination with optional filtering.
+     * <p>
+     * At most one of {@code after} and {@code before} may be given. Without a cursor, the first
+     * slice of the list is returned. {@code sort} may contain at most one order; the task ID is
+     * always appended as a tie-breaker.
+     *
+     * @param after optional cursor of the task after which the slice starts
+     * @param before optional cursor of the task before which the slice ends
+     * @param size the maximum number of tasks in the slice
+     * @param sort the sort order of the list
+     * @param filter optional filter criteria (may be {@code null})
+     * @return the slice of task responses together with cursors for adjacent slices
+     * @throws com.example.task_tracker.task.exception.InvalidCursorException if both cursors
+     *         are given, a cursor is malformed, or the sort is not supported by cursor
+     *         pagination
+     */
+    TaskCursorPage getTasksByCursor(
+        String after, String before, int size, Sort sort, TaskFilter filter);
+
+    /**
+     * Returns the tasks and projects changed or deleted since the given token.
+     * <p>
+     * Changes are read from a change log ordered by a sequence number that increases with
+     * every committed transaction, so a sync reads only as many rows as there were changes and
+     * never misses a change that committed late. Without a token, all tasks and projects are
+     * returned. Deletions are reported for as long as their tombstones are retained.
+     *
+     * @param since the {@code nextToken} of the previous sync, or {@code null} for a full sync
+     * @param size the maximum number of changes
+     * @return the changes with the token for the next sync
+     * @throws com.example.task_tracker.task.exception.InvalidCursorException if the token is
+     *         malformed
+     * @throws com.example.task_tracker.sync.exception.ChangeTokenExpiredException if deletions
+     *         since the token have already been purged
+     */
+    TaskChanges getChanges(String since, int size);
+
+    /**
+     * Passes all tasks matching the filter to the given consumer as a stream, in constant
+     * memory.
+     * <p>
+     * Tasks are read from a forward-only database cursor within a read-only transaction that
+     * lasts as long as the consumer runs, so any number of tasks can be exported without
+     * paging or a count query. The consumer must process the tasks one by one instead of
+     * collecting them.
+     *
+     * @param filter optional filter criteria (may be {@code null})
+     * @param sort the order of the tasks
+     * @param consumer processes the stream, e.g. by writing each task to a response
+     * @param <R> the result type of the consumer
+     * @return the result of the consumer
+     */
+    <R> R exportTasks(TaskFilter filter, Sort sort, Function<Stream<TaskResponse>, R> consumer);
 
     /**
      * Updates an existing task by its ID.
+     * <p>
+     * If {@code unmodifiedSince} is given and the task has been modified since, the update
+     * fails with an {@link org.springframework.dao.OptimisticLockingFailureException}. The
+     * check runs in the transaction of the update.
      *
      * @param id the task identifier
      * @param request the update payload
+     * @param unmodifiedSince the modification time of the task the update is based on, or
+     *        {@code null} to apply it to the current version
      * @return the updated task response
      */
-    TaskResponse updateTask(Long id, TaskUpdateRequest request);
+    TaskResponse updateTask(Long id, TaskUpdateRequest request, LocalDateTime unmodifiedSince);
+
+    /**
+     * Changes the given fields of an existing task and leaves all others as they are.
+     * <p>
+     * Only the changed columns are written. If the task is changed concurrently, the update
+     * fails with an {@link org.springframework.dao.OptimisticLockingFailureException}. Changes
+     * of status and priority alone do not depend on the rest of the task, so they are retried
+     * on the newer version a few times instead, unless {@code unmodifiedSince} is given.
+     *
+     * @param id the task identifier
+     * @param request the fields to change
+     * @param unmodifiedSince the modification time of the task the change is based on, or
+     *        {@code null} to apply it to the current version
+     * @return the updated task response
+     */
+    TaskResponse patchTask(Long id, TaskPatchRequest request, LocalDateTime unmodifiedSince);
+
+    /**
+     * Moves all selected tasks to the requested status and/or priority.
+     * <p>
+     * Runs as set-based UPDATE statements in chunks, each committed on its own, instead of
+     * loading and saving every task. Tasks already in the target state are left untouched,
+     * so an interrupted transition can simply be repeated.
+     *
+     * @param request the task selection and target state
+     * @return the number of changed tasks
+     */
+    TaskTransitionResponse transitionTasks(TaskTransitionRequest request);
 
     /**
      * Deletes a task by its ID.
@@ -1,98 +1,386 @@
 package com.example.task_tracker.task.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.example.task_tracker.common.Versions;
+import com.example.task_tracker.event.dto.ChangeEvent;
+import com.example.task_tracker.project.dto.ProjectResponse;
 import com.example.task_tracker.project.exception.ProjectNotFoundException;
 import com.example.task_tracker.project.model.Project;
 import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.project.service.ProjectCache;
+import com.example.task_tracker.stats.model.ProjectTaskCounterId;
+import com.example.task_tracker.stats.service.ProjectTaskStatsService;
+import com.example.task_tracker.suggest.service.SuggestionService;
+import com.example.task_tracker.sync.dto.ChangeLogEntry;
+import com.example.task_tracker.sync.dto.ChangeLogPage;
+import com.example.task_tracker.sync.dto.ChangeToken;
+import com.example.task_tracker.sync.service.ChangeLogService;
+import com.example.task_tracker.task.dto.TaskBatchItemResult;
+import com.example.task_tracker.task.dto.TaskBatchResponse;
+import com.example.task_tracker.task.dto.TaskChanges;
 import com.example.task_tracker.task.dto.TaskCreateRequest;
+import com.example.task_tracker.task.dto.TaskCursorPage;
+import com.example.task_tracker.task.dto.TaskFilter;
+import com.example.task_tracker.task.dto.TaskPatchRequest;
 import com.example.task_tracker.task.dto.TaskResponse;
+import com.example.task_tracker.task.dto.TaskSlice;
+import com.example.task_tracker.task.dto.TaskTransitionRequest;
+import com.example.task_tracker.task.dto.TaskTransitionResponse;
 import com.example.task_tracker.task.dto.TaskUpdateRequest;
+import com.example.task_tracker.task.exception.BatchTooLargeException;
+import com.example.task_tracker.task.exception.InvalidCursorException;
+import com.example.task_tracker.task.exception.InvalidSearchQueryException;
 import com.example.task_tracker.task.exception.TaskNotFoundException;
 import com.example.task_tracker.task.model.Task;
 import com.example.task_tracker.task.model.TaskPriority;
 import com.example.task_tracker.task.model.TaskStatus;
+import com.example.task_tracker.task.repository.TaskKeyset;
 import com.example.task_tracker.task.repository.TaskRepository;
+import com.example.task_tracker.task.repository.TaskSpecifications;
+import com.example.task_tracker.task.repository.TaskState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 /**
  * Service implementation of {@link TaskService} providing the business logic for creating, updating,
  * retrieving, and deleting tasks. Delegates persistence operations to {@link TaskRepository}.
+ * Every change is published as a {@link ChangeEvent}, delivered once its transaction commits.
+ * Every method is timed as {@code tasktracker.service}, tagged with class and method.
  */
 @Service
+@Timed(value = "tasktracker.service", histogram = true)
 public class TaskServiceImpl implements TaskService {
 
+    /** Upper bound for the size of a single cursor slice. */
+    static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
+    /** Upper bound for the length of a search query. */
+    static final int MAX_SEARCH_QUERY_LENGTH = 200;
+
+    /** Upper bound for the number of items in a single batch creation request. */
+    static final int MAX_BATCH_SIZE = 5000;
+
+    /** Number of tasks changed per UPDATE statement of a bulk transition. */
+    static final int TRANSITION_CHUNK_SIZE = 1000;
+
+    /** Number of attempts for a status or priority change that conflicts with other edits. */
+    static final int MAX_PATCH_ATTEMPTS = 3;
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
+    private final ProjectCache projectCache;
+    private final Validator validator;
+    private final TaskCountCache countCache;
+    private final ProjectTaskStatsService statsService;
+    private final SuggestionService suggestionService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeLogService changeLogService;
 
     /**
-     * Creates a new {@code TaskServiceImpl} with the required repository dependencies.
+     * Creates a new {@code TaskServiceImpl} with the required dependencies.
      *
      * @param taskRepository the repository used for task persistence
      * @param projectRepository the repository used for project lookups
+     * @param projectCache the cache used to check project existence on single task writes
+     * @param validator the validator used for items of batch requests
+     * @param countCache the cache serving estimated totals for count-free listings
+     * @param statsService the service maintaining per-project task counters
+     * @param suggestionService the service whose title index is updated on task writes
+     * @param transactionManager the transaction manager used for chunked bulk transitions
+     * @param eventPublisher the publisher of task change events
+     * @param changeLogService the change log read by delta synchronization
      */
-    public TaskServiceImpl(TaskRepository taskRepository, ProjectRepository projectRepository) {
+    public TaskServiceImpl(
+        TaskRepository taskRepository, ProjectRepository projectRepository,
+        ProjectCache projectCache, Validator validator, TaskCountCache countCache,
+        ProjectTaskStatsService statsService, SuggestionService suggestionService,
+        PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+        ChangeLogService changeLogService)
+    {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
+        this.projectCache = projectCache;
+        this.validator = validator;
+        this.countCache = countCache;
+        this.statsService = statsService;
+        this.suggestionService = suggestionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.changeLogService = changeLogService;
     }
 
     @Override
+    @Transactional
     public TaskResponse createTask(TaskCreateRequest request) {
-        Task task = new Task(
-            request.getTitle(), request.getDescription(),
-            request.getStatus() != null ? request.getStatus() : TaskStatus.OPEN,
-            request.getPriority() != null ? request.getPriority() : TaskPriority.MEDIUM,
-            request.getDueDate());
+        Task task = toEntity(request);
+        ProjectResponse project = attachProject(task, request.getProjectId());
 
-        if (request.getProjectId() != null) {
-            Project project = projectRepository.findById(request.getProjectId())
-                .orElseThrow(() -> new ProjectNotFoundException(request.getProjectId()));
-            task.setProject(project);
-        }
         Task saved = taskRepository.save(task);
-        return mapToResponse(saved);
+        statsService.recordCreated(projectIdOf(saved), saved.getStatus(), saved.getPriority());
+        suggestionService.taskSaved(saved.getId(), saved.getTitle());
+        eventPublisher.publishEvent(
+            ChangeEvent.created(ChangeEvent.TASK, saved.getId(), fieldsOf(saved)));
+        return mapToResponse(saved, project);
     }
 
     @Override
+    @Transactional
+    public TaskBatchResponse createTasks(List<TaskCreateRequest> requests) {
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new BatchTooLargeException(requests.size(), MAX_BATCH_SIZE);
+        }
+
+        // Resolve all referenced projects with a single query.
+        Set<Long> projectIds = requests.stream().filter(Objects::nonNull)
+            .map(TaskCreateRequest::getProjectId).filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Map<Long, Project> projects = projectRepository.findAllById(projectIds).stream()
+            .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        TaskBatchItemResult[] results = new TaskBatchItemResult[requests.size()];
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> taskIndexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            TaskCreateRequest request = requests.get(i);
+            if (request == null) {
+                results[i] = TaskBatchItemResult.failed(i, "Item must not be null", null);
+                continue;
+            }
+            Map<String, String> validationErrors = validate(request);
+            if (!validationErrors.isEmpty()) {
+                results[i] = TaskBatchItemResult.failed(i, "Validation failed", validationErrors);
+                continue;
+            }
+
+            Task task = toEntity(request);
+            if (request.getProjectId() != null) {
+                Project project = projects.get(request.getProjectId());
+                if (project == null) {
+                    results[i] = TaskBatchItemResult.failed(
+                        i, new ProjectNotFoundException(request.getProjectId()).getMessage(),
+                        null);
+                    continue;
+                }
+                task.setProject(project);
+            }
+            tasks.add(task);
+            taskIndexes.add(i);
+        }
+
+        // IDs come from a pooled sequence, so Hibernate can batch the INSERTs on flush.
+        List<Task> saved = taskRepository.saveAll(tasks);
+        Map<ProjectTaskCounterId, Long> counterDeltas = new HashMap<>();
+        for (int j = 0; j < saved.size(); j++) {
+            Task task = saved.get(j);
+            int index = taskIndexes.get(j);
+            results[index] = TaskBatchItemResult.created(index, mapToResponse(task));
+            counterDeltas.merge(
+                new ProjectTaskCounterId(projectIdOf(task), task.getStatus(), task.getPriority()),
+                1L, Long::sum);
+            suggestionService.taskSaved(task.getId(), task.getTitle());
+            eventPublisher.publishEvent(
+                ChangeEvent.created(ChangeEvent.TASK, task.getId(), fieldsOf(task)));
+        }
+        statsService.applyDeltas(counterDeltas);
+        return new TaskBatchResponse(
+            saved.size(), requests.size() - saved.size(), List.of(results));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public TaskResponse getTaskById(Long id) {
         Task task = taskRepository.findById(id).orElseThrow(() -> new TaskNotFoundException(id));
         return mapToResponse(task);
     }
 
     @Override
-    public Page<TaskResponse> getTasks(
-        Pageable pageable, TaskStatus status, TaskPriority priority, Long projectId)
+    @Transactional(readOnly = true)
+    public String getTasksVersion() {
+        return Versions.of(changeLogService.getLastSequence());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TaskResponse> getTasks(Pageable pageable, TaskFilter filter) {
+        return taskRepository.findAll(TaskSpecifications.matching(filter), pageable)
+            .map(TaskServiceImpl::mapToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TaskResponse> searchTasks(String query, Pageable pageable, TaskFilter filter) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidSearchQueryException("Search query must not be blank");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new InvalidSearchQueryException(
+                "Search query must not exceed " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        return taskRepository.search(query.strip(), TaskSpecifications.matching(filter), pageable)
+            .map(TaskServiceImpl::mapToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskSlice getTaskSlice(Pageable pageable, TaskFilter filter, boolean estimateTotal) {
+        Specification<Task> spec = TaskSpecifications.matching(filter);
+        Slice<Task> slice = taskRepository.findSlice(spec, pageable);
+
+        Long estimatedTotal = null;
+        if (estimateTotal) {
+            estimatedTotal = countCache.get(filter, () -> taskRepository.count(spec));
+        }
+        return new TaskSlice(
+            slice.getContent().stream().map(TaskServiceImpl::mapToResponse).toList(),
+            slice.getNumber(), slice.getSize(), slice.hasNext(), estimatedTotal);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskCursorPage getTasksByCursor(
+        String after, String before, int size, Sort sort, TaskFilter filter)
     {
-        Page<Task> page;
-
-        if (projectId != null) {
-            if (status != null && priority != null) {
-                page = taskRepository
-                    .findAllByProjectIdAndStatusAndPriority(projectId, status, priority, pageable);
-            } else if (status != null) {
-                page = taskRepository.findAllByProjectIdAndStatus(projectId, status, pageable);
-            } else if (priority != null) {
-                page = taskRepository.findAllByProjectIdAndPriority(projectId, priority, pageable);
-            } else {
-                page = taskRepository.findAllByProjectId(projectId, pageable);
-            }
-        } else {
-            if (status != null && priority != null) {
-                page = taskRepository.findAllByStatusAndPriority(status, priority, pageable);
-            } else if (status != null) {
-                page = taskRepository.findAllByStatus(status, pageable);
-            } else if (priority != null) {
-                page = taskRepository.findAllByPriority(priority, pageable);
-            } else {
-                page = taskRepository.findAll(pageable);
+        if (after != null && before != null) {
+            throw new InvalidCursorException("Only one of 'after' and 'before' may be given");
+        }
+        if (sort.stream().count() > 1) {
+            throw new InvalidCursorException("Cursor pagination supports a single sort order");
+        }
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc("createdAt"));
+        if (!TaskCursorCodec.SORTABLE_PROPERTIES.contains(order.getProperty())) {
+            throw new InvalidCursorException(
+                "Cursor pagination does not support sorting by '" + order.getProperty() + "'");
+        }
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        boolean backward = before != null;
+        String cursor = backward ? before : after;
+        TaskKeyset keyset = cursor != null
+            ? TaskCursorCodec.decode(cursor, order, backward)
+            : TaskKeyset.first(order.getProperty(), order.getDirection());
+
+        // Fetch one extra row to find out whether there is another slice beyond this one.
+        List<Task> tasks = taskRepository
+            .findAllByKeyset(keyset, limit + 1, TaskSpecifications.matching(filter));
+        boolean hasMore = tasks.size() > limit;
+        if (hasMore) {
+            tasks = tasks.subList(0, limit);
+        }
+        if (backward) {
+            tasks = new ArrayList<>(tasks);
+            Collections.reverse(tasks);
+        }
+        if (tasks.isEmpty()) {
+            return new TaskCursorPage(List.of(), null, null);
+        }
+
+        boolean hasNext = backward || hasMore;
+        boolean hasPrevious = backward ? hasMore : after != null;
+        String nextCursor =
+            hasNext ? TaskCursorCodec.encode(tasks.get(tasks.size() - 1), order) : null;
+        String previousCursor = hasPrevious ? TaskCursorCodec.encode(tasks.get(0), order) : null;
+        return new TaskCursorPage(
+            tasks.stream().map(TaskServiceImpl::mapToResponse).toList(), nextCursor,
+            previousCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskChanges getChanges(String since, int size) {
+        ChangeToken after = since != null ? ChangeToken.decode(since) : ChangeToken.INITIAL;
+        ChangeLogPage page =
+            changeLogService.getChanges(after, Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE)));
+
+        List<Long> taskIds = new ArrayList<>();
+        List<Long> deletedTaskIds = new ArrayList<>();
+        List<Long> projectIds = new ArrayList<>();
+        List<Long> deletedProjectIds = new ArrayList<>();
+        for (ChangeLogEntry entry : page.entries()) {
+            boolean isTask = ChangeEvent.TASK.equals(entry.resource());
+            if (!entry.deleted()) {
+                (isTask ? taskIds : projectIds).add(entry.id());
+            } else if (!after.isInitial()) {
+                // A client syncing from scratch has nothing to delete.
+                (isTask ? deletedTaskIds : deletedProjectIds).add(entry.id());
             }
         }
-        return page.map(this::mapToResponse);
+
+        // Tasks deleted after the log was read are missing here; their tombstones follow later.
+        Map<Long, Task> tasks = taskRepository.findAllById(taskIds).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+        // Projects are read in this transaction, not from the project cache: its evictions
+        // follow the writer's commit, so it may still hold the state before a logged change.
+        Set<Long> loadedProjectIds = new HashSet<>(projectIds);
+        tasks.values().stream().map(TaskServiceImpl::projectIdOf).filter(Objects::nonNull)
+            .forEach(loadedProjectIds::add);
+        Map<Long, ProjectResponse> projects = projectRepository.findAllById(loadedProjectIds)
+            .stream().collect(Collectors.toMap(Project::getId, ProjectCache::toResponse));
+
+        List<TaskResponse> changedTasks = taskIds.stream().map(tasks::get)
+            .filter(Objects::nonNull)
+            .map(task -> mapToResponse(task, projects.get(projectIdOf(task)))).toList();
+        List<ProjectResponse> changedProjects =
+            projectIds.stream().map(projects::get).filter(Objects::nonNull).toList();
+
+        return new TaskChanges(
+            changedTasks, deletedTaskIds, changedProjects, deletedProjectIds,
+            page.next().encode(), page.hasMore());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public <R> R exportTasks(
+        TaskFilter filter, Sort sort, Function<Stream<TaskResponse>, R> consumer)
+    {
+        try (Stream<Task> tasks =
+            taskRepository.streamAll(TaskSpecifications.matching(filter), sort))
+        {
+            return consumer.apply(tasks.map(TaskServiceImpl::mapToResponse));
+        }
     }
 
     @Override
-    public TaskResponse updateTask(Long id, TaskUpdateRequest request) {
+    @Transactional
+    public TaskResponse updateTask(
+        Long id, TaskUpdateRequest request, LocalDateTime unmodifiedSince)
+    {
         Task task = taskRepository.findById(id).orElseThrow(() -> new TaskNotFoundException(id));
+        if (unmodifiedSince != null && !unmodifiedSince.equals(task.getUpdatedAt())) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, id);
+        }
+        Map<String, Object> oldFields = fieldsOf(task);
+        Long oldProjectId = projectIdOf(task);
+        TaskStatus oldStatus = task.getStatus();
+        TaskPriority oldPriority = task.getPriority();
 
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
@@ -103,35 +391,304 @@ public class TaskServiceImpl implements TaskService {
             task.setPriority(request.getPriority());
         }
         task.setDueDate(request.getDueDate());
+        ProjectResponse project = attachProject(task, request.getProjectId());
+
+        Task updated = taskRepository.save(task);
+        recordStateChange(oldProjectId, oldStatus, oldPriority, updated);
+        suggestionService.taskSaved(updated.getId(), updated.getTitle());
+        eventPublisher.publishEvent(
+            ChangeEvent.updated(ChangeEvent.TASK, id, oldFields, fieldsOf(updated)));
+        return mapToResponse(updated, project);
+    }
 
-        if (request.getProjectId() != null) {
-            Project project = projectRepository.findById(request.getProjectId())
-                .orElseThrow(() -> new ProjectNotFoundException(request.getProjectId()));
-            task.setProject(project);
+    @Override
+    public TaskResponse patchTask(
+        Long id, TaskPatchRequest request, LocalDateTime unmodifiedSince)
+    {
+        int attempts =
+            unmodifiedSince == null && request.changesStateOnly() ? MAX_PATCH_ATTEMPTS : 1;
+        for (int attempt = 1;; attempt++) {
+            try {
+                return transactionTemplate.execute(tx -> applyPatch(id, request, unmodifiedSince));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= attempts) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @Override
+    public TaskTransitionResponse transitionTasks(TaskTransitionRequest request) {
+        TaskStatus status = request.getTargetStatus();
+        TaskPriority priority = request.getTargetPriority();
+        Specification<Task> pending = TaskSpecifications.differsFrom(status, priority);
+        long updated = 0;
+
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            List<Long> ids = request.getIds().stream().distinct().toList();
+            for (int from = 0; from < ids.size(); from += TRANSITION_CHUNK_SIZE) {
+                List<Long> chunk =
+                    ids.subList(from, Math.min(from + TRANSITION_CHUNK_SIZE, ids.size()));
+                updated += transitionChunk(
+                    pending.and(TaskSpecifications.idIn(chunk)), status, priority);
+            }
         } else {
-            task.setProject(null);
+            Specification<Task> selection =
+                TaskSpecifications.matching(request.getFilter()).and(pending);
+            // Updated tasks no longer match the selection, so each round picks up the next chunk.
+            while (true) {
+                int chunkUpdated = transitionChunk(selection, status, priority);
+                updated += chunkUpdated;
+                if (chunkUpdated < TRANSITION_CHUNK_SIZE) {
+                    break;
+                }
+            }
         }
-        Task updated = taskRepository.save(task);
-        return mapToResponse(updated);
+        return new TaskTransitionResponse(updated);
     }
 
     @Override
+    @Transactional
     public void deleteTask(Long id) {
-        if (!taskRepository.existsById(id)) {
-            throw new TaskNotFoundException(id);
+        Task task = taskRepository.findById(id).orElseThrow(() -> new TaskNotFoundException(id));
+        taskRepository.delete(task);
+        statsService.recordDeleted(projectIdOf(task), task.getStatus(), task.getPriority());
+        suggestionService.taskDeleted(id);
+        eventPublisher.publishEvent(ChangeEvent.deleted(ChangeEvent.TASK, id));
+    }
+
+    /**
+     * Applies a partial update within the current transaction. The task is flushed right away,
+     * so a concurrent change is detected by its version before the transaction ends.
+     *
+     * @param id the task identifier
+     * @param request the fields to change
+     * @param unmodifiedSince the expected modification time of the task, or {@code null}
+     * @return the updated task response
+     * @throws ObjectOptimisticLockingFailureException if the task was modified
+     */
+    private TaskResponse applyPatch(
+        Long id, TaskPatchRequest request, LocalDateTime unmodifiedSince)
+    {
+        Task task = taskRepository.findById(id).orElseThrow(() -> new TaskNotFoundException(id));
+        if (unmodifiedSince != null && !unmodifiedSince.equals(task.getUpdatedAt())) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, id);
+        }
+        Map<String, Object> oldFields = fieldsOf(task);
+        Long oldProjectId = projectIdOf(task);
+        TaskStatus oldStatus = task.getStatus();
+        TaskPriority oldPriority = task.getPriority();
+
+        if (request.hasTitle()) {
+            task.setTitle(request.getTitle());
+        }
+        if (request.hasDescription()) {
+            task.setDescription(request.getDescription());
+        }
+        if (request.hasStatus()) {
+            task.setStatus(request.getStatus());
+        }
+        if (request.hasPriority()) {
+            task.setPriority(request.getPriority());
+        }
+        if (request.hasDueDate()) {
+            task.setDueDate(request.getDueDate());
+        }
+        ProjectResponse project = null;
+        if (request.hasProjectId()) {
+            project = attachProject(task, request.getProjectId());
+        }
+
+        Task updated = taskRepository.saveAndFlush(task);
+        recordStateChange(oldProjectId, oldStatus, oldPriority, updated);
+        if (request.hasTitle()) {
+            suggestionService.taskSaved(updated.getId(), updated.getTitle());
         }
-        taskRepository.deleteById(id);
+        eventPublisher.publishEvent(
+            ChangeEvent.updated(ChangeEvent.TASK, id, oldFields, fieldsOf(updated)));
+        return mapToResponse(updated, project);
+    }
+
+    /**
+     * Moves a task from its previous project counter to its current one, if project, status
+     * or priority have changed.
+     *
+     * @param oldProjectId the previous project ID
+     * @param oldStatus the previous status
+     * @param oldPriority the previous priority
+     * @param task the updated task
+     */
+    private void recordStateChange(
+        Long oldProjectId, TaskStatus oldStatus, TaskPriority oldPriority, Task task)
+    {
+        if (!Objects.equals(oldProjectId, projectIdOf(task)) || oldStatus != task.getStatus()
+            || oldPriority != task.getPriority())
+        {
+            statsService.applyDeltas(Map.of(
+                new ProjectTaskCounterId(oldProjectId, oldStatus, oldPriority), -1L,
+                new ProjectTaskCounterId(projectIdOf(task), task.getStatus(), task.getPriority()),
+                1L));
+        }
+    }
+
+    /**
+     * Transitions up to {@link #TRANSITION_CHUNK_SIZE} tasks matching the given specification
+     * in a transaction of its own. The affected rows are locked before the update, so the
+     * project counters can be adjusted from their previous state within the same transaction.
+     *
+     * @param spec the tasks to transition
+     * @param status the new status, or {@code null} to keep it
+     * @param priority the new priority, or {@code null} to keep it
+     * @return the number of updated tasks
+     */
+    private int transitionChunk(
+        Specification<Task> spec, TaskStatus status, TaskPriority priority)
+    {
+        Integer updated = transactionTemplate.execute(tx -> {
+            List<TaskState> states = taskRepository.lockStates(spec, TRANSITION_CHUNK_SIZE);
+            if (states.isEmpty()) {
+                return 0;
+            }
+            List<Long> ids = states.stream().map(TaskState::id).toList();
+            int count = taskRepository
+                .updateStatusAndPriority(TaskSpecifications.idIn(ids), status, priority);
+
+            Map<ProjectTaskCounterId, Long> counterDeltas = new HashMap<>();
+            for (TaskState state : states) {
+                TaskStatus newStatus = status != null ? status : state.status();
+                TaskPriority newPriority = priority != null ? priority : state.priority();
+                counterDeltas.merge(
+                    new ProjectTaskCounterId(state.projectId(), state.status(), state.priority()),
+                    -1L, Long::sum);
+                counterDeltas.merge(
+                    new ProjectTaskCounterId(state.projectId(), newStatus, newPriority), 1L,
+                    Long::sum);
+                eventPublisher.publishEvent(
+                    ChangeEvent.updated(
+                        ChangeEvent.TASK, state.id(),
+                        stateFields(state.status(), state.priority()),
+                        stateFields(newStatus, newPriority)));
+            }
+            statsService.applyDeltas(counterDeltas);
+            return count;
+        });
+        return updated != null ? updated : 0;
+    }
+
+    /**
+     * Assigns a project to a task without loading the project entity. Existence is checked
+     * against {@link ProjectCache}, and the task only references the project by ID.
+     *
+     * @param task the task to assign
+     * @param projectId the project identifier, or {@code null} to remove the assignment
+     * @return the cached project, or {@code null} if no project was given
+     * @throws ProjectNotFoundException if the project does not exist
+     */
+    private ProjectResponse attachProject(Task task, Long projectId) {
+        if (projectId == null) {
+            task.setProject(null);
+            return null;
+        }
+        ProjectResponse project = projectCache.get(projectId);
+        if (project == null) {
+            throw new ProjectNotFoundException(projectId);
+        }
+        task.setProject(projectRepository.getReferenceById(projectId));
+        return project;
+    }
+
+    /**
+     * Returns the ID of the project a task belongs to.
+     *
+     * @param task the task
+     * @return the project ID, or {@code null} if the task has no project
+     */
+    private static Long projectIdOf(Task task) {
+        return task.getProject() != null ? task.getProject().getId() : null;
+    }
+
+    /**
+     * Returns the fields of a task that are reported in change events.
+     *
+     * @param task the task
+     * @return the fields by name, in a stable order; values may be {@code null}
+     */
+    private static Map<String, Object> fieldsOf(Task task) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("title", task.getTitle());
+        fields.put("description", task.getDescription());
+        fields.putAll(stateFields(task.getStatus(), task.getPriority()));
+        fields.put("dueDate", task.getDueDate());
+        fields.put("projectId", projectIdOf(task));
+        return fields;
+    }
+
+    /**
+     * Returns status and priority as change event fields.
+     *
+     * @param status the status
+     * @param priority the priority
+     * @return the fields by name
+     */
+    private static Map<String, Object> stateFields(TaskStatus status, TaskPriority priority) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("status", status);
+        fields.put("priority", priority);
+        return fields;
+    }
+
+    /**
+     * Creates a new, not yet persisted {@link Task} from a creation request.
+     * Applies default status and priority when none are given.
+     *
+     * @param request the creation request
+     * @return the new task entity without a project
+     */
+    private Task toEntity(TaskCreateRequest request) {
+        return new Task(
+            request.getTitle(), request.getDescription(),
+            request.getStatus() != null ? request.getStatus() : TaskStatus.OPEN,
+            request.getPriority() != null ? request.getPriority() : TaskPriority.MEDIUM,
+            request.getDueDate());
+    }
+
+    /**
+     * Validates a single batch item against the Bean Validation constraints of its DTO.
+     *
+     * @param request the item to validate
+     * @return field-level validation errors, empty if the item is valid
+     */
+    private Map<String, String> validate(TaskCreateRequest request) {
+        return validator.validate(request).stream().collect(
+            Collectors.toMap(
+                violation -> violation.getPropertyPath().toString(),
+                ConstraintViolation::getMessage, (msg1, msg2) -> msg1));
+    }
+
+    /**
+     * Maps a {@link Task} entity to its corresponding {@link TaskResponse} DTO. Package-private
+     * for {@code TaskMappingBenchmark}.
+     *
+     * @param task the task entity to convert
+     * @return the mapped response DTO
+     */
+    static TaskResponse mapToResponse(Task task) {
+        return mapToResponse(task, null);
     }
 
     /**
-     * Maps a {@link Task} entity to its corresponding {@link TaskResponse} DTO.
+     * Maps a {@link Task} entity to its {@link TaskResponse} DTO, taking the project name from
+     * the given cached project instead of the task's (possibly uninitialized) project reference.
      *
      * @param task the task entity to convert
+     * @param project the cached project of the task, or {@code null} to read it from the task
      * @return the mapped response DTO
      */
-    private TaskResponse mapToResponse(Task task) {
-        Long projectId = task.getProject() != null ? task.getProject().getId() : null;
-        String projectName = task.getProject() != null ? task.getProject().getName() : null;
+    static TaskResponse mapToResponse(Task task, ProjectResponse project) {
+        Long projectId = projectIdOf(task);
+        String projectName = project != null ? project.name()
+            : task.getProject() != null ? task.getProject().getName() : null;
         return new TaskResponse(
             task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
             task.getPriority(), task.getDueDate(), task.getCreatedAt(), task.getUpdatedAt(),
@@ -0,0 +1,39 @@
+-- Change log behind GET /api/tasks/changes. Every task and project has one row holding the
+-- sequence number of the transaction that changed it last; deleted ones keep their row as a
+-- tombstone until the retention window has passed. Sync clients read the rows after their
+-- last sequence number through idx_resource_changes_seq, so a sync costs as much as the
+-- number of changes, not the number of tasks.
+--
+-- change_sequence holds the last number handed out. Writers increment it right before they
+-- commit and keep the row locked until then, so numbers become visible in increasing order
+-- and a client cannot skip a change that commits late (which a clock-based updated_at could).
+-- purged_through is the highest sequence number of a purged tombstone; older tokens would
+-- miss deletions and are rejected.
+
+CREATE TABLE change_sequence (
+    id             INT    NOT NULL,
+    last_value     BIGINT NOT NULL,
+    purged_through BIGINT NOT NULL,
+    CONSTRAINT pk_change_sequence PRIMARY KEY (id)
+);
+
+INSERT INTO change_sequence (id, last_value, purged_through) VALUES (1, 1, 0);
+
+CREATE TABLE resource_changes (
+    resource    VARCHAR(20)  NOT NULL,
+    resource_id BIGINT       NOT NULL,
+    change_seq  BIGINT       NOT NULL,
+    deleted     BOOLEAN      NOT NULL,
+    changed_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_resource_changes PRIMARY KEY (resource, resource_id)
+);
+
+CREATE INDEX idx_resource_changes_seq ON resource_changes (change_seq, resource, resource_id);
+CREATE INDEX idx_resource_changes_tombstones ON resource_changes (deleted, changed_at);
+
+-- Existing tasks and projects form the first change, sent to clients on their initial sync.
+INSERT INTO resource_changes (resource, resource_id, change_seq, deleted, changed_at)
+SELECT 'task', id, 1, FALSE, updated_at FROM tasks;
+
+INSERT INTO resource_changes (resource, resource_id, change_seq, deleted, changed_at)
+SELECT 'project', id, 1, FALSE, updated_at FROM projects;
@@ -0,0 +1,26 @@
+-- Initial schema for projects and tasks.
+-- Mirrors the tables previously generated by Hibernate (ddl-auto: update), so existing
+-- databases can be baselined at this version.
+
+CREATE TABLE projects (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(120) NOT NULL,
+    description VARCHAR(500),
+    color       VARCHAR(20),
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_projects_name UNIQUE (name)
+);
+
+CREATE TABLE tasks (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(100) NOT NULL,
+    description VARCHAR(1000),
+    status      VARCHAR(20) NOT NULL,
+    priority    VARCHAR(20) NOT NULL,
+    due_date    DATE,
+    project_id  BIGINT,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_tasks_project FOREIGN KEY (project_id) REFERENCES projects (id)
+);
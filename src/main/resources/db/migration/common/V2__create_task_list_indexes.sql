@@ -0,0 +1,30 @@
+-- Composite indexes for the paged task list queries in TaskRepository.
+-- Each index starts with the equality filters of one finder and ends with the default sort
+-- (created_at) plus id as tie-breaker, so a page is read in index order without sorting.
+-- The trailing id also serves the keyset (cursor) pagination mode.
+
+-- findAll
+CREATE INDEX idx_tasks_created_at ON tasks (created_at, id);
+
+-- findAllByStatus
+CREATE INDEX idx_tasks_status_created_at ON tasks (status, created_at, id);
+
+-- findAllByPriority
+CREATE INDEX idx_tasks_priority_created_at ON tasks (priority, created_at, id);
+
+-- findAllByStatusAndPriority
+CREATE INDEX idx_tasks_status_priority_created_at ON tasks (status, priority, created_at, id);
+
+-- findAllByProjectId (also backs the foreign key)
+CREATE INDEX idx_tasks_project_created_at ON tasks (project_id, created_at, id);
+
+-- findAllByProjectIdAndStatus
+CREATE INDEX idx_tasks_project_status_created_at ON tasks (project_id, status, created_at, id);
+
+-- findAllByProjectIdAndPriority
+CREATE INDEX idx_tasks_project_priority_created_at
+    ON tasks (project_id, priority, created_at, id);
+
+-- findAllByProjectIdAndStatusAndPriority
+CREATE INDEX idx_tasks_project_status_priority_created_at
+    ON tasks (project_id, status, priority, created_at, id);
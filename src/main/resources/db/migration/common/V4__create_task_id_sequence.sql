@@ -0,0 +1,5 @@
+-- Sequence backing the pooled ID generator of tasks.
+-- The increment must match the allocationSize of the Task entity, so Hibernate can hand out
+-- IDs for a whole insert batch from a single sequence call.
+
+CREATE SEQUENCE task_id_seq START WITH 1 INCREMENT BY 50;
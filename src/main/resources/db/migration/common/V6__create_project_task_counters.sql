@@ -0,0 +1,21 @@
+-- Incrementally maintained task counts per project, status and priority.
+-- Every project has one row per status/priority combination, so writers only ever need an
+-- UPDATE of an existing row. Tasks without a project are not counted.
+
+CREATE TABLE project_task_counters (
+    project_id BIGINT      NOT NULL,
+    status     VARCHAR(20) NOT NULL,
+    priority   VARCHAR(20) NOT NULL,
+    task_count BIGINT      NOT NULL DEFAULT 0,
+    CONSTRAINT pk_project_task_counters PRIMARY KEY (project_id, status, priority),
+    CONSTRAINT fk_project_task_counters_project
+        FOREIGN KEY (project_id) REFERENCES projects (id) ON DELETE CASCADE
+);
+
+INSERT INTO project_task_counters (project_id, status, priority, task_count)
+SELECT p.id, s.status, pr.priority,
+       (SELECT COUNT(*) FROM tasks t
+        WHERE t.project_id = p.id AND t.status = s.status AND t.priority = pr.priority)
+FROM projects p
+CROSS JOIN (VALUES ('OPEN'), ('IN_PROGRESS'), ('DONE')) AS s (status)
+CROSS JOIN (VALUES ('LOW'), ('MEDIUM'), ('HIGH')) AS pr (priority);
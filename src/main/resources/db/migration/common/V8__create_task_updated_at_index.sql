@@ -0,0 +1,4 @@
+-- Serves the updatedFrom/updatedTo filters of the task list, which would otherwise scan the
+-- whole tasks table.
+
+CREATE INDEX idx_tasks_updated_at ON tasks (updated_at);
@@ -0,0 +1,5 @@
+-- Version columns for optimistic locking. Every UPDATE checks and increments the version,
+-- so concurrent edits of the same row are detected instead of silently overwriting each other.
+
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE projects ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
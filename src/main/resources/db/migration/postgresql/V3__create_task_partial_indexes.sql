@@ -0,0 +1,9 @@
+-- PostgreSQL-only partial indexes.
+
+-- Unfinished tasks ordered by due date, the typical "what is due next" view.
+CREATE INDEX idx_tasks_unfinished_due_date ON tasks (due_date, id)
+    WHERE status <> 'DONE' AND due_date IS NOT NULL;
+
+-- Tasks without a project in default list order.
+CREATE INDEX idx_tasks_unassigned_created_at ON tasks (created_at, id)
+    WHERE project_id IS NULL;
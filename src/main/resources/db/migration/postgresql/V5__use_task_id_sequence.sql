@@ -0,0 +1,8 @@
+-- Moves existing PostgreSQL databases from the identity column to task_id_seq.
+-- The pooled optimizer treats each sequence value as the upper end of a block of 50 IDs,
+-- so the sequence is positioned a full block beyond the highest existing ID.
+
+SELECT setval('task_id_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM tasks), false);
+
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tasks ALTER COLUMN id SET DEFAULT nextval('task_id_seq');
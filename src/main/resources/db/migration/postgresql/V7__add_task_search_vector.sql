@@ -0,0 +1,12 @@
+-- Full-text search over task titles and descriptions.
+-- The search vector is a stored generated column, so PostgreSQL keeps it up to date on every
+-- INSERT and UPDATE. Title words are weighted higher than description words for ranking.
+-- The text search configuration must match the one used by TaskSearchFunctionContributor.
+
+ALTER TABLE tasks ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_tasks_search_vector ON tasks USING GIN (search_vector);
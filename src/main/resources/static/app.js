@@ -1,5 +1,9 @@
 const API_BASE = '/api/tasks';
 const PROJECTS_API = '/api/projects';
+const SUGGEST_API = '/api/suggest';
+const SUGGEST_DELAY_MS = 150;
+const EVENTS_API = '/api/events';
+const EVENT_RELOAD_DELAY_MS = 300;
 
 let editingTaskId = null;
 let editingProjectId = null;
@@ -8,6 +12,12 @@ let projects = [];
 let currentSortField = 'id';
 let currentSortDir = 'asc';
 
+// While the change event stream is connected, lists are reloaded when events arrive
+// instead of after each of our own writes.
+let eventsConnected = false;
+let reloadTimer = null;
+let reloadProjectsPending = false;
+
 /**
  * Collapses all expanded description cells back to their truncated state.
  */
@@ -80,6 +90,15 @@ function renderProjectsList() {
             main.appendChild(descSpan);
         }
 
+        if (project.taskCounts) {
+            const counts = project.taskCounts;
+            const countsSpan = document.createElement('span');
+            countsSpan.textContent =
+                ` (${counts.byStatus.DONE}/${counts.total} done)`;
+            countsSpan.classList.add('project-description');
+            main.appendChild(countsSpan);
+        }
+
         if (project.color) {
             const colorDot = document.createElement('span');
             colorDot.textContent = '●';
@@ -260,7 +279,9 @@ async function loadTasks(page = 0) {
         const deleteBtn = tr.querySelector('.delete-btn');
         deleteBtn.addEventListener('click', async () => {
             await deleteTask(task.id);
-            await loadTasks();
+            if (!eventsConnected) {
+                await loadTasks();
+            }
         });
     });
     updateSortIndicators();
@@ -348,7 +369,9 @@ async function handleSubmit(event) {
     }
 
     resetForm();
-    await loadTasks();
+    if (!eventsConnected) {
+        await loadTasks();
+    }
 }
 
 /**
@@ -424,8 +447,10 @@ async function handleProjectSubmit(event) {
     }
 
     resetProjectForm();
-    await loadProjects();
-    await loadTasks();
+    if (!eventsConnected) {
+        await loadProjects();
+        await loadTasks();
+    }
 }
 
 /**
@@ -449,8 +474,10 @@ async function deleteProject(id) {
         resetProjectForm();
     }
 
-    await loadProjects();
-    await loadTasks();
+    if (!eventsConnected) {
+        await loadProjects();
+        await loadTasks();
+    }
 }
 
 async function deleteTask(id) {
@@ -461,6 +488,93 @@ async function deleteTask(id) {
     }
 }
 
+/**
+ * Reloads the task list, and the project list if requested, once no further change event
+ * has arrived for a short moment. Bursts of events, e.g. from a bulk transition, cause a
+ * single reload.
+ *
+ * @param withProjects whether the projects have changed as well
+ */
+function scheduleReload(withProjects) {
+    reloadProjectsPending = reloadProjectsPending || withProjects;
+    clearTimeout(reloadTimer);
+    reloadTimer = setTimeout(async () => {
+        const reloadProjects = reloadProjectsPending;
+        reloadProjectsPending = false;
+        if (reloadProjects) {
+            await loadProjects();
+        }
+        await loadTasks();
+    }, EVENT_RELOAD_DELAY_MS);
+}
+
+/**
+ * Subscribes to the server's change event stream, so changes made by anyone show up without
+ * a manual refresh. The browser reconnects automatically; since events may have been missed
+ * in the meantime, everything is reloaded after a reconnect.
+ */
+function subscribeToChanges() {
+    if (!window.EventSource) {
+        return;
+    }
+    const source = new EventSource(EVENTS_API);
+    let wasConnected = false;
+
+    source.addEventListener('open', () => {
+        eventsConnected = true;
+        if (wasConnected) {
+            scheduleReload(true);
+        }
+        wasConnected = true;
+    });
+    source.addEventListener('error', () => {
+        eventsConnected = false;
+    });
+    // Task changes also change the task counts shown with the projects.
+    source.addEventListener('task', () => scheduleReload(true));
+    source.addEventListener('project', () => scheduleReload(true));
+}
+
+/**
+ * Fills a datalist with suggestions while the user types into an input.
+ * Requests are debounced, and responses to outdated prefixes are ignored.
+ *
+ * @param inputId id of the text input
+ * @param datalistId id of the datalist attached to the input
+ * @param kind which suggestions to show: 'tasks' or 'projects'
+ */
+function attachSuggestions(inputId, datalistId, kind) {
+    const input = document.getElementById(inputId);
+    const datalist = document.getElementById(datalistId);
+    if (!input || !datalist) {
+        return;
+    }
+
+    let timer = null;
+    input.addEventListener('input', () => {
+        clearTimeout(timer);
+        const prefix = input.value.trim();
+        if (!prefix) {
+            datalist.innerHTML = '';
+            return;
+        }
+        timer = setTimeout(async () => {
+            const params = new URLSearchParams({ prefix, limit: '8' });
+            const res = await fetch(`${SUGGEST_API}?${params.toString()}`);
+            if (!res.ok || input.value.trim() !== prefix) {
+                return;
+            }
+            const suggestions = (await res.json())[kind];
+            datalist.innerHTML = '';
+            suggestions.forEach(suggestion => {
+                const opt = document.createElement('option');
+                opt.value = suggestion.text;
+                datalist.appendChild(opt);
+            });
+        }, SUGGEST_DELAY_MS);
+    });
+}
+
 document.addEventListener('DOMContentLoaded', () => {
     document.getElementById('task-form').addEventListener('submit', handleSubmit);
 
@@ -531,6 +645,10 @@ document.addEventListener('DOMContentLoaded', () => {
 
     updateSortIndicators();
 
+    attachSuggestions('title', 'title-suggestions', 'tasks');
+    attachSuggestions('project-name', 'project-name-suggestions', 'projects');
+
     // First load projects, then tasks
     loadProjects().then(() => loadTasks());
+    subscribeToChanges();
 });
\ No newline at end of file
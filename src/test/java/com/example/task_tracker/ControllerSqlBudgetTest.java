@@ -0,0 +1,369 @@
+package com.example.task_tracker;
+
+import java.util.List;
+import java.util.Map;
+
+import com.example.task_tracker.common.SqlRecorder;
+import com.example.task_tracker.common.SqlRecorderConfig;
+import com.example.task_tracker.project.dto.ProjectCreateRequest;
+import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.project.service.ProjectService;
+import com.example.task_tracker.stats.repository.ProjectTaskCounterRepository;
+import com.example.task_tracker.sync.repository.ResourceChangeRepository;
+import com.example.task_tracker.task.dto.TaskCreateRequest;
+import com.example.task_tracker.task.dto.TaskPatchRequest;
+import com.example.task_tracker.task.model.TaskStatus;
+import com.example.task_tracker.task.repository.TaskRepository;
+import com.example.task_tracker.task.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for every REST endpoint, so that an N+1 or a query that cannot use an
+ * index fails the build.
+ * <p>
+ * Requests run through the full application against the embedded database; the statements
+ * each request executes are recorded by {@link SqlRecorder}. Budgets are upper bounds for
+ * cold caches and must not depend on the amount of data: list endpoints return several
+ * tasks of the same project, batch endpoints write several tasks. Index usage is checked for
+ * the {@code tasks} table where a query has a selective condition; search and export read
+ * all matching rows by design.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@Import(SqlRecorderConfig.class)
+@ActiveProfiles("test")
+class ControllerSqlBudgetTest {
+
+    /** The change sequence lookup behind the ETag of the task and project lists. */
+    private static final int LIST_VERSION = 1;
+
+    /** Sequence update and read, and the entry UPDATE or batched INSERT of every write. */
+    private static final int CHANGE_LOG = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private SqlRecorder sqlRecorder;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private ProjectTaskCounterRepository counterRepository;
+    @Autowired
+    private ResourceChangeRepository changeRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long projectId;
+    private List<Long> taskIds;
+
+    @BeforeEach
+    void setUp() {
+        ProjectCreateRequest project = new ProjectCreateRequest();
+        project.setName("Budget");
+        projectId = projectService.createProject(project).id();
+
+        taskIds = taskService.createTasks(List.of(
+            taskRequest("Task one"), taskRequest("Task two"), taskRequest("Task three")))
+            .results().stream().map(result -> result.task().id()).toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeRepository.deleteAllInBatch();
+        counterRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        // Back to the state after the migration, so no test sees the changes of another.
+        jdbcTemplate.update(
+            "UPDATE change_sequence SET last_value = 1, purged_through = 0 WHERE id = 1");
+    }
+
+    @Test
+    void testListTasks() throws Exception {
+        sqlRecorder.record(() -> mockMvc
+            .perform(get("/api/tasks").param("status", "OPEN").param("projectId", id()))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(LIST_VERSION + 2)
+            .hasNoUnfilteredCounts()
+            .usesIndexesOn("tasks");
+    }
+
+    @Test
+    void testListTasksWithoutTotal() throws Exception {
+        sqlRecorder.record(() -> mockMvc
+            .perform(get("/api/tasks").param("withTotal", "false").param("status", "OPEN")
+                .param("projectId", id()))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(LIST_VERSION + 1)
+            .hasNoUnfilteredCounts()
+            .usesIndexesOn("tasks");
+    }
+
+    @Test
+    void testListTasksByCursor() throws Exception {
+        sqlRecorder.record(() -> mockMvc
+            .perform(get("/api/tasks").param("cursor", "").param("status", "OPEN")
+                .param("projectId", id()))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(LIST_VERSION + 1)
+            .hasNoUnfilteredCounts()
+            .usesIndexesOn("tasks");
+    }
+
+    @Test
+    void testGetChanges() throws Exception {
+        String token = taskService.getChanges(null, 1000).nextToken();
+        TaskPatchRequest change = new TaskPatchRequest();
+        change.setStatus(TaskStatus.DONE);
+        taskService.patchTask(taskIds.get(0), change, null);
+        taskService.deleteTask(taskIds.get(1));
+
+        // last sequence number, change log, purge horizon, changed tasks, project
+        sqlRecorder.record(() -> mockMvc
+            .perform(get("/api/tasks/changes").param("since", token))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(5)
+            .usesIndexesOn("resource_changes", "tasks");
+    }
+
+    @Test
+    void testSearchTasks() throws Exception {
+        sqlRecorder.record(() -> mockMvc
+            .perform(get("/api/tasks/search").param("q", "task"))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(LIST_VERSION + 2)
+            .hasNoUnfilteredCounts();
+    }
+
+    @Test
+    void testExportTasks() throws Exception {
+        sqlRecorder.record(() -> mockMvc
+            .perform(get("/api/tasks/export").param("format", "CSV"))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(1);
+    }
+
+    @Test
+    void testGetTask() throws Exception {
+        sqlRecorder.record(() -> mockMvc
+            .perform(get("/api/tasks/{id}", taskIds.get(0)))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(2)
+            .usesIndexesOn("tasks");
+    }
+
+    @Test
+    void testCreateTask() throws Exception {
+        // project lookup, sequence (at most twice on first use), insert, counter
+        sqlRecorder.record(() -> mockMvc
+            .perform(post("/api/tasks").contentType(MediaType.APPLICATION_JSON)
+                .content(json(taskRequest("Created"))))
+            .andExpect(status().isCreated()))
+            .hasAtMostStatements(5 + CHANGE_LOG);
+    }
+
+    @Test
+    void testCreateTasksInBatch() throws Exception {
+        // project lookup, sequence, one batched insert, one counter per status and priority
+        sqlRecorder.record(() -> mockMvc
+            .perform(post("/api/tasks/batch").contentType(MediaType.APPLICATION_JSON)
+                .content(json(List.of(
+                    taskRequest("First"), taskRequest("Second"), taskRequest("Third"),
+                    taskRequest("Fourth")))))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(5 + CHANGE_LOG);
+    }
+
+    @Test
+    void testImportTasks() throws Exception {
+        String lines = """
+            {"title":"Imported one","projectName":"Budget"}
+            {"title":"Imported two","projectName":"Budget"}
+            {"title":"Imported three","projectName":"Budget"}
+            """;
+
+        // projects by name, sequence, one batched insert, one counter per status and priority
+        sqlRecorder.record(() -> mockMvc
+            .perform(post("/api/tasks/import").contentType("application/x-ndjson")
+                .content(lines))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(5 + CHANGE_LOG);
+    }
+
+    @Test
+    void testUpdateTask() throws Exception {
+        Map<String, Object> update =
+            Map.of("title", "Updated", "status", "DONE", "projectId", projectId);
+
+        // task, project lookup, update, two counters
+        sqlRecorder.record(() -> mockMvc
+            .perform(put("/api/tasks/{id}", taskIds.get(0))
+                .contentType(MediaType.APPLICATION_JSON).content(json(update)))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(5 + CHANGE_LOG)
+            .usesIndexesOn("tasks");
+    }
+
+    @Test
+    void testPatchTask() throws Exception {
+        // task, update of the changed columns, two counters
+        sqlRecorder.record(() -> mockMvc
+            .perform(patch("/api/tasks/{id}", taskIds.get(0))
+                .contentType(MediaType.APPLICATION_JSON).content(json(Map.of("status", "DONE"))))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(4 + CHANGE_LOG)
+            .usesIndexesOn("tasks");
+    }
+
+    @Test
+    void testTransitionTasks() throws Exception {
+        Map<String, Object> transition = Map.of("ids", taskIds, "targetStatus", "DONE");
+
+        // lock, bulk update, two counters
+        sqlRecorder.record(() -> mockMvc
+            .perform(post("/api/tasks/transition").contentType(MediaType.APPLICATION_JSON)
+                .content(json(transition)))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(4 + CHANGE_LOG);
+    }
+
+    @Test
+    void testDeleteTask() throws Exception {
+        // task, delete, counter
+        sqlRecorder.record(() -> mockMvc
+            .perform(delete("/api/tasks/{id}", taskIds.get(0)))
+            .andExpect(status().isNoContent()))
+            .hasAtMostStatements(3 + CHANGE_LOG)
+            .usesIndexesOn("tasks");
+    }
+
+    @Test
+    void testListProjects() throws Exception {
+        // version, all counters, all projects
+        sqlRecorder.record(() -> mockMvc
+            .perform(get("/api/projects"))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(LIST_VERSION + 2)
+            .hasNoUnfilteredCounts();
+    }
+
+    @Test
+    void testGetProject() throws Exception {
+        sqlRecorder.record(() -> mockMvc
+            .perform(get("/api/projects/{id}", projectId))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(2);
+    }
+
+    @Test
+    void testCreateProject() throws Exception {
+        // insert, one batched insert of the counters, counters
+        sqlRecorder.record(() -> mockMvc
+            .perform(post("/api/projects").contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("name", "Created"))))
+            .andExpect(status().isCreated()))
+            .hasAtMostStatements(3 + CHANGE_LOG);
+    }
+
+    @Test
+    void testUpdateProject() throws Exception {
+        // project, update, counters
+        sqlRecorder.record(() -> mockMvc
+            .perform(put("/api/projects/{id}", projectId).contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("name", "Renamed"))))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(3 + CHANGE_LOG);
+    }
+
+    @Test
+    void testPatchProject() throws Exception {
+        // project, update of the changed columns, counters
+        sqlRecorder.record(() -> mockMvc
+            .perform(patch("/api/projects/{id}", projectId)
+                .contentType(MediaType.APPLICATION_JSON).content(json(Map.of("color", "red"))))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(3 + CHANGE_LOG);
+    }
+
+    @Test
+    void testDeleteProject() throws Exception {
+        ProjectCreateRequest empty = new ProjectCreateRequest();
+        empty.setName("Empty");
+        Long emptyId = projectService.createProject(empty).id();
+
+        // existence check, project, delete (counters are removed by the foreign key)
+        sqlRecorder.record(() -> mockMvc
+            .perform(delete("/api/projects/{id}", emptyId))
+            .andExpect(status().isNoContent()))
+            .hasAtMostStatements(3 + CHANGE_LOG);
+    }
+
+    @Test
+    void testGetProjectStats() throws Exception {
+        sqlRecorder.record(() -> mockMvc
+            .perform(get("/api/projects/stats"))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(1);
+    }
+
+    @Test
+    void testSuggest() throws Exception {
+        sqlRecorder.record(() -> mockMvc
+            .perform(get("/api/suggest").param("prefix", "Ta"))
+            .andExpect(status().isOk()))
+            .hasAtMostStatements(0);
+    }
+
+    @Test
+    void testSubscribeToEvents() throws Exception {
+        sqlRecorder.record(() -> mockMvc
+            .perform(get("/api/events"))
+            .andExpect(request().asyncStarted()))
+            .hasAtMostStatements(0);
+    }
+
+    private TaskCreateRequest taskRequest(String title) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle(title);
+        request.setProjectId(projectId);
+        return request;
+    }
+
+    private String id() {
+        return projectId.toString();
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+
+}
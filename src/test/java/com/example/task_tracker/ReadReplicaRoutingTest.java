@@ -0,0 +1,208 @@
+package com.example.task_tracker;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.example.task_tracker.common.ReadWriteRoutingDataSource;
+import com.example.task_tracker.common.ReadYourWritesFilter;
+import com.example.task_tracker.common.ReplicaStandInConfig;
+import com.example.task_tracker.project.dto.ProjectCreateRequest;
+import com.example.task_tracker.project.dto.ProjectResponse;
+import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.project.service.ProjectService;
+import com.example.task_tracker.stats.repository.ProjectTaskCounterRepository;
+import com.example.task_tracker.sync.repository.ResourceChangeRepository;
+import com.example.task_tracker.task.dto.TaskCreateRequest;
+import com.example.task_tracker.task.dto.TaskFilter;
+import com.example.task_tracker.task.dto.TaskResponse;
+import com.example.task_tracker.task.repository.TaskRepository;
+import com.example.task_tracker.task.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.Cookie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests the routing of reads and writes between the primary and the replica.
+ * <p>
+ * Runs against the two embedded databases of the {@code replica} profile. Writes reach the
+ * primary only, so a read that finds them went to the primary. Rows written to the replica
+ * directly stand in for an outdated state the replica has not caught up from yet.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(ReplicaStandInConfig.class)
+@ActiveProfiles({ "test", "replica" })
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private ResourceChangeRepository changeRepository;
+    @Autowired
+    private ProjectTaskCounterRepository counterRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Value("${tasktracker.datasource.replica.url}")
+    private String replicaUrl;
+
+    @AfterEach
+    void tearDown() {
+        ReadWriteRoutingDataSource.setReadFromPrimary(false);
+        changeRepository.deleteAllInBatch();
+        counterRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        replica().update("delete from tasks");
+        replica().update("delete from projects");
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void testReadOnlyMethodsReadFromReplica() {
+        // given
+        ProjectCreateRequest request = new ProjectCreateRequest();
+        request.setName("Primary only");
+        projectService.createProject(request);
+        taskService.createTask(taskRequest("Primary only"));
+
+        // when/then
+        assertThat(taskService.getTasks(PageRequest.of(0, 10), new TaskFilter())).isEmpty();
+        assertThat(taskService.getTaskSlice(PageRequest.of(0, 10), new TaskFilter(), true)
+            .content()).isEmpty();
+        assertThat(taskService
+            .getTasksByCursor(null, null, 10, Sort.by("createdAt"), new TaskFilter())
+            .content()).isEmpty();
+        assertThat(taskService.searchTasks("Primary", PageRequest.of(0, 10), new TaskFilter()))
+            .isEmpty();
+
+        ReadWriteRoutingDataSource.setReadFromPrimary(true);
+        assertThat(taskService.getTasks(PageRequest.of(0, 10), new TaskFilter()))
+            .extracting(TaskResponse::title).containsExactly("Primary only");
+    }
+
+    @Test
+    void testClientReadsOwnWritesFromPrimary() throws Exception {
+        // given
+        Cookie readPrimary = mockMvc.perform(post("/api/tasks")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"title\": \"Own write\"}"))
+            .andExpect(status().isCreated())
+            .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE_NAME))
+            .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        // when/then
+        mockMvc.perform(get("/api/tasks").cookie(readPrimary))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)));
+        mockMvc.perform(get("/api/tasks"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(0)));
+    }
+
+    @Test
+    void testClientReadsOwnWriteAfterReplicaReadOfOtherClient() throws Exception {
+        // given
+        Cookie readPrimary = mockMvc.perform(post("/api/projects")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"name\": \"Own write\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        mockMvc.perform(get("/api/projects")).andExpect(status().isOk());
+
+        // when/then
+        mockMvc.perform(get("/api/projects").cookie(readPrimary))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].name", is("Own write")));
+    }
+
+    @Test
+    void testCachesKeepNoDataReadFromReplica() {
+        // given
+        ProjectCreateRequest request = new ProjectCreateRequest();
+        request.setName("Fresh");
+        Long projectId = projectService.createProject(request).id();
+        Long taskId = taskService.createTask(taskRequest("Fresh")).id();
+        LocalDateTime now = LocalDateTime.now();
+        replica().update(
+            "insert into projects (id, name, created_at, updated_at) values (?, 'Stale', ?, ?)",
+            projectId, now, now);
+        replica().update(
+            "insert into tasks (id, title, status, priority, created_at, updated_at) "
+                + "values (?, 'Stale', 'OPEN', 'LOW', ?, ?)",
+            taskId, now, now);
+        entityManagerFactory.getCache().evictAll();
+
+        // when
+        ProjectResponse project = projectService.getProjectById(projectId);
+        List<ProjectResponse> projects = projectService.getAllProjects();
+        TaskResponse replicaTask = taskService.getTaskById(taskId);
+        ReadWriteRoutingDataSource.setReadFromPrimary(true);
+        TaskResponse primaryTask = taskService.getTaskById(taskId);
+
+        // then
+        assertThat(project.name()).isEqualTo("Fresh");
+        assertThat(projects).extracting(ProjectResponse::name).containsExactly("Fresh");
+        assertThat(replicaTask.title()).isEqualTo("Stale");
+        assertThat(primaryTask.title()).isEqualTo("Fresh");
+    }
+
+    @Test
+    void testExpiredCookieReadsFromReplica() throws Exception {
+        // given
+        taskService.createTask(taskRequest("Replicated later"));
+        Cookie expired = new Cookie(
+            ReadYourWritesFilter.COOKIE_NAME, Long.toString(System.currentTimeMillis() - 1));
+
+        // when/then
+        mockMvc.perform(get("/api/tasks").cookie(expired))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(0)));
+    }
+
+    private JdbcTemplate replica() {
+        return new JdbcTemplate(new DriverManagerDataSource(replicaUrl, "sa", ""));
+    }
+
+    private static TaskCreateRequest taskRequest(String title) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle(title);
+        return request;
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.example.task_tracker;
+
+import java.util.List;
+
+import com.example.task_tracker.project.dto.ProjectCreateRequest;
+import com.example.task_tracker.project.dto.ProjectResponse;
+import com.example.task_tracker.project.dto.ProjectUpdateRequest;
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.project.service.ProjectCache;
+import com.example.task_tracker.project.service.ProjectServiceImpl;
+import com.example.task_tracker.stats.service.ProjectTaskStatsServiceImpl;
+import com.example.task_tracker.suggest.service.SuggestionServiceImpl;
+import com.example.task_tracker.sync.service.ChangeLogServiceImpl;
+import com.example.task_tracker.task.dto.TaskCreateRequest;
+import com.example.task_tracker.task.dto.TaskTransitionRequest;
+import com.example.task_tracker.task.dto.TaskUpdateRequest;
+import com.example.task_tracker.task.model.Task;
+import com.example.task_tracker.task.model.TaskStatus;
+import com.example.task_tracker.task.repository.TaskRepository;
+import com.example.task_tracker.task.service.TaskCountCache;
+import com.example.task_tracker.task.service.TaskServiceImpl;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the Hibernate second-level and query cache for {@link Task} and {@link Project}
+ * through the services.
+ * <p>
+ * Runs without a test transaction, so that every service call uses its own persistence
+ * context and repeated lookups can only be served by the second-level cache.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({
+    TaskServiceImpl.class, TaskCountCache.class, ProjectServiceImpl.class, ProjectCache.class,
+    ProjectTaskStatsServiceImpl.class, SuggestionServiceImpl.class, ChangeLogServiceImpl.class })
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private TaskServiceImpl taskService;
+    @Autowired
+    private ProjectServiceImpl projectService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long projectId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        ProjectCreateRequest project = new ProjectCreateRequest();
+        project.setName("Cached");
+        projectId = projectService.createProject(project).id();
+
+        TaskCreateRequest task = new TaskCreateRequest();
+        task.setTitle("Cached task");
+        taskId = taskService.createTask(task).id();
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private CacheRegionStatistics region(Class<?> entityClass) {
+        return statistics.getDomainDataRegionStatistics(entityClass.getName());
+    }
+
+    @Test
+    void testRepeatedTaskLookupsHitTheCache() {
+        // when
+        taskService.getTaskById(taskId);
+        taskService.getTaskById(taskId);
+        taskService.getTaskById(taskId);
+
+        // then
+        assertThat(region(Task.class).getMissCount()).isEqualTo(1);
+        assertThat(region(Task.class).getHitCount()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testRepeatedProjectLookupsHitTheCache() {
+        // when
+        projectService.getProjectById(projectId);
+        projectService.getProjectById(projectId);
+        List<ProjectResponse> first = projectService.getAllProjects();
+        List<ProjectResponse> second = projectService.getAllProjects();
+
+        // then
+        assertThat(region(Project.class).getHitCount()).isGreaterThanOrEqualTo(1);
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void testServiceUpdatesInvalidateTheCache() {
+        // given
+        taskService.getTaskById(taskId);
+        projectService.getProjectById(projectId);
+        projectService.getAllProjects();
+
+        // when
+        TaskUpdateRequest taskUpdate = new TaskUpdateRequest();
+        taskUpdate.setTitle("Renamed task");
+        taskService.updateTask(taskId, taskUpdate, null);
+
+        ProjectUpdateRequest projectUpdate = new ProjectUpdateRequest();
+        projectUpdate.setName("Renamed");
+        projectService.updateProject(projectId, projectUpdate, null);
+
+        // then
+        assertThat(taskService.getTaskById(taskId).title()).isEqualTo("Renamed task");
+        assertThat(projectService.getProjectById(projectId).name()).isEqualTo("Renamed");
+        assertThat(projectService.getAllProjects()).extracting(ProjectResponse::name)
+            .containsExactly("Renamed");
+    }
+
+    @Test
+    void testBulkTransitionEvictsTasks() {
+        // given
+        taskService.getTaskById(taskId);
+        long missesBefore = region(Task.class).getMissCount();
+
+        TaskTransitionRequest transition = new TaskTransitionRequest();
+        transition.setIds(List.of(taskId));
+        transition.setTargetStatus(TaskStatus.DONE);
+
+        // when
+        taskService.transitionTasks(transition);
+
+        // then
+        assertThat(taskService.getTaskById(taskId).status()).isEqualTo(TaskStatus.DONE);
+        assertThat(region(Task.class).getMissCount()).isEqualTo(missesBefore + 1);
+    }
+
+}
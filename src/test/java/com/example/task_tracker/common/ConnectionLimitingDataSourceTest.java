@@ -0,0 +1,77 @@
+package com.example.task_tracker.common;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link ConnectionLimitingDataSource}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConnectionLimitingDataSource(target, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    void testFailsWhenAllPermitsAreInUse() throws SQLException {
+        // given
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // when/then
+        assertThatThrownBy(dataSource::getConnection)
+            .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(dataSource.getActiveConnections()).isEqualTo(2);
+    }
+
+    @Test
+    void testReleasesPermitOnceWhenConnectionIsClosed() throws SQLException {
+        // given
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        Connection borrowed = dataSource.getConnection();
+
+        // when
+        borrowed.close();
+        borrowed.close();
+
+        // then
+        verify(connection, times(2)).close();
+        assertThat(dataSource.getActiveConnections()).isZero();
+    }
+
+    @Test
+    void testReleasesPermitWhenTargetFails() throws SQLException {
+        // given
+        when(target.getConnection()).thenThrow(new SQLException("down"));
+
+        // when/then
+        assertThatThrownBy(dataSource::getConnection).hasMessage("down");
+        assertThat(dataSource.getActiveConnections()).isZero();
+    }
+
+}
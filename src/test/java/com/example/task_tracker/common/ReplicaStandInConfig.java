@@ -0,0 +1,40 @@
+package com.example.task_tracker.common;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Creates the schema of the stand-in replica configured by the {@code replica} test profile.
+ * Import it into tests running with that profile.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class ReplicaStandInConfig {
+
+    /**
+     * Migrates the replica with the same scripts right after the primary.
+     *
+     * @param url the JDBC URL of the replica
+     * @param username the user name for the replica
+     * @param password the password for the replica
+     * @return the strategy migrating both databases
+     */
+    @Bean
+    public FlywayMigrationStrategy replicaMigrationStrategy(
+        @Value("${tasktracker.datasource.replica.url}") String url,
+        @Value("${tasktracker.datasource.replica.username}") String username,
+        @Value("${tasktracker.datasource.replica.password}") String password)
+    {
+        return flyway -> {
+            flyway.migrate();
+            Flyway.configure()
+                .configuration(flyway.getConfiguration())
+                .dataSource(url, username, password)
+                .load()
+                .migrate();
+        };
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.example.task_tracker.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Records the SQL statements executed by the current thread, e.g. while MockMvc performs a
+ * request.
+ * <p>
+ * Statements are captured by a datasource-proxy wrapped around the application data source
+ * (see {@link SqlRecorderConfig}). A batch counts as one statement, since it is one round
+ * trip to the database. Statements of other threads, such as background jobs, are ignored.
+ */
+public class SqlRecorder implements QueryExecutionListener {
+
+    /**
+     * An executed statement.
+     *
+     * @param sql the SQL text
+     * @param parameters the parameters bound for the first execution of the statement
+     * @param batchSize the number of executions in the batch, or 1
+     */
+    public record RecordedStatement(String sql, List<ParameterSetOperation> parameters,
+        int batchSize)
+    {
+
+        /**
+         * @return whether the statement is a query
+         */
+        public boolean isSelect() {
+            return sql.stripLeading().regionMatches(true, 0, "select", 0, 6);
+        }
+
+        @Override
+        public String toString() {
+            return batchSize > 1 ? sql + " [batch of " + batchSize + "]" : sql;
+        }
+
+    }
+
+    /**
+     * An action performing database access.
+     */
+    @FunctionalInterface
+    public interface Action {
+
+        /**
+         * Performs the action.
+         *
+         * @throws Exception if the action fails
+         */
+        void run() throws Exception;
+
+    }
+
+    private final ThreadLocal<List<RecordedStatement>> recording = new ThreadLocal<>();
+    private DataSource target;
+
+    /**
+     * Wraps the given data source so that its statements are recorded.
+     *
+     * @param dataSource the data source to wrap
+     * @return the recording data source
+     */
+    public ProxyDataSource wrap(DataSource dataSource) {
+        this.target = dataSource;
+        return ProxyDataSourceBuilder.create(dataSource).name("sql-recorder").listener(this)
+            .build();
+    }
+
+    /**
+     * Runs the action and returns the statements it executed on the current thread.
+     *
+     * @param action the action to record, e.g. a MockMvc request
+     * @return the recorded statements
+     * @throws Exception if the action fails
+     */
+    public SqlRecording record(Action action) throws Exception {
+        List<RecordedStatement> statements = new ArrayList<>();
+        recording.set(statements);
+        try {
+            action.run();
+        } finally {
+            recording.remove();
+        }
+        return new SqlRecording(List.copyOf(statements), target);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<RecordedStatement> statements = recording.get();
+        if (statements == null) {
+            return;
+        }
+        for (QueryInfo query : queryInfoList) {
+            List<List<ParameterSetOperation>> parameters = query.getParametersList();
+            statements.add(new RecordedStatement(
+                query.getQuery(), parameters.isEmpty() ? List.of() : parameters.get(0),
+                Math.max(parameters.size(), 1)));
+        }
+    }
+
+}
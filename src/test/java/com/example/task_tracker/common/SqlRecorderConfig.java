@@ -0,0 +1,50 @@
+package com.example.task_tracker.common;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+
+/**
+ * Wraps the data source of a test context with a {@link SqlRecorder}. Import it into tests
+ * that assert statement budgets.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class SqlRecorderConfig {
+
+    /**
+     * @return the recorder shared by the test and the data source
+     */
+    @Bean
+    public static SqlRecorder sqlRecorder() {
+        return new SqlRecorder();
+    }
+
+    /**
+     * Wraps every data source once it is initialized.
+     *
+     * @param recorder the recorder receiving the statements
+     * @return the post-processor wrapping the data sources
+     */
+    @Bean
+    public static BeanPostProcessor sqlRecordingDataSourcePostProcessor(
+        ObjectProvider<SqlRecorder> recorder)
+    {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return recorder.getObject().wrap(dataSource);
+                }
+                return bean;
+            }
+
+        };
+    }
+
+}
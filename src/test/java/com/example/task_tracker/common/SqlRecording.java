@@ -0,0 +1,124 @@
+package com.example.task_tracker.common;
+
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+
+import com.example.task_tracker.common.SqlRecorder.RecordedStatement;
+
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The SQL statements recorded by {@link SqlRecorder} for one action, with assertions on
+ * their number and their query plans.
+ *
+ * @param statements the statements in execution order
+ * @param dataSource the unrecorded data source used to explain queries
+ */
+public record SqlRecording(List<RecordedStatement> statements, DataSource dataSource) {
+
+    /**
+     * Asserts that no more than the given number of statements were executed.
+     *
+     * @param max the statement budget
+     * @return this recording
+     */
+    public SqlRecording hasAtMostStatements(int max) {
+        assertThat(statements)
+            .as("Statements executed (budget %d):%n%s", max, describe(statements))
+            .hasSizeLessThanOrEqualTo(max);
+        return this;
+    }
+
+    /**
+     * Asserts that every query reading one of the given tables uses an index on it, by running
+     * {@code EXPLAIN} on the embedded H2 database with the recorded parameters.
+     *
+     * @param tables the tables that must not be scanned, e.g. {@code "tasks"}
+     * @return this recording
+     * @throws SQLException if a query cannot be explained
+     */
+    public SqlRecording usesIndexesOn(String... tables) throws SQLException {
+        List<String> scans = new ArrayList<>();
+        for (String plan : explainQueries()) {
+            for (String table : tables) {
+                String scan = "PUBLIC." + table.toUpperCase(Locale.ROOT) + ".tableScan";
+                if (plan.contains(scan)) {
+                    scans.add(plan);
+                }
+            }
+        }
+        assertThat(scans).as("Queries scanning %s", List.of(tables)).isEmpty();
+        return this;
+    }
+
+    /**
+     * Asserts that no query counts all rows of a table. H2 answers such a count from its row
+     * count ({@code direct lookup}), but PostgreSQL reads the whole table for it.
+     *
+     * @return this recording
+     * @throws SQLException if a query cannot be explained
+     */
+    public SqlRecording hasNoUnfilteredCounts() throws SQLException {
+        List<String> counts = new ArrayList<>();
+        for (String plan : explainQueries()) {
+            if (plan.contains("direct lookup")
+                && plan.toUpperCase(Locale.ROOT).contains("COUNT("))
+            {
+                counts.add(plan);
+            }
+        }
+        assertThat(counts).as("Queries counting whole tables").isEmpty();
+        return this;
+    }
+
+    private List<String> explainQueries() throws SQLException {
+        List<String> plans = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            for (RecordedStatement statement : statements) {
+                if (statement.isSelect()) {
+                    plans.add(explain(connection, statement));
+                }
+            }
+        }
+        return plans;
+    }
+
+    private static String explain(Connection connection, RecordedStatement statement)
+        throws SQLException
+    {
+        try (PreparedStatement explain =
+            connection.prepareStatement("EXPLAIN " + statement.sql()))
+        {
+            for (ParameterSetOperation parameter : statement.parameters()) {
+                try {
+                    parameter.getMethod().invoke(explain, parameter.getArgs());
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new SQLException("Cannot bind parameter of " + statement.sql(), e);
+                }
+            }
+            try (ResultSet plan = explain.executeQuery()) {
+                StringBuilder text = new StringBuilder();
+                while (plan.next()) {
+                    text.append(plan.getString(1)).append('\n');
+                }
+                return text.toString();
+            }
+        }
+    }
+
+    private static String describe(List<RecordedStatement> statements) {
+        return statements.stream().map(RecordedStatement::toString)
+            .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+}
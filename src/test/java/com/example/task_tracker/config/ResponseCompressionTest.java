@@ -0,0 +1,95 @@
+package com.example.task_tracker.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import com.example.task_tracker.sync.repository.ResourceChangeRepository;
+import com.example.task_tracker.task.dto.TaskCreateRequest;
+import com.example.task_tracker.task.repository.TaskRepository;
+import com.example.task_tracker.task.service.TaskService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests response compression on a running server, since Tomcat compresses after the
+ * application has written the response.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class ResponseCompressionTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ResourceChangeRepository changeRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        List<TaskCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            TaskCreateRequest request = new TaskCreateRequest();
+            request.setTitle("Task " + i);
+            request.setDescription("A description long enough to exceed the threshold " + i);
+            requests.add(request);
+        }
+        taskService.createTasks(requests);
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testTaskListIsCompressed() throws Exception {
+        // when
+        HttpResponse<InputStream> response = client.send(
+            HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks?size=20"))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .build(),
+            HttpResponse.BodyHandlers.ofInputStream());
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(response.headers().firstValue("ETag").orElseThrow()).startsWith("W/");
+        assertThat(response.headers().allValues("Vary"))
+            .anySatisfy(vary -> assertThat(vary).contains("Accept"));
+        assertThat(read(response).path("content")).hasSize(20);
+    }
+
+    private JsonNode read(HttpResponse<InputStream> response) throws IOException {
+        try (InputStream body = new GZIPInputStream(response.body())) {
+            return objectMapper.readTree(body);
+        }
+    }
+
+}
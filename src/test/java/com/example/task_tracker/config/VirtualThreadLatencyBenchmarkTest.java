@@ -0,0 +1,157 @@
+package com.example.task_tracker.config;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.example.task_tracker.TaskTrackerApplication;
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.task.dto.TaskCreateRequest;
+import com.example.task_tracker.task.service.TaskService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares request latency percentiles with request handling on virtual threads and on
+ * Tomcat's platform thread pool.
+ * <p>
+ * Starts the application twice against an embedded database, once per mode, and sends the
+ * same mix of list and lookup requests from more concurrent clients than Tomcat has platform
+ * threads. Run with {@code ./gradlew benchmark}; excluded from the regular test run.
+ */
+@Tag("benchmark")
+class VirtualThreadLatencyBenchmarkTest {
+
+    private static final Logger log =
+        LoggerFactory.getLogger(VirtualThreadLatencyBenchmarkTest.class);
+
+    private static final int TASKS = 2000;
+    private static final int PROJECTS = 20;
+    private static final int CLIENTS = 400;
+    private static final int REQUESTS_PER_CLIENT = 50;
+
+    @Test
+    void compareLatencyWithAndWithoutVirtualThreads() throws Exception {
+        long[] platform = measure(false);
+        long[] virtual = measure(true);
+
+        log.info("Platform threads: {}", percentiles(platform));
+        log.info("Virtual threads:  {}", percentiles(virtual));
+        assertThat(virtual).hasSameSizeAs(platform);
+    }
+
+    /**
+     * @param virtualThreads whether requests are handled on virtual threads
+     * @return the sorted latencies of all requests in nanoseconds
+     */
+    private static long[] measure(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context =
+            new SpringApplicationBuilder(TaskTrackerApplication.class)
+                .profiles("test")
+                .properties(
+                    "server.port=0", "spring.threads.virtual.enabled=" + virtualThreads,
+                    "spring.datasource.url=jdbc:h2:mem:latency-" + virtualThreads
+                        + ";DB_CLOSE_DELAY=-1",
+                    "spring.datasource.driver-class-name=org.h2.Driver",
+                    "spring.datasource.username=sa", "spring.datasource.password=")
+                .run())
+        {
+            List<Long> ids = seed(context);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port + "/api/tasks";
+
+            // warm-up
+            run(baseUrl, ids, 50, 20);
+            long[] latencies = run(baseUrl, ids, CLIENTS, REQUESTS_PER_CLIENT);
+            Arrays.sort(latencies);
+            return latencies;
+        }
+    }
+
+    private static List<Long> seed(ConfigurableApplicationContext context) {
+        ProjectRepository projectRepository = context.getBean(ProjectRepository.class);
+        TaskService taskService = context.getBean(TaskService.class);
+
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            projects.add(new Project("Project " + i, null, null));
+        }
+        projectRepository.saveAll(projects);
+
+        List<TaskCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            TaskCreateRequest request = new TaskCreateRequest();
+            request.setTitle("Task " + i);
+            request.setDescription("Seeded task number " + i);
+            request.setProjectId(projects.get(i % PROJECTS).getId());
+            requests.add(request);
+        }
+        return taskService.createTasks(requests).results().stream()
+            .map(result -> result.task().id())
+            .toList();
+    }
+
+    private static long[] run(String baseUrl, List<Long> ids, int clients, int requestsPerClient)
+        throws Exception
+    {
+        HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        List<Future<long[]>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                results.add(executor.submit(() -> {
+                    long[] latencies = new long[requestsPerClient];
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int r = 0; r < requestsPerClient; r++) {
+                        String url = random.nextInt(4) == 0
+                            ? baseUrl + "?page=" + random.nextInt(20) + "&size=20"
+                            : baseUrl + "/" + ids.get(random.nextInt(ids.size()));
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = http.send(
+                            HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                            HttpResponse.BodyHandlers.discarding());
+                        latencies[r] = System.nanoTime() - start;
+                        assertThat(response.statusCode()).isEqualTo(200);
+                    }
+                    return latencies;
+                }));
+            }
+        }
+
+        long[] all = new long[clients * requestsPerClient];
+        int offset = 0;
+        for (Future<long[]> result : results) {
+            long[] latencies = result.get();
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        return all;
+    }
+
+    private static String percentiles(long[] sorted) {
+        return String.format(
+            "p50 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, max %.2f ms", millis(sorted, 0.50),
+            millis(sorted, 0.99), millis(sorted, 0.999), sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static double millis(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+}
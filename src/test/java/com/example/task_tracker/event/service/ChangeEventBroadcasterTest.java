@@ -0,0 +1,109 @@
+package com.example.task_tracker.event.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.task_tracker.event.controller.EventStreamController;
+import com.example.task_tracker.event.dto.ChangeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for {@link ChangeEventBroadcaster}.
+ */
+class ChangeEventBroadcasterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ChangeEventBroadcaster broadcaster(int bufferSize, List<Runnable> pendingSenders) {
+        return new ChangeEventBroadcaster(
+            objectMapper, bufferSize, 2, Duration.ofMinutes(1), pendingSenders::add);
+    }
+
+    @Test
+    void testStreamsEventsToSubscriber() throws Exception {
+        // given
+        ChangeEventBroadcaster broadcaster =
+            new ChangeEventBroadcaster(objectMapper, 4, 2, Duration.ofMinutes(1), Runnable::run);
+        MockMvc mockMvc =
+            MockMvcBuilders.standaloneSetup(new EventStreamController(broadcaster)).build();
+        MvcResult result = mockMvc.perform(get("/api/events")).andExpect(request().asyncStarted())
+            .andReturn();
+
+        Map<String, Object> before = new LinkedHashMap<>();
+        before.put("title", "Task");
+        before.put("status", "OPEN");
+        Map<String, Object> after = new LinkedHashMap<>(before);
+        after.put("status", "DONE");
+
+        // when
+        broadcaster.broadcast(ChangeEvent.updated(ChangeEvent.TASK, 5L, before, after));
+        broadcaster.broadcast(ChangeEvent.deleted(ChangeEvent.PROJECT, 7L));
+
+        // then
+        assertThat(result.getResponse().getContentAsString()).contains(
+            ":heartbeat\n\n",
+            "event:task\ndata:{\"resource\":\"task\",\"type\":\"UPDATED\",\"id\":5,"
+                + "\"changes\":{\"status\":\"DONE\"}}\n\n",
+            "event:project\ndata:{\"resource\":\"project\",\"type\":\"DELETED\",\"id\":7}\n\n");
+    }
+
+    @Test
+    void testIgnoresUpdatesWithoutChanges() {
+        // given
+        List<Runnable> pendingSenders = new ArrayList<>();
+        ChangeEventBroadcaster broadcaster = broadcaster(1, pendingSenders);
+        broadcaster.subscribe();
+        pendingSenders.clear();
+
+        // when
+        broadcaster.broadcast(
+            ChangeEvent.updated(ChangeEvent.TASK, 5L, Map.of("title", "A"), Map.of("title", "A")));
+
+        // then
+        assertThat(broadcaster.getDroppedCount()).isZero();
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testDisconnectsSubscriberWhoseBufferIsFull() {
+        // given: the initial heartbeat and one event fill the buffer, nothing is sent
+        List<Runnable> pendingSenders = new ArrayList<>();
+        ChangeEventBroadcaster broadcaster = broadcaster(2, pendingSenders);
+        broadcaster.subscribe();
+        broadcaster.broadcast(ChangeEvent.deleted(ChangeEvent.TASK, 1L));
+
+        // when
+        broadcaster.broadcast(ChangeEvent.deleted(ChangeEvent.TASK, 2L));
+
+        // then
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+        assertThat(broadcaster.getDroppedCount()).isEqualTo(1);
+        assertThat(pendingSenders).hasSize(1);
+    }
+
+    @Test
+    void testRejectsSubscribersBeyondLimit() throws Exception {
+        // given
+        ChangeEventBroadcaster broadcaster = broadcaster(4, new ArrayList<>());
+        MockMvc mockMvc =
+            MockMvcBuilders.standaloneSetup(new EventStreamController(broadcaster)).build();
+        broadcaster.subscribe();
+        broadcaster.subscribe();
+
+        // when/then
+        mockMvc.perform(get("/api/events")).andExpect(status().isServiceUnavailable());
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.example.task_tracker.project.service;
+
+import com.example.task_tracker.config.CacheConfig;
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.project.repository.ProjectRepository;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link ProjectCache} with the cache manager from {@link CacheConfig} against the
+ * embedded database.
+ * <p>
+ * Runs without a test transaction, because the transaction-aware caches only apply puts and
+ * evictions on commit.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ CacheConfig.class, ProjectCache.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+class ProjectCacheTest {
+
+    @Autowired
+    private ProjectCache projectCache;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        project = projectRepository.save(new Project("Cached", null, null));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    private CacheStats stats(String cacheName) {
+        TransactionAwareCacheDecorator cache =
+            (TransactionAwareCacheDecorator) cacheManager.getCache(cacheName);
+        return ((CaffeineCache) cache.getTargetCache()).getNativeCache().stats();
+    }
+
+    @Test
+    void testRepeatedReadsHitTheCache() {
+        // when
+        projectCache.get(project.getId());
+        projectCache.get(project.getId());
+        projectCache.getAll();
+        projectCache.getAll();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(stats(ProjectCache.PROJECTS).hitCount()).isEqualTo(1);
+        assertThat(stats(ProjectCache.PROJECTS).missCount()).isEqualTo(1);
+        assertThat(stats(ProjectCache.ALL_PROJECTS).hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testEvictReloadsChangedProject() {
+        // given
+        projectCache.get(project.getId());
+        projectCache.getAll();
+        project.setName("Renamed");
+        projectRepository.save(project);
+
+        // when
+        projectCache.evict(project.getId());
+
+        // then
+        assertThat(projectCache.get(project.getId()).name()).isEqualTo("Renamed");
+        assertThat(projectCache.getAll()).extracting("name").containsExactly("Renamed");
+    }
+
+    @Test
+    void testUnknownProjectIsNotCached() {
+        // when
+        assertThat(projectCache.get(-1L)).isNull();
+        assertThat(projectCache.get(-1L)).isNull();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.example.task_tracker.stats.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.example.task_tracker.stats.model.ProjectTaskCounterId;
+import com.example.task_tracker.stats.repository.ProjectTaskCounterRepository;
+import com.example.task_tracker.sync.service.ChangeLogService;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link ProjectTaskStatsServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProjectTaskStatsServiceImplTest {
+
+    @Mock
+    private ProjectTaskCounterRepository counterRepository;
+    @Mock
+    private ChangeLogService changeLogService;
+
+    @InjectMocks
+    private ProjectTaskStatsServiceImpl statsService;
+
+    @Test
+    void testApplyDeltasUpdatesCountersInKeyOrder() {
+        // given
+        Map<ProjectTaskCounterId, Long> deltas = new HashMap<>();
+        deltas.put(new ProjectTaskCounterId(2L, TaskStatus.OPEN, TaskPriority.LOW), 1L);
+        deltas.put(new ProjectTaskCounterId(1L, TaskStatus.DONE, TaskPriority.HIGH), -1L);
+        deltas.put(new ProjectTaskCounterId(1L, TaskStatus.OPEN, TaskPriority.HIGH), 1L);
+        deltas.put(new ProjectTaskCounterId(1L, TaskStatus.OPEN, TaskPriority.LOW), 1L);
+        deltas.put(new ProjectTaskCounterId(null, TaskStatus.OPEN, TaskPriority.LOW), 1L);
+        deltas.put(new ProjectTaskCounterId(3L, TaskStatus.OPEN, TaskPriority.LOW), 0L);
+        when(counterRepository.increment(any(), any(), any(), anyLong())).thenReturn(1);
+
+        // when
+        statsService.applyDeltas(deltas);
+
+        // then
+        InOrder order = inOrder(counterRepository);
+        order.verify(counterRepository)
+            .increment(1L, TaskStatus.DONE, TaskPriority.HIGH, -1L);
+        order.verify(counterRepository)
+            .increment(1L, TaskStatus.OPEN, TaskPriority.HIGH, 1L);
+        order.verify(counterRepository)
+            .increment(1L, TaskStatus.OPEN, TaskPriority.LOW, 1L);
+        order.verify(counterRepository)
+            .increment(2L, TaskStatus.OPEN, TaskPriority.LOW, 1L);
+        verify(counterRepository, never()).increment(eq(3L), any(), any(), anyLong());
+        order.verifyNoMoreInteractions();
+    }
+
+}
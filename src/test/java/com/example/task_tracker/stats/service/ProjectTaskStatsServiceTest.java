@@ -0,0 +1,134 @@
+package com.example.task_tracker.stats.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.example.task_tracker.project.dto.ProjectCreateRequest;
+import com.example.task_tracker.project.service.ProjectCache;
+import com.example.task_tracker.project.service.ProjectServiceImpl;
+import com.example.task_tracker.stats.dto.TaskCounts;
+import com.example.task_tracker.suggest.service.SuggestionServiceImpl;
+import com.example.task_tracker.sync.service.ChangeLogServiceImpl;
+import com.example.task_tracker.task.dto.TaskCreateRequest;
+import com.example.task_tracker.task.dto.TaskResponse;
+import com.example.task_tracker.task.dto.TaskTransitionRequest;
+import com.example.task_tracker.task.dto.TaskUpdateRequest;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import com.example.task_tracker.task.service.TaskCountCache;
+import com.example.task_tracker.task.service.TaskServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the task write paths keep the project task counters of
+ * {@link ProjectTaskStatsServiceImpl} in line with the {@code tasks} table.
+ */
+@DataJpaTest
+@Import({
+    ProjectTaskStatsServiceImpl.class, ProjectServiceImpl.class, ProjectCache.class,
+    TaskServiceImpl.class, TaskCountCache.class, SuggestionServiceImpl.class,
+    ChangeLogServiceImpl.class })
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@ActiveProfiles("test")
+class ProjectTaskStatsServiceTest {
+
+    @Autowired
+    private ProjectTaskStatsServiceImpl statsService;
+    @Autowired
+    private ProjectServiceImpl projectService;
+    @Autowired
+    private TaskServiceImpl taskService;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long projectId;
+    private Long otherProjectId;
+
+    private static ProjectCreateRequest project(String name) {
+        ProjectCreateRequest request = new ProjectCreateRequest();
+        request.setName(name);
+        return request;
+    }
+
+    private static TaskCreateRequest task(Long projectId, TaskStatus status) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle("Task");
+        request.setStatus(status);
+        request.setPriority(TaskPriority.MEDIUM);
+        request.setProjectId(projectId);
+        return request;
+    }
+
+    @BeforeEach
+    void setUp() {
+        projectId = projectService.createProject(project("Stats")).id();
+        otherProjectId = projectService.createProject(project("Other")).id();
+    }
+
+    @Test
+    void testNewProjectHasZeroCounts() {
+        // when
+        TaskCounts counts = statsService.getCounts(projectId);
+
+        // then
+        assertThat(counts.total()).isZero();
+        assertThat(counts.byStatus()).containsOnlyKeys(TaskStatus.values());
+        assertThat(counts.byPriority()).containsOnlyKeys(TaskPriority.values());
+    }
+
+    @Test
+    void testWritePathsKeepCountersExact() {
+        // given
+        TaskResponse first = taskService.createTask(task(projectId, TaskStatus.OPEN));
+        taskService.createTasks(
+            List.of(
+                task(projectId, TaskStatus.OPEN), task(projectId, TaskStatus.IN_PROGRESS),
+                task(otherProjectId, TaskStatus.OPEN), task(null, TaskStatus.OPEN)));
+        TaskResponse moved = taskService.createTask(task(projectId, TaskStatus.DONE));
+
+        // when
+        TaskUpdateRequest update = new TaskUpdateRequest();
+        update.setTitle("Moved");
+        update.setStatus(TaskStatus.OPEN);
+        update.setPriority(TaskPriority.HIGH);
+        update.setProjectId(otherProjectId);
+        taskService.updateTask(moved.id(), update, null);
+
+        TaskTransitionRequest transition = new TaskTransitionRequest();
+        transition.setIds(List.of(first.id()));
+        transition.setTargetStatus(TaskStatus.DONE);
+        taskService.transitionTasks(transition);
+
+        taskService.deleteTask(first.id());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        TaskCounts counts = statsService.getCounts(projectId);
+        assertThat(counts.total()).isEqualTo(2);
+        assertThat(counts.byStatus())
+            .containsEntry(TaskStatus.OPEN, 1L).containsEntry(TaskStatus.IN_PROGRESS, 1L)
+            .containsEntry(TaskStatus.DONE, 0L);
+
+        TaskCounts otherCounts = statsService.getCounts(otherProjectId);
+        assertThat(otherCounts.total()).isEqualTo(2);
+        assertThat(otherCounts.byPriority()).containsEntry(TaskPriority.HIGH, 1L);
+
+        Map<Long, TaskCounts> incremental = statsService.getAllCounts();
+        statsService.rebuild();
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(statsService.getAllCounts()).isEqualTo(incremental);
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.example.task_tracker.suggest.service;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the heap used by a {@link PrefixIndex} of 100k task titles and its query latency.
+ * <p>
+ * Run with {@code ./gradlew benchmark}; excluded from the regular test run. The memory figure
+ * is the difference in used heap after garbage collection and therefore approximate.
+ */
+@Tag("benchmark")
+class PrefixIndexBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PrefixIndexBenchmarkTest.class);
+
+    private static final int TITLES = 100_000;
+    private static final int QUERIES = 100_000;
+    private static final String[] WORDS = {
+        "fix", "login", "bug", "update", "release", "notes", "review", "deploy", "api", "docs",
+        "write", "tests", "refactor", "billing", "page", "layout", "migrate", "database",
+        "customer", "report" };
+
+    @Test
+    void measureMemoryAndLatency() {
+        Random random = new Random(42);
+        String[] titles = new String[TITLES];
+        for (int i = 0; i < TITLES; i++) {
+            titles[i] = title(random);
+        }
+
+        long before = usedHeap();
+        PrefixIndex index = new PrefixIndex();
+        for (int i = 0; i < TITLES; i++) {
+            index.put(i, titles[i]);
+        }
+        long after = usedHeap();
+        // Titles are kept reachable above, so only the index structures are counted.
+        assertThat(index.size()).isEqualTo(TITLES);
+
+        String[] prefixes = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            prefixes[i] = word.substring(0, 1 + random.nextInt(word.length()));
+        }
+        // warm-up
+        for (int i = 0; i < 10_000; i++) {
+            index.find(prefixes[i], 10);
+        }
+
+        long start = System.nanoTime();
+        int found = 0;
+        for (String prefix : prefixes) {
+            found += index.find(prefix, 10).size();
+        }
+        long nanos = System.nanoTime() - start;
+
+        assertThat(found).isPositive();
+        log.info(
+            "Prefix index of {} titles: {} bytes per title excluding the title strings, "
+                + "{} MB in total; {} µs per top-10 query",
+            TITLES, (after - before) / TITLES, (after - before) / (1024 * 1024),
+            nanos / 1000.0 / QUERIES);
+        assertThat(titles).hasSize(TITLES);
+    }
+
+    private static String title(Random random) {
+        StringBuilder title = new StringBuilder();
+        int words = 2 + random.nextInt(4);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                title.append(' ');
+            }
+            title.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return title.append(' ').append(random.nextInt(1000)).toString();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
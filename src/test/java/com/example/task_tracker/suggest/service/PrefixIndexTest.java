@@ -0,0 +1,100 @@
+package com.example.task_tracker.suggest.service;
+
+import java.util.Map;
+
+import com.example.task_tracker.suggest.dto.Suggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link PrefixIndex}.
+ */
+class PrefixIndexTest {
+
+    private PrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PrefixIndex();
+        index.put(1L, "Fix login bug");
+        index.put(2L, "fix layout");
+        index.put(3L, "Write docs");
+        index.put(4L, "Fix");
+    }
+
+    @Test
+    void testFindsPrefixMatchesIgnoringCaseInAlphabeticalOrder() {
+        assertThat(index.find(" FIX L", 10)).containsExactly(
+            new Suggestion(2L, "fix layout"), new Suggestion(1L, "Fix login bug"));
+        assertThat(index.find("fix", 10)).extracting(Suggestion::id).containsExactly(4L, 2L, 1L);
+    }
+
+    @Test
+    void testLimitsResults() {
+        assertThat(index.find("f", 2)).extracting(Suggestion::id).containsExactly(4L, 2L);
+    }
+
+    @Test
+    void testBlankPrefixMatchesNothing() {
+        assertThat(index.find("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void testPutReplacesPreviousText() {
+        // when
+        index.put(1L, "Write tests");
+
+        // then
+        assertThat(index.find("fix l", 10)).extracting(Suggestion::id).containsExactly(2L);
+        assertThat(index.find("write", 10)).extracting(Suggestion::text)
+            .containsExactly("Write docs", "Write tests");
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void testRemove() {
+        // when
+        index.remove(3L);
+        index.put(4L, " ");
+
+        // then
+        assertThat(index.find("w", 10)).isEmpty();
+        assertThat(index.find("fix", 10)).extracting(Suggestion::id).containsExactly(2L, 1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testReplaceAll() {
+        // when
+        index.replaceAll(() -> Map.of(2L, "Fix layout", 5L, "Plan release"));
+
+        // then
+        assertThat(index.find("f", 10)).containsExactly(new Suggestion(2L, "Fix layout"));
+        assertThat(index.find("p", 10)).extracting(Suggestion::id).containsExactly(5L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testReplaceAllKeepsWritesMadeDuringSnapshot() {
+        // when
+        index.replaceAll(() -> {
+            Map<Long, String> snapshot = Map.of(1L, "Fix login bug", 2L, "fix layout");
+            index.put(2L, "Fix layout again");
+            index.remove(1L);
+            index.put(6L, "Plan release");
+            return snapshot;
+        });
+
+        // then
+        assertThat(index.find("f", 10)).containsExactly(new Suggestion(2L, "Fix layout again"));
+        assertThat(index.find("p", 10)).extracting(Suggestion::id).containsExactly(6L);
+        assertThat(index.size()).isEqualTo(2);
+
+        index.put(7L, "Write tests");
+        index.replaceAll(() -> Map.of(7L, "Write tests"));
+        assertThat(index.find("fix", 10)).isEmpty();
+    }
+
+}
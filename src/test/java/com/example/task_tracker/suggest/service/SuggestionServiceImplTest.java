@@ -0,0 +1,100 @@
+package com.example.task_tracker.suggest.service;
+
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.suggest.dto.Suggestion;
+import com.example.task_tracker.suggest.dto.SuggestionResponse;
+import com.example.task_tracker.task.model.Task;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import com.example.task_tracker.task.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link SuggestionServiceImpl} against the embedded database.
+ * <p>
+ * Runs without a test transaction, because reported changes are only applied on commit.
+ */
+@DataJpaTest
+@Import(SuggestionServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+class SuggestionServiceImplTest {
+
+    @Autowired
+    private SuggestionService suggestionService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        suggestionService.rebuild();
+    }
+
+    @Test
+    void testRebuildIndexesTasksAndProjects() {
+        // given
+        Project project = projectRepository.save(new Project("Release", null, null));
+        Task task = taskRepository
+            .save(new Task("Review release notes", null, TaskStatus.OPEN, TaskPriority.LOW, null));
+
+        // when
+        suggestionService.rebuild();
+        SuggestionResponse response = suggestionService.suggest("re", 10);
+
+        // then
+        assertThat(response.projects()).containsExactly(new Suggestion(project.getId(), "Release"));
+        assertThat(response.tasks())
+            .containsExactly(new Suggestion(task.getId(), "Review release notes"));
+    }
+
+    @Test
+    void testChangesApplyOnlyOnCommit() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // when
+        transaction.executeWithoutResult(tx -> {
+            suggestionService.taskSaved(1L, "Committed");
+            assertThat(suggestionService.suggest("committed", 10).tasks()).isEmpty();
+        });
+        transaction.executeWithoutResult(tx -> {
+            suggestionService.taskSaved(2L, "Rolled back");
+            tx.setRollbackOnly();
+        });
+
+        // then
+        assertThat(suggestionService.suggest("committed", 10).tasks()).hasSize(1);
+        assertThat(suggestionService.suggest("rolled", 10).tasks()).isEmpty();
+    }
+
+    @Test
+    void testLimitIsCapped() {
+        // given
+        for (long id = 1; id <= SuggestionServiceImpl.MAX_LIMIT + 5; id++) {
+            suggestionService.taskSaved(id, "Task " + id);
+        }
+
+        // when/then
+        assertThat(suggestionService.suggest("task", 1000).tasks())
+            .hasSize(SuggestionServiceImpl.MAX_LIMIT);
+    }
+
+}
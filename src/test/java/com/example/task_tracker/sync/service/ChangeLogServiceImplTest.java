@@ -0,0 +1,224 @@
+package com.example.task_tracker.sync.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.task_tracker.project.dto.ProjectCreateRequest;
+import com.example.task_tracker.project.dto.ProjectResponse;
+import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.project.service.ProjectCache;
+import com.example.task_tracker.project.service.ProjectServiceImpl;
+import com.example.task_tracker.stats.repository.ProjectTaskCounterRepository;
+import com.example.task_tracker.stats.service.ProjectTaskStatsServiceImpl;
+import com.example.task_tracker.suggest.service.SuggestionServiceImpl;
+import com.example.task_tracker.sync.exception.ChangeTokenExpiredException;
+import com.example.task_tracker.sync.repository.ResourceChangeRepository;
+import com.example.task_tracker.task.dto.TaskChanges;
+import com.example.task_tracker.task.dto.TaskCreateRequest;
+import com.example.task_tracker.task.dto.TaskPatchRequest;
+import com.example.task_tracker.task.dto.TaskResponse;
+import com.example.task_tracker.task.model.TaskStatus;
+import com.example.task_tracker.task.repository.TaskRepository;
+import com.example.task_tracker.task.service.TaskCountCache;
+import com.example.task_tracker.task.service.TaskServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests delta synchronization through {@link ChangeLogServiceImpl} against the embedded
+ * database.
+ * <p>
+ * Runs without a test transaction, since changes are only recorded when their transaction
+ * commits.
+ */
+@DataJpaTest
+@Import({
+    ChangeLogServiceImpl.class, TaskServiceImpl.class, TaskCountCache.class,
+    ProjectServiceImpl.class, ProjectCache.class, ProjectTaskStatsServiceImpl.class,
+    SuggestionServiceImpl.class })
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+class ChangeLogServiceImplTest {
+
+    @Autowired
+    private ChangeLogServiceImpl changeLogService;
+    @Autowired
+    private TaskServiceImpl taskService;
+    @Autowired
+    private ProjectServiceImpl projectService;
+    @Autowired
+    private ResourceChangeRepository changeRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private ProjectTaskCounterRepository counterRepository;
+
+    @AfterEach
+    void tearDown() {
+        changeRepository.deleteAllInBatch();
+        counterRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testInitialSyncReturnsAllTasksAndProjects() {
+        // given
+        ProjectResponse project = createProject("Sync");
+        TaskResponse task = createTask("First", project.id());
+
+        // when
+        TaskChanges changes = taskService.getChanges(null, 100);
+
+        // then
+        assertThat(changes.tasks()).extracting(TaskResponse::id).contains(task.id());
+        assertThat(changes.tasks()).filteredOn(response -> response.id().equals(task.id()))
+            .extracting(TaskResponse::projectName).containsExactly("Sync");
+        assertThat(changes.projects()).extracting(ProjectResponse::id).contains(project.id());
+        assertThat(changes.deletedTaskIds()).isEmpty();
+        assertThat(changes.nextToken()).isNotBlank();
+    }
+
+    @Test
+    void testSyncReturnsOnlyChangesSinceToken() {
+        // given
+        TaskResponse unchanged = createTask("Unchanged", null);
+        TaskResponse updated = createTask("Updated", null);
+        TaskResponse deleted = createTask("Deleted", null);
+        String token = syncAll();
+
+        TaskPatchRequest patch = new TaskPatchRequest();
+        patch.setStatus(TaskStatus.DONE);
+        taskService.patchTask(updated.id(), patch, null);
+        taskService.deleteTask(deleted.id());
+
+        // when
+        TaskChanges changes = taskService.getChanges(token, 100);
+
+        // then
+        assertThat(changes.tasks()).extracting(TaskResponse::id).containsExactly(updated.id());
+        assertThat(changes.tasks().get(0).status()).isEqualTo(TaskStatus.DONE);
+        assertThat(changes.deletedTaskIds()).containsExactly(deleted.id());
+        assertThat(changes.tasks()).extracting(TaskResponse::id).doesNotContain(unchanged.id());
+        assertThat(taskService.getChanges(changes.nextToken(), 100).tasks()).isEmpty();
+    }
+
+    @Test
+    void testSyncResumesWithinOneTransaction() {
+        // given
+        String token = syncAll();
+        List<Long> created = taskService.createTasks(
+            List.of(
+                taskRequest("One", null), taskRequest("Two", null), taskRequest("Three", null),
+                taskRequest("Four", null), taskRequest("Five", null)))
+            .results().stream().map(result -> result.task().id()).toList();
+
+        // when
+        List<Long> synced = new ArrayList<>();
+        int requests = 0;
+        TaskChanges changes;
+        do {
+            changes = taskService.getChanges(token, 2);
+            changes.tasks().forEach(task -> synced.add(task.id()));
+            token = changes.nextToken();
+            requests++;
+        } while (changes.hasMore());
+
+        // then
+        assertThat(synced).containsExactlyInAnyOrderElementsOf(created);
+        assertThat(requests).isEqualTo(3);
+    }
+
+    @Test
+    void testDeletedProjectLeavesTombstone() {
+        // given
+        ProjectResponse project = createProject("Removed");
+        String token = syncAll();
+
+        // when
+        projectService.deleteProject(project.id());
+
+        // then
+        TaskChanges changes = taskService.getChanges(token, 100);
+        assertThat(changes.deletedProjectIds()).containsExactly(project.id());
+        assertThat(changes.projects()).isEmpty();
+    }
+
+    @Test
+    void testPurgeExpiresTokensOlderThanPurgedTombstones() {
+        // given
+        TaskResponse task = createTask("Purged", null);
+        String staleToken = syncAll();
+        taskService.deleteTask(task.id());
+
+        // when
+        int purged = changeLogService.purgeTombstones(LocalDateTime.now().plusMinutes(1));
+
+        // then
+        assertThat(purged).isEqualTo(1);
+        assertThatThrownBy(() -> taskService.getChanges(staleToken, 100))
+            .isInstanceOf(ChangeTokenExpiredException.class);
+        String freshToken = syncAll();
+        assertThat(taskService.getChanges(freshToken, 100).tasks()).isEmpty();
+    }
+
+    @Test
+    void testListVersionChangesWithEveryWrite() {
+        // given
+        String initial = taskService.getTasksVersion();
+
+        // when
+        TaskResponse task = createTask("Versioned", null);
+
+        // then
+        String created = taskService.getTasksVersion();
+        assertThat(created).isNotEqualTo(initial);
+        assertThat(projectService.getProjectsVersion()).isEqualTo(created);
+        taskService.deleteTask(task.id());
+        assertThat(taskService.getTasksVersion()).isNotEqualTo(created);
+    }
+
+    /**
+     * Synchronizes from scratch and returns the token for the next sync.
+     */
+    private String syncAll() {
+        TaskChanges changes = taskService.getChanges(null, 1000);
+        while (changes.hasMore()) {
+            changes = taskService.getChanges(changes.nextToken(), 1000);
+        }
+        return changes.nextToken();
+    }
+
+    private ProjectResponse createProject(String name) {
+        ProjectCreateRequest request = new ProjectCreateRequest();
+        request.setName(name);
+        return projectService.createProject(request);
+    }
+
+    private TaskResponse createTask(String title, Long projectId) {
+        return taskService.createTask(taskRequest(title, projectId));
+    }
+
+    private static TaskCreateRequest taskRequest(String title, Long projectId) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle(title);
+        request.setProjectId(projectId);
+        return request;
+    }
+
+}
@@ -2,18 +2,44 @@ package com.example.task_tracker.task.controller;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+import com.example.task_tracker.config.ContentNegotiationConfig;
+import com.example.task_tracker.sync.exception.ChangeTokenExpiredException;
+import com.example.task_tracker.task.dto.TaskBatchItemResult;
+import com.example.task_tracker.task.dto.TaskBatchResponse;
+import com.example.task_tracker.task.dto.TaskChanges;
 import com.example.task_tracker.task.dto.TaskCreateRequest;
+import com.example.task_tracker.task.dto.TaskCursorPage;
+import com.example.task_tracker.task.dto.TaskFilter;
+import com.example.task_tracker.task.dto.TaskImportError;
+import com.example.task_tracker.task.dto.TaskImportLine;
+import com.example.task_tracker.task.dto.TaskImportProgress;
+import com.example.task_tracker.task.dto.TaskImportResponse;
+import com.example.task_tracker.task.dto.TaskPatchRequest;
 import com.example.task_tracker.task.dto.TaskResponse;
+import com.example.task_tracker.task.dto.TaskSlice;
+import com.example.task_tracker.task.dto.TaskTransitionRequest;
+import com.example.task_tracker.task.dto.TaskTransitionResponse;
 import com.example.task_tracker.task.dto.TaskUpdateRequest;
 import com.example.task_tracker.task.exception.GlobalExceptionHandler;
+import com.example.task_tracker.task.exception.InvalidCursorException;
+import com.example.task_tracker.task.exception.InvalidSearchQueryException;
 import com.example.task_tracker.task.exception.TaskNotFoundException;
 import com.example.task_tracker.task.model.TaskPriority;
 import com.example.task_tracker.task.model.TaskStatus;
+import com.example.task_tracker.task.service.TaskImportService;
 import com.example.task_tracker.task.service.TaskService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -22,17 +48,27 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -40,7 +76,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Test class for {@link TaskController}.
  */
 @WebMvcTest(TaskController.class)
-@Import(GlobalExceptionHandler.class)
+@Import({
+    GlobalExceptionHandler.class, TaskExportWriter.class, TaskImportReader.class,
+    ContentNegotiationConfig.class })
 @SuppressWarnings("removal")
 class TaskControllerTest {
 
@@ -48,6 +86,8 @@ class TaskControllerTest {
     private MockMvc mockMvc;
     @MockBean
     private TaskService taskService;
+    @MockBean
+    private TaskImportService importService;
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -75,6 +115,33 @@ class TaskControllerTest {
             .andExpect(jsonPath("$.title", is("New Task")));
     }
 
+    @Test
+    void testCreateTasks() throws Exception {
+        // given
+        TaskResponse created = new TaskResponse(
+            1L, "New Task", null, TaskStatus.OPEN, TaskPriority.MEDIUM, null, LocalDateTime.now(),
+            LocalDateTime.now(), null, null);
+        TaskBatchResponse response = new TaskBatchResponse(
+            1, 1, List.of(
+                TaskBatchItemResult.created(0, created),
+                TaskBatchItemResult.failed(1, "Project with id 9 not found", null)));
+        Mockito.when(taskService.createTasks(anyList())).thenReturn(response);
+
+        String json = """
+            [
+              { "title": "New Task" },
+              { "title": "Other Task", "projectId": 9 }
+            ]
+            """;
+
+        // when/then
+        mockMvc
+            .perform(post("/api/tasks/batch").contentType(MediaType.APPLICATION_JSON).content(json))
+            .andExpect(status().isOk()).andExpect(jsonPath("$.created", is(1)))
+            .andExpect(jsonPath("$.results[0].task.id", is(1)))
+            .andExpect(jsonPath("$.results[1].error", is("Project with id 9 not found")));
+    }
+
     @Test
     void testCreateTaskValidationError() throws Exception {
         // given
@@ -106,7 +173,7 @@ class TaskControllerTest {
             LocalDateTime.now(), null, null);
 
         Page<TaskResponse> page = new PageImpl<>(List.of(t1, t2));
-        Mockito.when(taskService.getTasks(any(Pageable.class), any(), any(), any()))
+        Mockito.when(taskService.getTasks(any(Pageable.class), any(TaskFilter.class)))
             .thenReturn(page);
 
         // when/then
@@ -116,6 +183,265 @@ class TaskControllerTest {
             .andExpect(jsonPath("$.content[1].status", is("DONE")));
     }
 
+    @Test
+    void testGetTasksAsSmile() throws Exception {
+        // given
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+        LocalDateTime createdAt = LocalDateTime.of(2025, 6, 1, 9, 30);
+        TaskResponse task = new TaskResponse(
+            1L, "T1", "D1", TaskStatus.OPEN, TaskPriority.LOW, null, createdAt, createdAt, null,
+            null);
+        Mockito.when(taskService.getTasks(any(Pageable.class), any(TaskFilter.class)))
+            .thenReturn(new PageImpl<>(List.of(task)));
+
+        // when
+        byte[] body = mockMvc.perform(get("/api/tasks").accept(smile))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(smile))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        JsonNode page = new ObjectMapper(new SmileFactory()).readTree(body);
+        assertThat(page.at("/content/0/title").asText()).isEqualTo("T1");
+        assertThat(page.at("/content/0/createdAt").asText()).isEqualTo("2025-06-01T09:30:00");
+    }
+
+    @Test
+    void testGetTasksNotModified() throws Exception {
+        // given
+        Mockito.when(taskService.getTasksVersion()).thenReturn("3-1700000000000000-1-0");
+
+        // when/then
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", "\"3-1700000000000000-1-0\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "W/\"3-1700000000000000-1-0\""));
+        Mockito.verify(taskService, Mockito.never())
+            .getTasks(any(Pageable.class), any(TaskFilter.class));
+    }
+
+    @Test
+    void testGetTasksWithoutTotal() throws Exception {
+        // given
+        TaskResponse t1 = new TaskResponse(
+            1L, "T1", "D1", TaskStatus.OPEN, TaskPriority.LOW, null, LocalDateTime.now(),
+            LocalDateTime.now(), null, null);
+        Mockito.when(taskService.getTaskSlice(any(Pageable.class), any(TaskFilter.class), eq(true)))
+            .thenReturn(new TaskSlice(List.of(t1), 0, 10, true, 120L));
+
+        // when/then
+        mockMvc.perform(get("/api/tasks").param("withTotal", "false").param("estimateTotal", "true"))
+            .andExpect(status().isOk()).andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.hasNext", is(true)))
+            .andExpect(jsonPath("$.estimatedTotal", is(120)))
+            .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void testGetTasksBindsFilter() throws Exception {
+        // given
+        Mockito.when(taskService.getTasks(any(Pageable.class), any(TaskFilter.class)))
+            .thenReturn(Page.empty());
+
+        // when
+        mockMvc
+            .perform(
+                get("/api/tasks").param("status", "OPEN,IN_PROGRESS").param("priority", "HIGH")
+                    .param("hasProject", "false").param("dueFrom", "2025-01-01")
+                    .param("dueTo", "2025-01-31")
+                    .param("updatedFrom", "2025-01-01T00:00:00"))
+            .andExpect(status().isOk());
+
+        // then
+        ArgumentCaptor<TaskFilter> captor = ArgumentCaptor.forClass(TaskFilter.class);
+        Mockito.verify(taskService).getTasks(any(Pageable.class), captor.capture());
+        TaskFilter filter = captor.getValue();
+
+        assertThat(filter.getStatus()).containsExactly(TaskStatus.OPEN, TaskStatus.IN_PROGRESS);
+        assertThat(filter.getPriority()).containsExactly(TaskPriority.HIGH);
+        assertThat(filter.getHasProject()).isFalse();
+        assertThat(filter.getDueFrom()).isEqualTo(LocalDate.of(2025, 1, 1));
+        assertThat(filter.getDueTo()).isEqualTo(LocalDate.of(2025, 1, 31));
+        assertThat(filter.getUpdatedFrom()).isEqualTo(LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+
+    @Test
+    void testGetTasksByCursor() throws Exception {
+        // given
+        TaskResponse t1 = new TaskResponse(
+            1L, "T1", "D1", TaskStatus.OPEN, TaskPriority.LOW, null, LocalDateTime.now(),
+            LocalDateTime.now(), null, null);
+        TaskCursorPage page = new TaskCursorPage(List.of(t1), "next", "previous");
+        Mockito.when(
+            taskService.getTasksByCursor(
+                eq("abc"), isNull(), eq(20), any(Sort.class), any(TaskFilter.class)))
+            .thenReturn(page);
+
+        // when/then
+        mockMvc
+            .perform(
+                get("/api/tasks").param("cursor", "true").param("after", "abc")
+                    .param("size", "20").param("status", "OPEN"))
+            .andExpect(status().isOk()).andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.nextCursor", is("next")))
+            .andExpect(jsonPath("$.previousCursor", is("previous")))
+            .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void testGetTasksByCursorWhenCursorInvalid() throws Exception {
+        // given
+        Mockito
+            .when(
+                taskService
+                    .getTasksByCursor(any(), any(), anyInt(), any(Sort.class), any()))
+            .thenThrow(new InvalidCursorException("Malformed cursor"));
+
+        // when/then
+        mockMvc.perform(get("/api/tasks").param("cursor", "true").param("after", "%%%"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Malformed cursor"));
+    }
+
+    @Test
+    void testGetChanges() throws Exception {
+        // given
+        TaskResponse changed = new TaskResponse(
+            1L, "Changed", null, TaskStatus.DONE, TaskPriority.HIGH, null, LocalDateTime.now(),
+            LocalDateTime.now(), null, null);
+        Mockito.when(taskService.getChanges("token", 500)).thenReturn(
+            new TaskChanges(List.of(changed), List.of(2L), List.of(), List.of(), "next", false));
+
+        // when/then
+        mockMvc.perform(get("/api/tasks/changes").param("since", "token"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.tasks[0].id").value(1))
+            .andExpect(jsonPath("$.deletedTaskIds[0]").value(2))
+            .andExpect(jsonPath("$.nextToken").value("next"))
+            .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void testGetChangesWithExpiredToken() throws Exception {
+        // given
+        Mockito.when(taskService.getChanges(any(), anyInt()))
+            .thenThrow(new ChangeTokenExpiredException());
+
+        // when/then
+        mockMvc.perform(get("/api/tasks/changes").param("since", "old"))
+            .andExpect(status().isGone());
+    }
+
+    @Test
+    void testSearchTasks() throws Exception {
+        // given
+        TaskResponse t1 = new TaskResponse(
+            1L, "Fix login bug", null, TaskStatus.OPEN, TaskPriority.HIGH, null,
+            LocalDateTime.now(), LocalDateTime.now(), null, null);
+        Mockito
+            .when(
+                taskService
+                    .searchTasks(eq("login bug"), any(Pageable.class), any(TaskFilter.class)))
+            .thenReturn(new PageImpl<>(List.of(t1)));
+
+        // when/then
+        mockMvc.perform(get("/api/tasks/search").param("q", "login bug").param("status", "OPEN"))
+            .andExpect(status().isOk()).andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.content[0].title", is("Fix login bug")));
+    }
+
+    @Test
+    void testSearchTasksWhenQueryBlank() throws Exception {
+        // given
+        Mockito.when(taskService.searchTasks(any(), any(Pageable.class), any(TaskFilter.class)))
+            .thenThrow(new InvalidSearchQueryException("Search query must not be blank"));
+
+        // when/then
+        mockMvc.perform(get("/api/tasks/search").param("q", " "))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Search query must not be blank"));
+    }
+
+    @Test
+    void testExportTasksAsCsv() throws Exception {
+        // given
+        TaskResponse t1 = new TaskResponse(
+            1L, "T1", null, TaskStatus.OPEN, TaskPriority.LOW, null,
+            LocalDateTime.of(2025, 1, 1, 9, 0), LocalDateTime.of(2025, 1, 1, 9, 0), null, null);
+        Mockito.when(taskService.exportTasks(any(TaskFilter.class), any(Sort.class), any()))
+            .thenAnswer(
+                invocation -> invocation.<Function<Stream<TaskResponse>, Long>>getArgument(2)
+                    .apply(Stream.of(t1)));
+
+        // when/then
+        mockMvc.perform(get("/api/tasks/export").param("format", "CSV").param("status", "OPEN"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+            .andExpect(
+                header().string("Content-Disposition", "attachment; filename=\"tasks.csv\""))
+            .andExpect(
+                content().string(
+                    TaskExportWriter.CSV_HEADER
+                        + "1,T1,,OPEN,LOW,,2025-01-01T09:00,2025-01-01T09:00,,\r\n"));
+    }
+
+    @Test
+    void testImportTasksFromCsv() throws Exception {
+        // given
+        Mockito.when(importService.importTasks(any())).thenAnswer(invocation -> {
+            Iterator<TaskImportLine> lines = invocation.getArgument(0);
+            List<TaskImportError> errors = new ArrayList<>();
+            while (lines.hasNext()) {
+                TaskImportLine line = lines.next();
+                if (line.error() != null) {
+                    errors.add(new TaskImportError(line.line(), line.error(), null));
+                }
+            }
+            return new TaskImportResponse(1, errors.size(), errors, false);
+        });
+
+        // when/then
+        mockMvc
+            .perform(
+                post("/api/tasks/import").contentType("text/csv;charset=UTF-8")
+                    .content("title,priority\nImported,HIGH\nBroken,URGENT\n"))
+            .andExpect(status().isOk()).andExpect(jsonPath("$.imported", is(1)))
+            .andExpect(jsonPath("$.failed", is(1)))
+            .andExpect(jsonPath("$.errors[0].line", is(3)));
+    }
+
+    @Test
+    void testImportTasksWithProgress() throws Exception {
+        // given
+        Mockito.when(importService.importTasks(any(), any())).thenAnswer(invocation -> {
+            Consumer<TaskImportProgress> listener = invocation.getArgument(1);
+            TaskImportError rejected = new TaskImportError(3, "Unknown priority", null);
+            listener.accept(new TaskImportProgress(0, 1, rejected, false));
+            listener.accept(new TaskImportProgress(1, 1, null, true));
+            return new TaskImportResponse(1, 1, List.of(rejected), false);
+        });
+
+        // when/then
+        mockMvc
+            .perform(
+                post("/api/tasks/import").param("progress", "true")
+                    .contentType("text/csv;charset=UTF-8")
+                    .content("title,priority\nImported,HIGH\nBroken,URGENT\n"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+            .andExpect(content().string(
+                "{\"imported\":0,\"failed\":1,\"rejected\":{\"line\":3,"
+                    + "\"error\":\"Unknown priority\",\"validationErrors\":null},"
+                    + "\"done\":false}\n"
+                    + "{\"imported\":1,\"failed\":1,\"done\":true}\n"));
+    }
+
+    @Test
+    void testImportTasksWithUnsupportedContentType() throws Exception {
+        mockMvc.perform(post("/api/tasks/import").contentType(MediaType.APPLICATION_XML))
+            .andExpect(status().isUnsupportedMediaType());
+        Mockito.verifyNoInteractions(importService);
+    }
+
     @Test
     void testGetTaskByIdWhenNotFound() throws Exception {
         // given
@@ -130,6 +456,44 @@ class TaskControllerTest {
             .andExpect(jsonPath("$.path").value("/api/tasks/42"));
     }
 
+    @Test
+    void testGetTaskByIdConditionally() throws Exception {
+        // given
+        TaskResponse task = new TaskResponse(
+            1L, "T1", null, TaskStatus.OPEN, TaskPriority.LOW, null, LocalDateTime.now(),
+            LocalDateTime.now(), null, null);
+        Mockito.when(taskService.getTaskById(1L)).thenReturn(task);
+
+        String etag = mockMvc.perform(get("/api/tasks/1")).andExpect(status().isOk())
+            .andExpect(header().exists("ETag")).andReturn().getResponse().getHeader("ETag");
+
+        // when/then
+        mockMvc.perform(get("/api/tasks/1").header("If-None-Match", etag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void testGetTaskByIdTagsJsonAndSmileDifferently() throws Exception {
+        // given
+        TaskResponse task = new TaskResponse(
+            1L, "T1", null, TaskStatus.OPEN, TaskPriority.LOW, null, LocalDateTime.now(),
+            LocalDateTime.now(), null, null);
+        Mockito.when(taskService.getTaskById(1L)).thenReturn(task);
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+
+        // when
+        String jsonTag = mockMvc.perform(get("/api/tasks/1").accept(MediaType.APPLICATION_JSON))
+            .andExpect(header().string("Vary", containsString("Accept")))
+            .andReturn().getResponse().getHeader("ETag");
+        String smileTag = mockMvc.perform(get("/api/tasks/1").accept(smile))
+            .andReturn().getResponse().getHeader("ETag");
+
+        // then
+        assertThat(smileTag).isNotEqualTo(jsonTag);
+        mockMvc.perform(get("/api/tasks/1").accept(smile).header("If-None-Match", jsonTag))
+            .andExpect(status().isOk());
+    }
+
     @Test
     void testUpdateTask() throws Exception {
         // given
@@ -137,7 +501,7 @@ class TaskControllerTest {
             1L, "Updated", "Updated desc", TaskStatus.IN_PROGRESS, TaskPriority.HIGH, null,
             LocalDateTime.now(), LocalDateTime.now(), null, null);
 
-        Mockito.when(taskService.updateTask(eq(1L), any(TaskUpdateRequest.class)))
+        Mockito.when(taskService.updateTask(eq(1L), any(TaskUpdateRequest.class), isNull()))
             .thenReturn(updated);
 
         TaskUpdateRequest request = new TaskUpdateRequest();
@@ -152,7 +516,163 @@ class TaskControllerTest {
                 put("/api/tasks/1").contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isOk()).andExpect(jsonPath("$.title", is("Updated")))
-            .andExpect(jsonPath("$.status", is("IN_PROGRESS")));
+            .andExpect(jsonPath("$.status", is("IN_PROGRESS")))
+            .andExpect(header().exists("ETag"));
+    }
+
+    @Test
+    void testUpdateTaskWithStaleIfMatch() throws Exception {
+        // given
+        TaskResponse current = new TaskResponse(
+            1L, "Changed elsewhere", null, TaskStatus.OPEN, TaskPriority.LOW, null,
+            LocalDateTime.now(), LocalDateTime.now(), null, null);
+        Mockito.when(taskService.getTaskById(1L)).thenReturn(current);
+
+        TaskUpdateRequest request = new TaskUpdateRequest();
+        request.setTitle("Updated");
+
+        // when/then
+        mockMvc
+            .perform(
+                put("/api/tasks/1").header("If-Match", "\"1-0-n-0\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isPreconditionFailed());
+        Mockito.verify(taskService, Mockito.never())
+            .updateTask(eq(1L), any(TaskUpdateRequest.class), any());
+    }
+
+    @Test
+    void testUpdateTaskWithIfMatchPassesModificationTime() throws Exception {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        TaskResponse current = new TaskResponse(
+            1L, "T1", null, TaskStatus.OPEN, TaskPriority.LOW, null, updatedAt, updatedAt, null,
+            null);
+        Mockito.when(taskService.getTaskById(1L)).thenReturn(current);
+        Mockito.when(taskService.updateTask(eq(1L), any(TaskUpdateRequest.class), eq(updatedAt)))
+            .thenReturn(current);
+        String etag = mockMvc.perform(get("/api/tasks/1")).andReturn().getResponse()
+            .getHeader("ETag");
+
+        TaskUpdateRequest request = new TaskUpdateRequest();
+        request.setTitle("T2");
+
+        // when/then
+        mockMvc
+            .perform(
+                put("/api/tasks/1").header("If-Match", etag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk());
+        Mockito.verify(taskService)
+            .updateTask(eq(1L), any(TaskUpdateRequest.class), eq(updatedAt));
+    }
+
+    @Test
+    void testPatchTask() throws Exception {
+        // given
+        TaskResponse patched = new TaskResponse(
+            1L, "T1", null, TaskStatus.DONE, TaskPriority.LOW, null, LocalDateTime.now(),
+            LocalDateTime.now(), null, null);
+        Mockito.when(taskService.patchTask(eq(1L), any(TaskPatchRequest.class), isNull()))
+            .thenReturn(patched);
+
+        // when/then
+        mockMvc
+            .perform(
+                patch("/api/tasks/1").contentType(MediaType.APPLICATION_JSON)
+                    .content("{ \"status\": \"DONE\" }"))
+            .andExpect(status().isOk()).andExpect(jsonPath("$.status", is("DONE")))
+            .andExpect(header().exists("ETag"));
+
+        ArgumentCaptor<TaskPatchRequest> captor = ArgumentCaptor.forClass(TaskPatchRequest.class);
+        Mockito.verify(taskService).patchTask(eq(1L), captor.capture(), isNull());
+        assertThat(captor.getValue().changesStateOnly()).isTrue();
+        assertThat(captor.getValue().hasTitle()).isFalse();
+    }
+
+    @Test
+    void testPatchTaskWithBlankTitle() throws Exception {
+        // when/then
+        mockMvc
+            .perform(
+                patch("/api/tasks/1").contentType(MediaType.APPLICATION_JSON)
+                    .content("{ \"title\": \" \" }"))
+            .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void testPatchTaskWithIfMatchPassesModificationTime() throws Exception {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        TaskResponse current = new TaskResponse(
+            1L, "T1", null, TaskStatus.OPEN, TaskPriority.LOW, null, updatedAt, updatedAt, null,
+            null);
+        Mockito.when(taskService.getTaskById(1L)).thenReturn(current);
+        Mockito.when(taskService.patchTask(eq(1L), any(TaskPatchRequest.class), eq(updatedAt)))
+            .thenReturn(current);
+        String etag = mockMvc.perform(get("/api/tasks/1")).andReturn().getResponse()
+            .getHeader("ETag");
+
+        // when/then
+        mockMvc
+            .perform(
+                patch("/api/tasks/1").header("If-Match", etag)
+                    .contentType(MediaType.APPLICATION_JSON).content("{ \"title\": \"T2\" }"))
+            .andExpect(status().isOk());
+        Mockito.verify(taskService).patchTask(eq(1L), any(TaskPatchRequest.class), eq(updatedAt));
+    }
+
+    @Test
+    void testPatchTaskConflict() throws Exception {
+        // given
+        Mockito.when(taskService.patchTask(eq(1L), any(TaskPatchRequest.class), isNull()))
+            .thenThrow(new ObjectOptimisticLockingFailureException("Task", 1L));
+
+        // when/then
+        mockMvc
+            .perform(
+                patch("/api/tasks/1").contentType(MediaType.APPLICATION_JSON)
+                    .content("{ \"title\": \"T2\" }"))
+            .andExpect(status().isConflict()).andExpect(jsonPath("$.status").value(409));
+    }
+
+    @Test
+    void testTransitionTasks() throws Exception {
+        // given
+        Mockito.when(taskService.transitionTasks(any(TaskTransitionRequest.class)))
+            .thenReturn(new TaskTransitionResponse(3));
+
+        String json = """
+            {
+              "filter": { "projectId": 1, "status": ["OPEN", "IN_PROGRESS"] },
+              "targetStatus": "DONE"
+            }
+            """;
+
+        // when/then
+        mockMvc
+            .perform(
+                post("/api/tasks/transition").contentType(MediaType.APPLICATION_JSON).content(json))
+            .andExpect(status().isOk()).andExpect(jsonPath("$.updated", is(3)));
+    }
+
+    @Test
+    void testTransitionTasksValidationError() throws Exception {
+        // given
+        String json = """
+            { "ids": [1, 2], "filter": { "projectId": 1 } }
+            """;
+
+        // when/then
+        mockMvc
+            .perform(
+                post("/api/tasks/transition").contentType(MediaType.APPLICATION_JSON).content(json))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validationErrors.selectionValid").exists())
+            .andExpect(jsonPath("$.validationErrors.targetValid").exists());
     }
 
     @Test
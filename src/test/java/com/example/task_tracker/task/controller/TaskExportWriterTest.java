@@ -0,0 +1,67 @@
+package com.example.task_tracker.task.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import com.example.task_tracker.task.dto.TaskFileFormat;
+import com.example.task_tracker.task.dto.TaskResponse;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link TaskExportWriter}.
+ */
+class TaskExportWriterTest {
+
+    private final TaskExportWriter writer =
+        new TaskExportWriter(Jackson2ObjectMapperBuilder.json().build());
+
+    private static Stream<TaskResponse> tasks() {
+        return Stream.of(
+            new TaskResponse(
+                1L, "Plain", null, TaskStatus.OPEN, TaskPriority.LOW, LocalDate.of(2025, 1, 31),
+                LocalDateTime.of(2025, 1, 1, 9, 0), LocalDateTime.of(2025, 1, 2, 9, 0), 3L,
+                "Alpha"),
+            new TaskResponse(
+                2L, "Say \"hi\", then\nleave", "a,b", TaskStatus.DONE, TaskPriority.HIGH, null,
+                LocalDateTime.of(2025, 1, 1, 9, 0), LocalDateTime.of(2025, 1, 1, 9, 0), null,
+                null));
+    }
+
+    private String write(TaskFileFormat format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = writer.write(tasks(), format, out);
+        assertThat(count).isEqualTo(2);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testWritesCsvWithHeaderAndQuotedFields() {
+        assertThat(write(TaskFileFormat.CSV)).isEqualTo(
+            TaskExportWriter.CSV_HEADER
+                + "1,Plain,,OPEN,LOW,2025-01-31,2025-01-01T09:00,2025-01-02T09:00,3,Alpha\r\n"
+                + "2,\"Say \"\"hi\"\", then\nleave\",\"a,b\",DONE,HIGH,,2025-01-01T09:00,"
+                + "2025-01-01T09:00,,\r\n");
+    }
+
+    @Test
+    void testWritesOneJsonObjectPerLine() {
+        // when
+        String[] lines = write(TaskFileFormat.NDJSON).split("\n", -1);
+
+        // then
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("{\"id\":1,\"title\":\"Plain\"")
+            .contains("\"dueDate\":\"2025-01-31\"");
+        assertThat(lines[1]).startsWith("{\"id\":2,").contains("\\\"hi\\\"", "\\n");
+        assertThat(lines[2]).isEmpty();
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.example.task_tracker.task.controller;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.example.task_tracker.task.dto.TaskFileFormat;
+import com.example.task_tracker.task.dto.TaskImportLine;
+import com.example.task_tracker.task.dto.TaskImportRecord;
+import com.example.task_tracker.task.dto.TaskResponse;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link TaskImportReader}.
+ */
+class TaskImportReaderTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final TaskImportReader reader = new TaskImportReader(objectMapper);
+
+    private List<TaskImportLine> read(String content, TaskFileFormat format) {
+        List<TaskImportLine> lines = new ArrayList<>();
+        reader.read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format)
+            .forEachRemaining(lines::add);
+        return lines;
+    }
+
+    @Test
+    void testReadsNdjsonLinesAndReportsMalformedOnes() {
+        // when
+        List<TaskImportLine> lines = read(
+            "{\"title\":\"First\",\"priority\":\"HIGH\",\"projectName\":\"Alpha\",\"id\":7}\n"
+                + "\n"
+                + "{\"title\":\"Broken\"\n"
+                + "{\"title\":\"Third\",\"dueDate\":\"2025-03-01\"}",
+            TaskFileFormat.NDJSON);
+
+        // then
+        assertThat(lines).extracting(TaskImportLine::line).containsExactly(1L, 3L, 4L);
+        TaskImportRecord first = lines.get(0).record();
+        assertThat(first.getTitle()).isEqualTo("First");
+        assertThat(first.getPriority()).isEqualTo(TaskPriority.HIGH);
+        assertThat(first.getProjectName()).isEqualTo("Alpha");
+        assertThat(lines.get(1).record()).isNull();
+        assertThat(lines.get(1).error()).isNotBlank();
+        assertThat(lines.get(2).record().getDueDate()).isEqualTo(LocalDate.of(2025, 3, 1));
+    }
+
+    @Test
+    void testReadsCsvWithQuotedFieldsSpanningLines() {
+        // when
+        List<TaskImportLine> lines = read(
+            "\uFEFFtitle,status,description,projectId\r\n"
+                + "Plain,OPEN,,3\r\n"
+                + "\"Quoted, \"\"with\"\" comma\",DONE,\"two\nlines\",\r\n"
+                + "Bad status,SOMEDAY,,\r\n"
+                + "Too,few\r\n",
+            TaskFileFormat.CSV);
+
+        // then
+        assertThat(lines).extracting(TaskImportLine::line).containsExactly(2L, 3L, 5L, 6L);
+        assertThat(lines.get(0).record().getProjectId()).isEqualTo(3L);
+        assertThat(lines.get(0).record().getDescription()).isNull();
+        TaskImportRecord quoted = lines.get(1).record();
+        assertThat(quoted.getTitle()).isEqualTo("Quoted, \"with\" comma");
+        assertThat(quoted.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(quoted.getDescription()).isEqualTo("two\nlines");
+        assertThat(lines.get(2).error()).contains("status");
+        assertThat(lines.get(3).error()).contains("Expected 4 fields");
+    }
+
+    @Test
+    void testReadsExportedFiles() {
+        // given
+        TaskResponse task = new TaskResponse(
+            1L, "Exported, \"quoted\"", "Line 1\nLine 2", TaskStatus.DONE, TaskPriority.LOW,
+            LocalDate.of(2025, 1, 31), LocalDateTime.of(2025, 1, 1, 9, 0),
+            LocalDateTime.of(2025, 1, 2, 9, 0), 3L, "Alpha");
+        TaskExportWriter writer = new TaskExportWriter(objectMapper);
+
+        for (TaskFileFormat format : TaskFileFormat.values()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writer.write(Stream.of(task, task), format, out);
+
+            // when
+            List<TaskImportLine> lines = read(out.toString(StandardCharsets.UTF_8), format);
+
+            // then
+            assertThat(lines).hasSize(2);
+            TaskImportRecord record = lines.get(1).record();
+            assertThat(record.getTitle()).isEqualTo(task.title());
+            assertThat(record.getDescription()).isEqualTo(task.description());
+            assertThat(record.getStatus()).isEqualTo(task.status());
+            assertThat(record.getDueDate()).isEqualTo(task.dueDate());
+            assertThat(record.getProjectId()).isEqualTo(3L);
+            assertThat(record.getProjectName()).isEqualTo("Alpha");
+        }
+    }
+
+}
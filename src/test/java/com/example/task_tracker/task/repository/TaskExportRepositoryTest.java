@@ -0,0 +1,84 @@
+package com.example.task_tracker.task.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.task.dto.TaskFilter;
+import com.example.task_tracker.task.model.Task;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link TaskExportRepository} against the embedded database.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class TaskExportRepositoryTest {
+
+    private static final int TASKS = 2 * TaskExportRepositoryImpl.FETCH_SIZE + 10;
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        Project project = entityManager.persist(new Project("Alpha", null, null));
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task(
+                "Task " + i, null, i % 2 == 0 ? TaskStatus.OPEN : TaskStatus.DONE,
+                TaskPriority.LOW, null);
+            task.setProject(project);
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testStreamsMatchingTasksInOrderWithProjects() {
+        // given
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(List.of(TaskStatus.OPEN));
+
+        // when
+        List<String> titles;
+        try (Stream<Task> tasks = taskRepository
+            .streamAll(TaskSpecifications.matching(filter), Sort.by(Sort.Direction.DESC, "id")))
+        {
+            titles = tasks.map(task -> task.getTitle() + "@" + task.getProject().getName())
+                .toList();
+        }
+
+        // then
+        assertThat(titles).hasSize(TASKS / 2).allMatch(title -> title.endsWith("@Alpha"));
+        assertThat(titles.get(0)).isEqualTo("Task " + (TASKS - 2) + "@Alpha");
+    }
+
+    @Test
+    void testDetachesTasksOfPreviousChunks() {
+        // when
+        List<Task> streamed = new ArrayList<>();
+        try (Stream<Task> tasks = taskRepository.streamAll(null, Sort.by("id"))) {
+            tasks.forEach(streamed::add);
+        }
+
+        // then
+        assertThat(streamed).hasSize(TASKS);
+        assertThat(entityManager.getEntityManager().contains(streamed.get(0))).isFalse();
+        assertThat(entityManager.getEntityManager().contains(streamed.get(TASKS - 1))).isTrue();
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.example.task_tracker.task.repository;
+
+import java.util.List;
+
+import com.example.task_tracker.common.SqlRecorder;
+import com.example.task_tracker.common.SqlRecorderConfig;
+import com.example.task_tracker.common.SqlRecording;
+import com.example.task_tracker.task.dto.TaskFilter;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the indexes created by the Flyway migrations serve the filtered list queries
+ * of {@link TaskRepository}. Records the statements the repository generates for a list page
+ * and runs {@code EXPLAIN} on them on the embedded H2 database, failing if one falls back to a
+ * full table scan.
+ * <p>
+ * Runs without a test transaction, because the statements are explained on a connection of
+ * their own, which must see the test data.
+ */
+@DataJpaTest
+@Import(SqlRecorderConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+class TaskRepositoryIndexTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private SqlRecorder sqlRecorder;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update(
+            "INSERT INTO projects (name, created_at, updated_at) "
+                + "VALUES ('Alpha', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        projectId = jdbcTemplate.queryForObject("SELECT id FROM projects", Long.class);
+        for (int i = 0; i < 50; i++) {
+            jdbcTemplate.update(
+                "INSERT INTO tasks (title, status, priority, project_id, created_at, updated_at) "
+                    + "VALUES ('Task', 'OPEN', 'HIGH', ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                projectId);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM projects");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "OPEN,, false", ", HIGH, false", "OPEN, HIGH, false", ",, true", "OPEN,, true",
+        ", HIGH, true", "OPEN, HIGH, true" })
+    void testListQueryUsesIndex(TaskStatus status, TaskPriority priority, boolean byProject)
+        throws Exception
+    {
+        // given
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(status != null ? List.of(status) : null);
+        filter.setPriority(priority != null ? List.of(priority) : null);
+        filter.setProjectId(byProject ? projectId : null);
+
+        // when
+        SqlRecording recording = sqlRecorder.record(() -> taskRepository.findAll(
+            TaskSpecifications.matching(filter), PageRequest.of(0, 10, Sort.by("createdAt"))));
+
+        // then
+        assertThat(recording.statements()).isNotEmpty();
+        recording.hasAtMostStatements(2).usesIndexesOn("tasks");
+    }
+
+}
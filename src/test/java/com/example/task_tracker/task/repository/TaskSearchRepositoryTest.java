@@ -0,0 +1,108 @@
+package com.example.task_tracker.task.repository;
+
+import java.util.List;
+
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.task.dto.TaskFilter;
+import com.example.task_tracker.task.model.Task;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link TaskSearchRepository} against the embedded database, which uses the
+ * substring fallback instead of PostgreSQL full-text search.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class TaskSearchRepositoryTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        Project project = entityManager.persist(new Project("Alpha", null, null));
+
+        Task titleMatch = new Task(
+            "Fix login bug", "Users cannot sign in", TaskStatus.OPEN, TaskPriority.HIGH, null);
+        titleMatch.setProject(project);
+        Task descriptionMatch = new Task(
+            "Improve error page", "Shown after a login bug", TaskStatus.DONE, TaskPriority.LOW,
+            null);
+        Task partialMatch = new Task(
+            "Login form layout", null, TaskStatus.OPEN, TaskPriority.MEDIUM, null);
+        Task noMatch = new Task(
+            "Write docs", "100% coverage_of API", TaskStatus.OPEN, TaskPriority.LOW, null);
+
+        entityManager.persist(titleMatch);
+        entityManager.persist(descriptionMatch);
+        entityManager.persist(partialMatch);
+        entityManager.persist(noMatch);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private List<String> searchTitles(String text, TaskFilter filter) {
+        return taskRepository
+            .search(text, TaskSpecifications.matching(filter), PageRequest.of(0, 10))
+            .map(Task::getTitle).getContent();
+    }
+
+    @Test
+    void testRequiresAllWordsAndRanksTitleMatchesFirst() {
+        assertThat(searchTitles("LOGIN bug", new TaskFilter()))
+            .containsExactly("Fix login bug", "Improve error page");
+    }
+
+    @Test
+    void testCombinesWithFilter() {
+        // given
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(List.of(TaskStatus.OPEN));
+
+        // when/then
+        assertThat(searchTitles("login", filter))
+            .containsExactlyInAnyOrder("Fix login bug", "Login form layout");
+    }
+
+    @Test
+    void testSortBreaksTiesInRelevance() {
+        // when
+        Page<Task> page = taskRepository
+            .search("login", null, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "title")));
+
+        // then
+        assertThat(page.map(Task::getTitle).getContent())
+            .containsExactly("Login form layout", "Fix login bug", "Improve error page");
+    }
+
+    @Test
+    void testPagingReportsTotalOfAllMatches() {
+        // when
+        Page<Task> page = taskRepository.search("login", null, PageRequest.of(0, 2));
+
+        // then
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void testWildcardCharactersMatchLiterally() {
+        assertThat(searchTitles("100%", new TaskFilter())).containsExactly("Write docs");
+        assertThat(searchTitles("e_e", new TaskFilter())).isEmpty();
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.example.task_tracker.task.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.task.dto.TaskFilter;
+import com.example.task_tracker.task.model.Task;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link TaskSpecifications} against the embedded database.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class TaskSpecificationsTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        Project project = entityManager.persist(new Project("Alpha", null, null));
+
+        Task open = new Task(
+            "Open", null, TaskStatus.OPEN, TaskPriority.HIGH, LocalDate.of(2025, 1, 10));
+        open.setProject(project);
+        Task inProgress = new Task(
+            "In progress", null, TaskStatus.IN_PROGRESS, TaskPriority.LOW,
+            LocalDate.of(2025, 2, 10));
+        Task done =
+            new Task("Done", null, TaskStatus.DONE, TaskPriority.HIGH, LocalDate.of(2025, 1, 20));
+        done.setProject(project);
+
+        entityManager.persist(open);
+        entityManager.persist(inProgress);
+        entityManager.persist(done);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private List<String> findTitles(TaskFilter filter) {
+        return taskRepository
+            .findAll(TaskSpecifications.matching(filter), PageRequest.of(0, 10, Sort.by("title")))
+            .map(Task::getTitle).getContent();
+    }
+
+    @Test
+    void testEmptyFilterMatchesAllTasks() {
+        assertThat(findTitles(new TaskFilter())).containsExactly("Done", "In progress", "Open");
+    }
+
+    @Test
+    void testStatusInList() {
+        // given
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(List.of(TaskStatus.OPEN, TaskStatus.IN_PROGRESS));
+
+        // when/then
+        assertThat(findTitles(filter)).containsExactly("In progress", "Open");
+    }
+
+    @Test
+    void testDueDateRangeAndPriority() {
+        // given
+        TaskFilter filter = new TaskFilter();
+        filter.setPriority(List.of(TaskPriority.HIGH));
+        filter.setDueFrom(LocalDate.of(2025, 1, 15));
+        filter.setDueTo(LocalDate.of(2025, 1, 31));
+
+        // when/then
+        assertThat(findTitles(filter)).containsExactly("Done");
+    }
+
+    @Test
+    void testWithoutProject() {
+        // given
+        TaskFilter filter = new TaskFilter();
+        filter.setHasProject(false);
+
+        // when/then
+        assertThat(findTitles(filter)).containsExactly("In progress");
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.example.task_tracker.task.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.task.dto.TaskBatchResponse;
+import com.example.task_tracker.task.dto.TaskCreateRequest;
+import com.example.task_tracker.task.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the throughput of {@link TaskService#createTasks} against creating the same number
+ * of tasks one at a time through {@link TaskService#createTask}.
+ * <p>
+ * Run with {@code ./gradlew benchmark}; excluded from the regular test run.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class TaskBatchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskBatchBenchmarkTest.class);
+
+    private static final int TASKS = 5000;
+    private static final int PROJECTS = 20;
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private List<TaskCreateRequest> requests;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            projects.add(new Project("Project " + i, null, null));
+        }
+        projectRepository.saveAll(projects);
+
+        requests = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            TaskCreateRequest request = new TaskCreateRequest();
+            request.setTitle("Task " + i);
+            request.setDescription("Imported task number " + i);
+            request.setProjectId(projects.get(i % PROJECTS).getId());
+            requests.add(request);
+        }
+    }
+
+    @Test
+    void compareBatchWithSingleItemCreation() {
+        // warm-up
+        requests.subList(0, 200).forEach(taskService::createTask);
+        taskService.createTasks(requests.subList(0, 200));
+
+        long start = System.nanoTime();
+        requests.forEach(taskService::createTask);
+        long singleNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        TaskBatchResponse response = taskService.createTasks(requests);
+        long batchNanos = System.nanoTime() - start;
+
+        assertThat(response.created()).isEqualTo(TASKS);
+        log.info(
+            "Created {} tasks: single-item path {} tasks/s, batch path {} tasks/s", TASKS,
+            throughput(singleNanos), throughput(batchNanos));
+    }
+
+    private static long throughput(long nanos) {
+        return Math.round(TASKS / (nanos / 1_000_000_000.0));
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.example.task_tracker.task.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.task_tracker.task.dto.TaskFilter;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for {@link TaskCountCache}.
+ */
+class TaskCountCacheTest {
+
+    private final TaskCountCache countCache = new TaskCountCache(Duration.ofMinutes(1), 100);
+
+    @Test
+    void testServesCachedCountForEqualFilter() {
+        // given
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(List.of(TaskStatus.OPEN));
+        countCache.get(filter, () -> 5L);
+        TaskFilter equalFilter = new TaskFilter();
+        equalFilter.setStatus(List.of(TaskStatus.OPEN));
+
+        // when
+        long count = countCache.get(equalFilter, () -> 9L);
+
+        // then
+        assertThat(count).isEqualTo(5L);
+    }
+
+    @Test
+    void testKeepsCountWhenFilterIsModifiedAfterwards() {
+        // given
+        List<TaskStatus> statuses = new ArrayList<>(List.of(TaskStatus.OPEN));
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(statuses);
+        countCache.get(filter, () -> 5L);
+
+        // when
+        statuses.add(TaskStatus.DONE);
+        filter.setProjectId(3L);
+        TaskFilter originalFilter = new TaskFilter();
+        originalFilter.setStatus(List.of(TaskStatus.OPEN));
+
+        // then
+        assertThat(countCache.get(originalFilter, () -> 9L)).isEqualTo(5L);
+        assertThat(countCache.get(filter, () -> 7L)).isEqualTo(7L);
+    }
+
+    @Test
+    void testRecomputesCountForOtherFilter() {
+        // given
+        AtomicLong calls = new AtomicLong();
+        TaskFilter filter = new TaskFilter();
+        filter.setProjectId(1L);
+        countCache.get(null, calls::incrementAndGet);
+
+        // when
+        long count = countCache.get(filter, calls::incrementAndGet);
+
+        // then
+        assertThat(count).isEqualTo(2L);
+        assertThat(countCache.get(new TaskFilter(), calls::incrementAndGet)).isEqualTo(1L);
+    }
+
+}
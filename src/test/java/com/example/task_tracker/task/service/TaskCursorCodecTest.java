@@ -0,0 +1,75 @@
+package com.example.task_tracker.task.service;
+
+import java.time.LocalDateTime;
+
+import com.example.task_tracker.task.exception.InvalidCursorException;
+import com.example.task_tracker.task.model.Task;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import com.example.task_tracker.task.repository.TaskKeyset;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for {@link TaskCursorCodec}.
+ */
+class TaskCursorCodecTest {
+
+    private static Task createTask() {
+        Task task = new Task("A | B", null, TaskStatus.OPEN, TaskPriority.LOW, null);
+        ReflectionTestUtils.setField(task, "id", 7L);
+        ReflectionTestUtils.setField(task, "createdAt", LocalDateTime.of(2025, 3, 1, 12, 30));
+        return task;
+    }
+
+    @Test
+    void testRoundTripByCreatedAt() {
+        // given
+        Sort.Order order = Sort.Order.desc("createdAt");
+        String cursor = TaskCursorCodec.encode(createTask(), order);
+
+        // when
+        TaskKeyset keyset = TaskCursorCodec.decode(cursor, order, true);
+
+        // then
+        assertThat(keyset.property()).isEqualTo("createdAt");
+        assertThat(keyset.direction()).isEqualTo(Sort.Direction.DESC);
+        assertThat(keyset.value()).isEqualTo(LocalDateTime.of(2025, 3, 1, 12, 30));
+        assertThat(keyset.id()).isEqualTo(7L);
+        assertThat(keyset.backward()).isTrue();
+    }
+
+    @Test
+    void testRoundTripByTitleContainingSeparator() {
+        // given
+        Sort.Order order = Sort.Order.asc("title");
+        String cursor = TaskCursorCodec.encode(createTask(), order);
+
+        // when
+        TaskKeyset keyset = TaskCursorCodec.decode(cursor, order, false);
+
+        // then
+        assertThat(keyset.value()).isEqualTo("A | B");
+    }
+
+    @Test
+    void testDecodeRejectsCursorForOtherSortOrder() {
+        // given
+        String cursor = TaskCursorCodec.encode(createTask(), Sort.Order.asc("createdAt"));
+
+        // when/then
+        assertThatThrownBy(() -> TaskCursorCodec.decode(cursor, Sort.Order.asc("title"), false))
+            .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void testDecodeRejectsGarbage() {
+        assertThatThrownBy(() -> TaskCursorCodec.decode("%%%", Sort.Order.asc("id"), false))
+            .isInstanceOf(InvalidCursorException.class);
+    }
+
+}
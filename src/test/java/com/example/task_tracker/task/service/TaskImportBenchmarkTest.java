@@ -0,0 +1,112 @@
+package com.example.task_tracker.task.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.NoSuchElementException;
+
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.stats.repository.ProjectTaskCounterRepository;
+import com.example.task_tracker.task.controller.TaskImportReader;
+import com.example.task_tracker.task.dto.TaskFileFormat;
+import com.example.task_tracker.task.dto.TaskImportResponse;
+import com.example.task_tracker.task.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the throughput of {@link TaskImportService#importTasks} for one million NDJSON
+ * lines against the embedded database, including parsing by {@link TaskImportReader}.
+ * <p>
+ * The input is generated while it is read, like a request body arriving over the network,
+ * so the heap only ever holds one batch. Run with {@code ./gradlew benchmark}; excluded from
+ * the regular test run.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class TaskImportBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportBenchmarkTest.class);
+
+    private static final int LINES = 1_000_000;
+    private static final int PROJECTS = 20;
+
+    @Autowired
+    private TaskImportService importService;
+    @Autowired
+    private TaskImportReader importReader;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private ProjectTaskCounterRepository counterRepository;
+
+    @BeforeEach
+    void setUp() {
+        counterRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        for (int i = 0; i < PROJECTS; i++) {
+            projectRepository.save(new Project("Project " + i, null, null));
+        }
+    }
+
+    @Test
+    void measureImportThroughput() {
+        long start = System.nanoTime();
+        TaskImportResponse response =
+            importService.importTasks(importReader.read(ndjson(LINES), TaskFileFormat.NDJSON));
+        long nanos = System.nanoTime() - start;
+
+        assertThat(response.imported()).isEqualTo(LINES);
+        assertThat(taskRepository.count()).isEqualTo(LINES);
+        log.info(
+            "Imported {} tasks in {} ms: {} rows/s", LINES, nanos / 1_000_000,
+            Math.round(LINES / (nanos / 1_000_000_000.0)));
+    }
+
+    /**
+     * @param lines the number of lines to generate
+     * @return an NDJSON stream of task records, generated on demand
+     */
+    private static InputStream ndjson(int lines) {
+        return new SequenceInputStream(new Enumeration<InputStream>() {
+
+            private int line;
+
+            @Override
+            public boolean hasMoreElements() {
+                return line < lines;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                if (!hasMoreElements()) {
+                    throw new NoSuchElementException();
+                }
+                line++;
+                String json = "{\"title\":\"Imported task " + line
+                    + "\",\"description\":\"Migrated from the old tracker\",\"status\":\"OPEN\","
+                    + "\"priority\":\"LOW\",\"dueDate\":\"2025-06-30\",\"projectName\":\"Project "
+                    + (line % PROJECTS) + "\"}\n";
+                return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+
+}
@@ -0,0 +1,215 @@
+package com.example.task_tracker.task.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.stats.repository.ProjectTaskCounterRepository;
+import com.example.task_tracker.stats.service.ProjectTaskStatsService;
+import com.example.task_tracker.stats.service.ProjectTaskStatsServiceImpl;
+import com.example.task_tracker.suggest.service.SuggestionService;
+import com.example.task_tracker.suggest.service.SuggestionServiceImpl;
+import com.example.task_tracker.sync.repository.ResourceChangeRepository;
+import com.example.task_tracker.sync.service.ChangeLogServiceImpl;
+import com.example.task_tracker.task.dto.TaskImportError;
+import com.example.task_tracker.task.dto.TaskImportLine;
+import com.example.task_tracker.task.dto.TaskImportProgress;
+import com.example.task_tracker.task.dto.TaskImportRecord;
+import com.example.task_tracker.task.dto.TaskImportResponse;
+import com.example.task_tracker.task.model.Task;
+import com.example.task_tracker.task.model.TaskStatus;
+import com.example.task_tracker.task.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link TaskImportServiceImpl} against the embedded database.
+ * <p>
+ * Runs without a test transaction, because every import batch commits on its own.
+ */
+@DataJpaTest
+@Import({
+    TaskImportServiceImpl.class, ProjectTaskStatsServiceImpl.class, SuggestionServiceImpl.class,
+    ChangeLogServiceImpl.class })
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+class TaskImportServiceImplTest {
+
+    @Autowired
+    private TaskImportService importService;
+    @Autowired
+    private ProjectTaskStatsService statsService;
+    @Autowired
+    private SuggestionService suggestionService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private ProjectTaskCounterRepository counterRepository;
+    @Autowired
+    private ResourceChangeRepository changeRepository;
+
+    private Project alpha;
+
+    @BeforeEach
+    void setUp() {
+        alpha = projectRepository.save(new Project("Alpha", null, null));
+        projectRepository.save(new Project("Twin", null, null));
+        projectRepository.save(new Project("twin", null, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeRepository.deleteAllInBatch();
+        counterRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        suggestionService.rebuild();
+    }
+
+    private static TaskImportLine line(long line, String title, Long projectId, String project) {
+        TaskImportRecord record = new TaskImportRecord();
+        record.setTitle(title);
+        record.setStatus(TaskStatus.IN_PROGRESS);
+        record.setProjectId(projectId);
+        record.setProjectName(project);
+        return TaskImportLine.parsed(line, record);
+    }
+
+    @Test
+    void testImportsValidLinesAndReportsRejectedOnes() {
+        // given
+        List<TaskImportLine> lines = List.of(
+            line(1, "By id", alpha.getId(), null),
+            line(2, "By name", null, " alpha "),
+            line(3, "Without project", null, null),
+            line(4, " ", null, null),
+            TaskImportLine.malformed(5, "Unexpected character"),
+            line(6, "Unknown id", 999_999L, null),
+            line(7, "Unknown name", null, "Beta"),
+            line(8, "Ambiguous name", null, "TWIN"));
+
+        // when
+        TaskImportResponse response = importService.importTasks(lines.iterator());
+
+        // then
+        assertThat(response.imported()).isEqualTo(3);
+        assertThat(response.failed()).isEqualTo(5);
+        assertThat(response.errorsTruncated()).isFalse();
+        assertThat(response.errors()).extracting(TaskImportError::line)
+            .containsExactly(4L, 5L, 6L, 7L, 8L);
+        assertThat(response.errors().get(0).validationErrors()).containsKey("title");
+        assertThat(response.errors().get(4).error()).contains("not unique");
+
+        List<Task> tasks = taskRepository.findAll();
+        assertThat(tasks).extracting(Task::getTitle)
+            .containsExactlyInAnyOrder("By id", "By name", "Without project");
+        assertThat(tasks).allSatisfy(task -> {
+            assertThat(task.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+            assertThat(task.getCreatedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    void testUpdatesCountersChangeLogAndSuggestions() {
+        // when
+        importService.importTasks(
+            List.of(line(1, "Imported one", null, "Alpha"), line(2, "Imported two", null, "Alpha"))
+                .iterator());
+
+        // then
+        assertThat(statsService.getCounts(alpha.getId()).total()).isEqualTo(2);
+        assertThat(changeRepository.count()).isEqualTo(2);
+        assertThat(suggestionService.suggest("imported", 10).tasks()).hasSize(2);
+    }
+
+    @Test
+    void testReportsProgressToListener() {
+        // given
+        List<TaskImportProgress> updates = new ArrayList<>();
+
+        // when
+        importService.importTasks(
+            List.of(line(1, "Imported", null, null), line(2, " ", null, null)).iterator(),
+            updates::add);
+
+        // then
+        assertThat(updates).extracting(TaskImportProgress::imported)
+            .containsExactly(0L, 1L, 1L);
+        assertThat(updates).extracting(TaskImportProgress::failed)
+            .containsExactly(1L, 1L, 1L);
+        assertThat(updates.get(0).rejected().line()).isEqualTo(2);
+        assertThat(updates.get(1).rejected()).isNull();
+        assertThat(updates).extracting(TaskImportProgress::done)
+            .containsExactly(false, false, true);
+    }
+
+    @Test
+    void testInsertsFailedBatchLineByLine() {
+        // given
+        Project gone = projectRepository.save(new Project("Gone", null, null));
+        Iterator<TaskImportLine> lines = List.of(
+            line(1, "Kept", null, null), line(2, "Orphaned", gone.getId(), null),
+            line(3, "Kept too", null, null)).iterator();
+        // Deletes the project after the import has resolved line 2 against it.
+        Iterator<TaskImportLine> deletingLines = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return lines.hasNext();
+            }
+
+            @Override
+            public TaskImportLine next() {
+                TaskImportLine next = lines.next();
+                if (next.line() == 3) {
+                    projectRepository.deleteById(gone.getId());
+                }
+                return next;
+            }
+        };
+
+        // when
+        TaskImportResponse response = importService.importTasks(deletingLines);
+
+        // then
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.failed()).isEqualTo(1);
+        assertThat(response.errors()).extracting(TaskImportError::line).containsExactly(2L);
+        assertThat(response.errors().get(0).error()).startsWith("Could not store task");
+        assertThat(taskRepository.findAll()).extracting(Task::getTitle)
+            .containsExactlyInAnyOrder("Kept", "Kept too");
+        assertThat(changeRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void testCommitsInBatches() {
+        // given
+        int count = TaskImportServiceImpl.BATCH_SIZE + 1;
+
+        // when
+        TaskImportResponse response = importService.importTasks(
+            LongStream.rangeClosed(1, count)
+                .mapToObj(i -> line(i, "Task " + i, null, null)).iterator());
+
+        // then
+        assertThat(response.imported()).isEqualTo(count);
+        assertThat(taskRepository.count()).isEqualTo(count);
+    }
+
+}
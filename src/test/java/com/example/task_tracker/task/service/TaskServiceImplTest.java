@@ -1,12 +1,32 @@
 package com.example.task_tracker.task.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import com.example.task_tracker.event.dto.ChangeEvent;
+import com.example.task_tracker.project.dto.ProjectResponse;
+import com.example.task_tracker.project.exception.ProjectNotFoundException;
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.project.service.ProjectCache;
+import com.example.task_tracker.stats.service.ProjectTaskStatsService;
+import com.example.task_tracker.suggest.service.SuggestionService;
+import com.example.task_tracker.sync.dto.ChangeLogEntry;
+import com.example.task_tracker.sync.dto.ChangeLogPage;
+import com.example.task_tracker.sync.dto.ChangeToken;
+import com.example.task_tracker.sync.service.ChangeLogService;
+import com.example.task_tracker.task.dto.TaskBatchResponse;
+import com.example.task_tracker.task.dto.TaskChanges;
 import com.example.task_tracker.task.dto.TaskCreateRequest;
+import com.example.task_tracker.task.dto.TaskPatchRequest;
 import com.example.task_tracker.task.dto.TaskResponse;
+import com.example.task_tracker.task.dto.TaskSlice;
 import com.example.task_tracker.task.dto.TaskUpdateRequest;
+import com.example.task_tracker.task.exception.InvalidCursorException;
+import com.example.task_tracker.task.exception.InvalidSearchQueryException;
 import com.example.task_tracker.task.exception.TaskNotFoundException;
 import com.example.task_tracker.task.model.Task;
 import com.example.task_tracker.task.model.TaskPriority;
@@ -17,26 +37,62 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
  * Test class for {@link TaskServiceImpl}.
  */
 @ExtendWith(MockitoExtension.class)
+@SuppressWarnings("unchecked")
 class TaskServiceImplTest {
 
     @Mock
     private TaskRepository taskRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ProjectCache projectCache;
+    @Mock
+    private TaskCountCache countCache;
+    @Mock
+    private ProjectTaskStatsService statsService;
+    @Mock
+    private SuggestionService suggestionService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private ChangeLogService changeLogService;
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
     @InjectMocks
     private TaskServiceImpl taskService;
@@ -73,6 +129,63 @@ class TaskServiceImplTest {
         assertThat(response.projectId()).isNull();
     }
 
+    @Test
+    void testCreateTaskReferencesCachedProject() {
+        // given
+        TaskCreateRequest request = createTaskCreateRequest();
+        request.setProjectId(7L);
+        when(projectCache.get(7L))
+            .thenReturn(new ProjectResponse(7L, "Cached", null, null, null, null, null));
+        when(projectRepository.getReferenceById(7L)).thenReturn(new Project("Proxy", null, null));
+        when(taskRepository.save(any(Task.class)))
+            .thenAnswer(invocation -> invocation.<Task>getArgument(0));
+
+        // when
+        TaskResponse response = taskService.createTask(request);
+
+        // then
+        assertThat(response.projectName()).isEqualTo("Cached");
+        verify(projectRepository, never()).findById(any());
+    }
+
+    @Test
+    void testCreateTaskWithUnknownProject() {
+        // given
+        TaskCreateRequest request = createTaskCreateRequest();
+        request.setProjectId(7L);
+        when(projectCache.get(7L)).thenReturn(null);
+
+        // when/then
+        assertThatThrownBy(() -> taskService.createTask(request))
+            .isInstanceOf(ProjectNotFoundException.class);
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void testCreateTasksReportsPerItemResults() {
+        // given
+        TaskCreateRequest valid = createTaskCreateRequest();
+        TaskCreateRequest invalid = createTaskCreateRequest();
+        invalid.setTitle(" ");
+        TaskCreateRequest unknownProject = createTaskCreateRequest();
+        unknownProject.setProjectId(9L);
+
+        when(projectRepository.findAllById(Set.of(9L))).thenReturn(List.of());
+        when(taskRepository.saveAll(anyList()))
+            .thenAnswer(invocation -> invocation.<List<Task>>getArgument(0));
+
+        // when
+        TaskBatchResponse response =
+            taskService.createTasks(List.of(valid, invalid, unknownProject));
+
+        // then
+        assertThat(response.created()).isEqualTo(1);
+        assertThat(response.failed()).isEqualTo(2);
+        assertThat(response.results().get(0).task().title()).isEqualTo("Test Task");
+        assertThat(response.results().get(1).validationErrors()).containsKey("title");
+        assertThat(response.results().get(2).error()).contains("9");
+    }
+
     @Test
     void testGetTasks() {
         // given
@@ -81,17 +194,81 @@ class TaskServiceImplTest {
 
         Page<Task> page = new PageImpl<>(List.of(task1, task2));
         Pageable pageable = PageRequest.of(0, 10);
-        when(taskRepository.findAll(pageable)).thenReturn(page);
+        when(taskRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
 
         // when
-        Page<TaskResponse> result = taskService.getTasks(pageable, null, null, null);
+        Page<TaskResponse> result = taskService.getTasks(pageable, null);
 
         // then
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getContent().get(0).title()).isEqualTo("T1");
         assertThat(result.getContent().get(1).status()).isEqualTo(TaskStatus.DONE);
 
-        verify(taskRepository).findAll(pageable);
+        verify(taskRepository).findAll(any(Specification.class), eq(pageable));
+    }
+
+    @Test
+    void testGetTaskSliceWithoutTotal() {
+        // given
+        Task task = new Task("T1", "D1", TaskStatus.OPEN, TaskPriority.LOW, null);
+        Pageable pageable = PageRequest.of(0, 1);
+        when(taskRepository.findSlice(any(Specification.class), eq(pageable)))
+            .thenReturn(new SliceImpl<>(List.of(task), pageable, true));
+
+        // when
+        TaskSlice result = taskService.getTaskSlice(pageable, null, false);
+
+        // then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.estimatedTotal()).isNull();
+        verify(taskRepository, never()).count(any(Specification.class));
+        verify(countCache, never()).get(any(), any());
+    }
+
+    @Test
+    void testGetTaskSliceWithEstimatedTotal() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(taskRepository.findSlice(any(Specification.class), eq(pageable)))
+            .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+        when(countCache.get(any(), any())).thenReturn(42L);
+
+        // when
+        TaskSlice result = taskService.getTaskSlice(pageable, null, true);
+
+        // then
+        assertThat(result.estimatedTotal()).isEqualTo(42L);
+    }
+
+    @Test
+    void testSearchTasksStripsQuery() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(taskRepository.search(eq("login"), any(Specification.class), eq(pageable)))
+            .thenReturn(Page.empty(pageable));
+
+        // when
+        taskService.searchTasks("  login ", pageable, null);
+
+        // then
+        verify(taskRepository).search(eq("login"), any(Specification.class), eq(pageable));
+    }
+
+    @Test
+    void testSearchTasksWhenQueryBlank() {
+        assertThatThrownBy(() -> taskService.searchTasks(" ", PageRequest.of(0, 10), null))
+            .isInstanceOf(InvalidSearchQueryException.class);
+        verify(taskRepository, never()).search(any(), any(), any());
+    }
+
+    @Test
+    void testGetTasksByCursorWhenSortHasSeveralOrders() {
+        Sort sort = Sort.by(Sort.Order.asc("title"), Sort.Order.desc("createdAt"));
+        assertThatThrownBy(() -> taskService.getTasksByCursor(null, null, 10, sort, null))
+            .isInstanceOf(InvalidCursorException.class)
+            .hasMessage("Cursor pagination supports a single sort order");
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
@@ -128,30 +305,133 @@ class TaskServiceImplTest {
         request.setDescription("Updated desc");
 
         // when/then
-        assertThatThrownBy(() -> taskService.updateTask(99L, request))
+        assertThatThrownBy(() -> taskService.updateTask(99L, request, null))
             .isInstanceOf(TaskNotFoundException.class);
     }
 
+    @Test
+    void testUpdateTaskModifiedSinceIfMatch() {
+        // given
+        Task task = new Task("Title", null, TaskStatus.OPEN, TaskPriority.LOW, null);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        TaskUpdateRequest request = new TaskUpdateRequest();
+        request.setTitle("Updated");
+
+        // when/then
+        assertThatThrownBy(
+            () -> taskService.updateTask(1L, request, LocalDateTime.of(2025, 1, 1, 12, 0)))
+            .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(taskRepository, never()).save(any(Task.class));
+        assertThat(task.getTitle()).isEqualTo("Title");
+    }
+
+    @Test
+    void testPatchTaskRetriesStatusChangeOnConflict() {
+        // given
+        Task task = new Task("Title", null, TaskStatus.OPEN, TaskPriority.LOW, null);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.saveAndFlush(task))
+            .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L))
+            .thenReturn(task);
+
+        TaskPatchRequest request = new TaskPatchRequest();
+        request.setStatus(TaskStatus.DONE);
+
+        // when
+        TaskResponse response = taskService.patchTask(1L, request, null);
+
+        // then
+        assertThat(response.status()).isEqualTo(TaskStatus.DONE);
+        verify(taskRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void testPatchTaskDoesNotRetryOtherChanges() {
+        // given
+        Task task = new Task("Title", null, TaskStatus.OPEN, TaskPriority.LOW, null);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.saveAndFlush(task))
+            .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+        TaskPatchRequest request = new TaskPatchRequest();
+        request.setStatus(TaskStatus.DONE);
+        request.setTitle("Renamed");
+
+        // when/then
+        assertThatThrownBy(() -> taskService.patchTask(1L, request, null))
+            .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(taskRepository).findById(1L);
+        verify(statsService, never()).applyDeltas(any());
+    }
+
     @Test
     void testDeleteTaskWhenExists() {
         // given
-        when(taskRepository.existsById(1L)).thenReturn(true);
+        Task task = new Task("Title", null, TaskStatus.DONE, TaskPriority.LOW, null);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
 
         // when
         taskService.deleteTask(1L);
 
         // then
-        verify(taskRepository).deleteById(1L);
+        verify(taskRepository).delete(task);
+        verify(statsService).recordDeleted(null, TaskStatus.DONE, TaskPriority.LOW);
+        verify(eventPublisher).publishEvent(ChangeEvent.deleted(ChangeEvent.TASK, 1L));
     }
 
     @Test
     void testDeleteTaskWhenNotExists() {
         // given
-        when(taskRepository.existsById(1L)).thenReturn(false);
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
 
         // when/then
         assertThatThrownBy(() -> taskService.deleteTask(1L))
             .isInstanceOf(TaskNotFoundException.class);
     }
 
-}
\ No newline at end of file
+    @Test
+    void testGetChangesOmitsTombstonesOnInitialSync() {
+        // given
+        ChangeToken next = ChangeToken.afterSequence(5);
+        when(changeLogService.getChanges(ChangeToken.INITIAL, 500)).thenReturn(
+            new ChangeLogPage(
+                List.of(
+                    new ChangeLogEntry(ChangeEvent.TASK, 1L, true),
+                    new ChangeLogEntry(ChangeEvent.PROJECT, 3L, false)),
+                next, false));
+        Project project = new Project("Synced", null, null);
+        ReflectionTestUtils.setField(project, "id", 3L);
+        when(projectRepository.findAllById(Set.of(3L))).thenReturn(List.of(project));
+
+        // when
+        TaskChanges changes = taskService.getChanges(null, 500);
+
+        // then
+        assertThat(changes.tasks()).isEmpty();
+        assertThat(changes.deletedTaskIds()).isEmpty();
+        assertThat(changes.projects()).extracting(ProjectResponse::id, ProjectResponse::name)
+            .containsExactly(tuple(3L, "Synced"));
+        assertThat(changes.nextToken()).isEqualTo(next.encode());
+        assertThat(changes.hasMore()).isFalse();
+        verifyNoInteractions(projectCache);
+    }
+
+    @Test
+    void testGetChangesReportsTombstonesAfterToken() {
+        // given
+        ChangeToken since = new ChangeToken(2, ChangeEvent.TASK, 9L);
+        ChangeToken next = new ChangeToken(4, ChangeEvent.TASK, 1L);
+        when(changeLogService.getChanges(since, 500)).thenReturn(
+            new ChangeLogPage(List.of(new ChangeLogEntry(ChangeEvent.TASK, 1L, true)), next, true));
+
+        // when
+        TaskChanges changes = taskService.getChanges(since.encode(), 500);
+
+        // then
+        assertThat(changes.deletedTaskIds()).containsExactly(1L);
+        assertThat(changes.hasMore()).isTrue();
+        assertThat(ChangeToken.decode(changes.nextToken())).isEqualTo(next);
+    }
+
+}
@@ -0,0 +1,221 @@
+package com.example.task_tracker.task.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.example.task_tracker.common.SqlRecorder;
+import com.example.task_tracker.common.SqlRecorder.RecordedStatement;
+import com.example.task_tracker.common.SqlRecorderConfig;
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.project.repository.ProjectRepository;
+import com.example.task_tracker.project.service.ProjectCache;
+import com.example.task_tracker.stats.repository.ProjectTaskCounterRepository;
+import com.example.task_tracker.stats.service.ProjectTaskStatsServiceImpl;
+import com.example.task_tracker.suggest.service.SuggestionServiceImpl;
+import com.example.task_tracker.sync.service.ChangeLogServiceImpl;
+import com.example.task_tracker.task.dto.TaskCreateRequest;
+import com.example.task_tracker.task.dto.TaskPatchRequest;
+import com.example.task_tracker.task.dto.TaskResponse;
+import com.example.task_tracker.task.dto.TaskTransitionRequest;
+import com.example.task_tracker.task.model.Task;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import com.example.task_tracker.task.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.RollbackException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests partial updates of {@link TaskServiceImpl} and their optimistic locking against the
+ * embedded database.
+ * <p>
+ * Runs without a test transaction, so that every update is committed and concurrent edits
+ * can be simulated with a second persistence context.
+ */
+@DataJpaTest
+@Import({
+    TaskServiceImpl.class, TaskCountCache.class, ProjectCache.class,
+    ProjectTaskStatsServiceImpl.class, SuggestionServiceImpl.class, ChangeLogServiceImpl.class,
+    SqlRecorderConfig.class })
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+class TaskServicePatchTest {
+
+    @Autowired
+    private TaskServiceImpl taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private ProjectTaskCounterRepository counterRepository;
+    @Autowired
+    private ProjectTaskStatsServiceImpl statsService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private SqlRecorder sqlRecorder;
+
+    private Long projectId;
+    private TaskResponse task;
+
+    @BeforeEach
+    void setUp() {
+        projectId = projectRepository.save(new Project("Patch", null, null)).getId();
+        statsService.initializeProject(projectId);
+
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle("Original");
+        request.setDescription("Description");
+        request.setDueDate(LocalDate.of(2030, 1, 1));
+        request.setProjectId(projectId);
+        task = taskService.createTask(request);
+    }
+
+    @AfterEach
+    void tearDown() {
+        counterRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testPatchKeepsFieldsThatAreNotGiven() {
+        // given
+        TaskPatchRequest request = new TaskPatchRequest();
+        request.setStatus(TaskStatus.DONE);
+
+        // when
+        TaskResponse patched = taskService.patchTask(task.id(), request, null);
+
+        // then
+        assertThat(patched.status()).isEqualTo(TaskStatus.DONE);
+        assertThat(patched.title()).isEqualTo("Original");
+        assertThat(patched.description()).isEqualTo("Description");
+        assertThat(patched.dueDate()).isEqualTo(LocalDate.of(2030, 1, 1));
+        assertThat(patched.projectId()).isEqualTo(projectId);
+    }
+
+    @Test
+    void testPatchClearsFieldsGivenAsNull() {
+        // given
+        TaskPatchRequest request = new TaskPatchRequest();
+        request.setDescription(null);
+        request.setProjectId(null);
+
+        // when
+        TaskResponse patched = taskService.patchTask(task.id(), request, null);
+
+        // then
+        assertThat(patched.description()).isNull();
+        assertThat(patched.projectId()).isNull();
+        assertThat(patched.title()).isEqualTo("Original");
+    }
+
+    @Test
+    void testPatchUpdatesOnlyChangedColumns() throws Exception {
+        // given
+        TaskPatchRequest request = new TaskPatchRequest();
+        request.setPriority(TaskPriority.HIGH);
+
+        // when
+        List<RecordedStatement> statements = sqlRecorder
+            .record(() -> taskService.patchTask(task.id(), request, null)).statements();
+
+        // then
+        String update = statements.stream().map(RecordedStatement::sql)
+            .filter(sql -> sql.startsWith("update tasks")).findFirst().orElseThrow();
+        assertThat(update).contains("priority", "updated_at", "version")
+            .doesNotContain("title", "description", "due_date", "project_id");
+    }
+
+    @Test
+    void testPatchIncrementsVersion() {
+        // given
+        Long version = taskRepository.findById(task.id()).orElseThrow().getVersion();
+        TaskPatchRequest request = new TaskPatchRequest();
+        request.setTitle("Renamed");
+
+        // when
+        taskService.patchTask(task.id(), request, null);
+
+        // then
+        assertThat(taskRepository.findById(task.id()).orElseThrow().getVersion())
+            .isEqualTo(version + 1);
+    }
+
+    @Test
+    void testPatchFailsIfModifiedSinceGivenTime() {
+        // given
+        TaskPatchRequest first = new TaskPatchRequest();
+        first.setTitle("First");
+        taskService.patchTask(task.id(), first, null);
+
+        TaskPatchRequest second = new TaskPatchRequest();
+        second.setTitle("Second");
+
+        // when/then
+        assertThatThrownBy(() -> taskService.patchTask(task.id(), second, task.updatedAt()))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(taskRepository.findById(task.id()).orElseThrow().getTitle())
+            .isEqualTo("First");
+    }
+
+    @Test
+    void testConcurrentEditOfLoadedTaskFails() {
+        // given
+        EntityManager other = entityManagerFactory.createEntityManager();
+        other.getTransaction().begin();
+        Task loaded = other.find(Task.class, task.id());
+
+        TaskPatchRequest request = new TaskPatchRequest();
+        request.setStatus(TaskStatus.IN_PROGRESS);
+        taskService.patchTask(task.id(), request, null);
+
+        // when
+        loaded.setTitle("Lost update");
+
+        // then
+        assertThatThrownBy(() -> other.getTransaction().commit())
+            .isInstanceOf(RollbackException.class)
+            .hasCauseInstanceOf(OptimisticLockException.class);
+        other.close();
+        assertThat(taskRepository.findById(task.id()).orElseThrow().getTitle())
+            .isEqualTo("Original");
+    }
+
+    @Test
+    void testBulkTransitionIncrementsVersion() {
+        // given
+        Long version = taskRepository.findById(task.id()).orElseThrow().getVersion();
+        TaskTransitionRequest request = new TaskTransitionRequest();
+        request.setIds(List.of(task.id()));
+        request.setTargetStatus(TaskStatus.DONE);
+
+        // when
+        taskService.transitionTasks(request);
+
+        // then
+        assertThat(taskRepository.findById(task.id()).orElseThrow().getVersion())
+            .isEqualTo(version + 1);
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.example.task_tracker.task.service;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.project.service.ProjectCache;
+import com.example.task_tracker.stats.service.ProjectTaskStatsServiceImpl;
+import com.example.task_tracker.suggest.service.SuggestionServiceImpl;
+import com.example.task_tracker.sync.service.ChangeLogServiceImpl;
+import com.example.task_tracker.task.dto.TaskFilter;
+import com.example.task_tracker.task.dto.TaskResponse;
+import com.example.task_tracker.task.model.Task;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Regression test ensuring that {@link TaskServiceImpl#getTasks} loads a page of tasks
+ * including their project names with at most one list query plus one count query.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({
+    TaskServiceImpl.class, TaskCountCache.class, ProjectCache.class,
+    ProjectTaskStatsServiceImpl.class, SuggestionServiceImpl.class, ChangeLogServiceImpl.class })
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@ActiveProfiles("test")
+class TaskServiceQueryCountTest {
+
+    @Autowired
+    private TaskServiceImpl taskService;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private Long projectId;
+
+    static Stream<Arguments> filterCombinations() {
+        return Stream.of(
+            Arguments.of(null, null, false), Arguments.of(TaskStatus.OPEN, null, false),
+            Arguments.of(null, TaskPriority.HIGH, false),
+            Arguments.of(TaskStatus.OPEN, TaskPriority.HIGH, false),
+            Arguments.of(null, null, true), Arguments.of(TaskStatus.OPEN, null, true),
+            Arguments.of(null, TaskPriority.HIGH, true),
+            Arguments.of(TaskStatus.OPEN, TaskPriority.HIGH, true));
+    }
+
+    @BeforeEach
+    void setUp() {
+        Project alpha = entityManager.persist(new Project("Alpha", null, null));
+        Project beta = entityManager.persist(new Project("Beta", null, null));
+        Project gamma = entityManager.persist(new Project("Gamma", null, null));
+        projectId = alpha.getId();
+
+        for (Project project : new Project[] { alpha, beta, gamma }) {
+            for (int i = 0; i < 3; i++) {
+                Task task = new Task(
+                    project.getName() + " " + i, null, TaskStatus.OPEN, TaskPriority.HIGH, null);
+                task.setProject(project);
+                entityManager.persist(task);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @MethodSource("filterCombinations")
+    void testGetTasksUsesAtMostTwoStatements(
+        TaskStatus status, TaskPriority priority, boolean filterByProject)
+    {
+        // given
+        PageRequest pageable = PageRequest.of(0, 2, Sort.by("createdAt"));
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(status != null ? List.of(status) : null);
+        filter.setPriority(priority != null ? List.of(priority) : null);
+        filter.setProjectId(filterByProject ? projectId : null);
+
+        // when
+        Page<TaskResponse> page = taskService.getTasks(pageable, filter);
+
+        // then
+        assertThat(page.getContent()).isNotEmpty()
+            .allSatisfy(task -> assertThat(task.projectName()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+}
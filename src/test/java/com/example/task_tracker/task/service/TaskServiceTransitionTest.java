@@ -0,0 +1,117 @@
+package com.example.task_tracker.task.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.example.task_tracker.project.model.Project;
+import com.example.task_tracker.project.service.ProjectCache;
+import com.example.task_tracker.stats.service.ProjectTaskStatsServiceImpl;
+import com.example.task_tracker.suggest.service.SuggestionServiceImpl;
+import com.example.task_tracker.sync.service.ChangeLogServiceImpl;
+import com.example.task_tracker.task.dto.TaskFilter;
+import com.example.task_tracker.task.dto.TaskTransitionRequest;
+import com.example.task_tracker.task.dto.TaskTransitionResponse;
+import com.example.task_tracker.task.model.Task;
+import com.example.task_tracker.task.model.TaskPriority;
+import com.example.task_tracker.task.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the set-based bulk transitions of {@link TaskServiceImpl} against the embedded
+ * database.
+ */
+@DataJpaTest
+@Import({
+    TaskServiceImpl.class, TaskCountCache.class, ProjectCache.class,
+    ProjectTaskStatsServiceImpl.class, SuggestionServiceImpl.class, ChangeLogServiceImpl.class })
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@ActiveProfiles("test")
+class TaskServiceTransitionTest {
+
+    @Autowired
+    private TaskServiceImpl taskService;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Project project;
+    private Task open;
+    private Task inProgress;
+    private Task done;
+    private Task otherProject;
+
+    private Task persistTask(String title, TaskStatus status, Project project) {
+        Task task = new Task(title, null, status, TaskPriority.MEDIUM, null);
+        task.setProject(project);
+        return entityManager.persist(task);
+    }
+
+    @BeforeEach
+    void setUp() {
+        project = entityManager.persist(new Project("Sprint", null, null));
+        Project other = entityManager.persist(new Project("Other", null, null));
+
+        open = persistTask("Open", TaskStatus.OPEN, project);
+        inProgress = persistTask("In progress", TaskStatus.IN_PROGRESS, project);
+        done = persistTask("Done", TaskStatus.DONE, project);
+        otherProject = persistTask("Other", TaskStatus.OPEN, other);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testTransitionByFilter() {
+        // given
+        TaskFilter filter = new TaskFilter();
+        filter.setProjectId(project.getId());
+
+        TaskTransitionRequest request = new TaskTransitionRequest();
+        request.setFilter(filter);
+        request.setTargetStatus(TaskStatus.DONE);
+        LocalDateTime doneUpdatedAt = entityManager.find(Task.class, done.getId()).getUpdatedAt();
+        entityManager.clear();
+
+        // when
+        TaskTransitionResponse response = taskService.transitionTasks(request);
+
+        // then
+        assertThat(response.updated()).isEqualTo(2);
+        assertThat(entityManager.find(Task.class, open.getId()).getStatus())
+            .isEqualTo(TaskStatus.DONE);
+        assertThat(entityManager.find(Task.class, inProgress.getId()).getStatus())
+            .isEqualTo(TaskStatus.DONE);
+        assertThat(entityManager.find(Task.class, done.getId()).getUpdatedAt())
+            .isEqualTo(doneUpdatedAt);
+        assertThat(entityManager.find(Task.class, otherProject.getId()).getStatus())
+            .isEqualTo(TaskStatus.OPEN);
+    }
+
+    @Test
+    void testTransitionByIds() {
+        // given
+        TaskTransitionRequest request = new TaskTransitionRequest();
+        request.setIds(List.of(open.getId(), otherProject.getId()));
+        request.setTargetPriority(TaskPriority.HIGH);
+
+        // when
+        TaskTransitionResponse response = taskService.transitionTasks(request);
+
+        // then
+        assertThat(response.updated()).isEqualTo(2);
+        Task updated = entityManager.find(Task.class, open.getId());
+        assertThat(updated.getPriority()).isEqualTo(TaskPriority.HIGH);
+        assertThat(updated.getStatus()).isEqualTo(TaskStatus.OPEN);
+        assertThat(entityManager.find(Task.class, inProgress.getId()).getPriority())
+            .isEqualTo(TaskPriority.MEDIUM);
+    }
+
+}